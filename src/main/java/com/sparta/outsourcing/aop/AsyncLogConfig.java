@@ -0,0 +1,27 @@
+package com.sparta.outsourcing.aop;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// application.properties 의 비동기 로그 설정을 LogUtility 에 반영하고, 종료 시 남은 로그를 모두 출력
+@Component
+public class AsyncLogConfig {
+
+    @Value("${log.async.capacity:8192}")
+    private int capacity;
+
+    @Value("${log.async.overflow-policy:DROP}")
+    private LogOverflowPolicy overflowPolicy;
+
+    @PostConstruct
+    public void init() {
+        LogUtility.configurePipeline(capacity, overflowPolicy);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        LogUtility.shutdownPipeline();
+    }
+}
@@ -0,0 +1,151 @@
+package com.sparta.outsourcing.aop;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// 비동기 로그 파이프라인
+// 요청 스레드는 로그를 링 버퍼에 넣기만 하고, 전용 스레드 하나가 버퍼를 비우며 실제 출력(콘솔, 파일)을 수행합니다
+// 버퍼가 가득 찬 경우 DROP 이면 로그를 버리고 건수를 기록하며, BLOCK 이면 자리가 날 때까지 기다립니다
+// 버퍼가 비면 출력 스레드는 잠들고, 잠든 동안 로그를 넣은 요청 스레드가 깨웁니다 (유휴 서버에서 주기적으로 깨어나지 않음)
+final class AsyncLogPipeline {
+
+    // 깨우는 신호를 놓치더라도 로그가 무한정 밀리지 않도록 하는 최대 대기 시간
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000L;
+
+    private final LogRingBuffer<LogEvent> buffer;
+    private final LogOverflowPolicy overflowPolicy;
+    private final Consumer<LogEvent> sink;
+    private final LongAdder droppedCount = new LongAdder();
+    private final Thread writer;
+    // 출력은 한 번에 한 스레드만 (평소에는 출력 스레드, 종료 후에는 늦게 들어온 로그를 넣은 스레드)
+    private final Object drainLock = new Object();
+    private volatile boolean running = true;
+    private volatile boolean writerIdle;
+
+    AsyncLogPipeline(int capacity, LogOverflowPolicy overflowPolicy, Consumer<LogEvent> sink) {
+        this.buffer = new LogRingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.sink = sink;
+        this.writer = new Thread(this::drainLoop, "async-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // 로그 이벤트 추가 (종료된 파이프라인이면 호출한 스레드에서 바로 출력)
+    void publish(LogEvent event) {
+        if (!running) {
+            sink.accept(event);
+            return;
+        }
+        if (buffer.offer(event)) {
+            afterOffer();
+            return;
+        }
+
+        if (overflowPolicy == LogOverflowPolicy.DROP) {
+            droppedCount.increment();
+            return;
+        }
+        while (!buffer.offer(event)) {
+            if (!running) {
+                sink.accept(event);
+                return;
+            }
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        afterOffer();
+    }
+
+    private void afterOffer() {
+        // 종료 확인을 통과한 뒤 종료되었다면 출력 스레드의 마지막 출력 이후에 들어간 로그일 수 있으므로 직접 출력
+        if (!running) {
+            drainRemaining();
+            return;
+        }
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    // 남은 로그를 모두 출력한 뒤 출력 스레드 종료
+    void shutdown() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    long droppedCount() {
+        return droppedCount.sum();
+    }
+
+    int pendingCount() {
+        return buffer.size();
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    LogOverflowPolicy overflowPolicy() {
+        return overflowPolicy;
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (!drain()) {
+                // 잠들기 전에 상태를 알린 뒤 버퍼를 다시 확인 (그 사이 들어온 로그는 넣은 스레드가 깨우거나 여기서 발견됨)
+                writerIdle = true;
+                if (running && buffer.isEmpty()) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                writerIdle = false;
+            }
+        }
+        drainRemaining();
+    }
+
+    // 자리를 선점한 로그까지 모두 출력 (선점 후 아직 기록 중인 로그는 기록될 때까지 기다림)
+    private void drainRemaining() {
+        synchronized (drainLock) {
+            while (!buffer.isEmpty()) {
+                if (!drain()) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+    }
+
+    // 버퍼가 빌 때까지 출력, 출력한 로그가 있으면 true
+    private boolean drain() {
+        synchronized (drainLock) {
+            boolean drained = false;
+            LogEvent event;
+            while ((event = buffer.poll()) != null) {
+                drained = true;
+                try {
+                    sink.accept(event);
+                } catch (RuntimeException e) {
+                    // 출력 실패가 출력 스레드를 멈추지 않도록 무시
+                }
+            }
+            return drained;
+        }
+    }
+
+    // 로그 레벨, 메시지(또는 {} 템플릿), 템플릿 인자, 예외, 로그를 남긴 요청의 트레이스 ID
+    // 템플릿은 출력 스레드에서 인자를 채워 완성하므로 요청 스레드는 문자열을 만들지 않음
+    record LogEvent(LogLevel level, String message, Object[] args, Throwable throwable, String traceId) {
+
+        LogEvent(LogLevel level, String message, Throwable throwable) {
+            this(level, message, null, throwable, null);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.sparta.outsourcing.aop;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 서비스 메서드별 실행 시간 히스토그램 보관소
+// 메서드마다 히스토그램을 처음 호출될 때 한 번만 만들고, 이후 호출은 조회와 기록만 수행합니다
+@Component
+public class LatencyMetrics {
+
+    private final ConcurrentHashMap<Method, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    // 실행 시간 기록 (이미 등록된 메서드는 객체를 만들지 않음)
+    public void record(Method method, long nanos) {
+        LatencyHistogram histogram = histograms.get(method);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(method, key -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    // 메서드별 통계 (p99 가 큰 순)
+    public List<LatencyStats> getStats() {
+        long now = System.nanoTime();
+        List<LatencyStats> stats = new ArrayList<>(histograms.size());
+        histograms.forEach((method, histogram) -> {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot(now);
+            stats.add(new LatencyStats(
+                    method.getDeclaringClass().getSimpleName() + "." + method.getName(),
+                    snapshot.count(),
+                    snapshot.throughputPerSecond(),
+                    snapshot.meanNanos(),
+                    snapshot.p50Nanos(),
+                    snapshot.p90Nanos(),
+                    snapshot.p99Nanos(),
+                    snapshot.p999Nanos(),
+                    snapshot.maxNanos()
+            ));
+        });
+        stats.sort(Comparator.comparingLong(LatencyStats::getP99Nanos).reversed());
+        return stats;
+    }
+}
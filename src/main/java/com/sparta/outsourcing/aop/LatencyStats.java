@@ -0,0 +1,19 @@
+package com.sparta.outsourcing.aop;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 서비스 메서드 실행 시간 통계 (시간 단위는 나노초, 처리량은 집계 시작 이후 초당 호출 수)
+@Getter
+@AllArgsConstructor
+public class LatencyStats {
+    private String method;
+    private long count;
+    private double throughputPerSecond;
+    private long meanNanos;
+    private long p50Nanos;
+    private long p90Nanos;
+    private long p99Nanos;
+    private long p999Nanos;
+    private long maxNanos;
+}
@@ -1,20 +1,63 @@
 package com.sparta.outsourcing.aop;
 
-import org.springframework.context.annotation.Profile;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-//@Profile("test")
+import java.util.List;
+
+// 운영자(operator.user-ids 에 등록된 유저)만 사용할 수 있음
 @RestController
 @RequestMapping("/log-level")
+@RequiredArgsConstructor
 public class LogLevelController {
 
+    private final LogLevelOverrides logLevelOverrides;
+    private final OperatorAccess operatorAccess;
+
     @PostMapping("/set")
-    public ResponseEntity<String> setLogLevel(@RequestParam LogLevel level) {
+    public ResponseEntity<String> setLogLevel(@RequestParam LogLevel level, @RequestAttribute("userId") Long userId) {
+        operatorAccess.require(userId);
         LogUtility.setLogLevel(level);
         return ResponseEntity.ok("로그 레벨이 " + level + "로 설되었습니다.");
     }
+
+    // 패키지(로거)별 로그 레벨 변경 (logger 예: aop, domain.order, org.hibernate.SQL / 애플리케이션 패키지 하위와 org.hibernate.SQL 만 허용 / ttlMinutes 후 자동 복구)
+    @PostMapping("/loggers")
+    public ResponseEntity<LogLevelOverrideDto> overrideLoggerLevel(
+            @RequestParam String logger,
+            @RequestParam LogLevel level,
+            @RequestParam(required = false) Long ttlMinutes,
+            @RequestAttribute("userId") Long userId
+    ) {
+        operatorAccess.require(userId);
+        return ResponseEntity.ok(logLevelOverrides.override(logger, level, ttlMinutes));
+    }
+
+    // 패키지(로거)별 로그 레벨 변경 내역
+    @GetMapping("/loggers")
+    public ResponseEntity<List<LogLevelOverrideDto>> getLoggerOverrides(@RequestAttribute("userId") Long userId) {
+        operatorAccess.require(userId);
+        return ResponseEntity.ok(logLevelOverrides.getOverrides());
+    }
+
+    // 변경 전 레벨로 즉시 복구
+    @DeleteMapping("/loggers")
+    public ResponseEntity<Void> revertLoggerLevel(@RequestParam String logger, @RequestAttribute("userId") Long userId) {
+        operatorAccess.require(userId);
+        return logLevelOverrides.revert(logger) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    // 비동기 로그 파이프라인 상태 (대기 건수, 버퍼가 가득 차서 버린 건수)
+    @GetMapping("/pipeline")
+    public ResponseEntity<LogPipelineStats> getPipelineStats(@RequestAttribute("userId") Long userId) {
+        operatorAccess.require(userId);
+        return ResponseEntity.ok(LogUtility.getPipelineStats());
+    }
 }
@@ -0,0 +1,16 @@
+package com.sparta.outsourcing.aop;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 패키지별 로그 레벨 변경 내역 (변경 전 레벨이 null 이면 상위 로거 레벨을 따름, 복구 시각이 null 이면 직접 복구할 때까지 유지)
+@Getter
+@AllArgsConstructor
+public class LogLevelOverrideDto {
+    private String logger;
+    private LogLevel level;
+    private LogLevel previousLevel;
+    private LocalDateTime revertAt;
+}
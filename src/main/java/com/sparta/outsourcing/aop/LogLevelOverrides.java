@@ -0,0 +1,149 @@
+package com.sparta.outsourcing.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// 패키지(로거)별 Logback 레벨 변경과 유지 시간 후 자동 복구
+// 같은 로거를 여러 번 변경해도 복구 시에는 처음 변경하기 전의 레벨로 되돌립니다
+// 변경할 수 있는 로거는 애플리케이션 패키지 하위와 허용 목록으로 제한합니다 (LogbackLevels.isChangeable)
+@Slf4j
+@Component
+public class LogLevelOverrides {
+
+    // 최대 유지 시간 (너무 큰 값으로 복구 시각 계산이 넘치지 않도록, 더 길게 유지하려면 ttlMinutes 없이 변경)
+    static final long MAX_TTL_MINUTES = 24 * 60;
+
+    private final ScheduledExecutorService reverter;
+    private final Map<String, LevelChange> overrides = new HashMap<>();
+
+    public LogLevelOverrides() {
+        this(Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "log-level-reverter");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    LogLevelOverrides(ScheduledExecutorService reverter) {
+        this.reverter = reverter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reverter.shutdownNow();
+    }
+
+    // 로거 레벨 변경 (ttlMinutes 가 null 이면 직접 복구할 때까지 유지, 1분 ~ 24시간)
+    public LogLevelOverrideDto override(String loggerName, LogLevel level, Long ttlMinutes) {
+        if (ttlMinutes != null && (ttlMinutes < 1 || ttlMinutes > MAX_TTL_MINUTES)) {
+            throw new ApplicationException(ErrorCode.INVALID_LOG_LEVEL_REQUEST);
+        }
+        return override(loggerName, level, ttlMinutes == null ? null : Duration.ofMinutes(ttlMinutes));
+    }
+
+    synchronized LogLevelOverrideDto override(String loggerName, LogLevel level, Duration ttl) {
+        if (loggerName == null || loggerName.isBlank() || level == null || (ttl != null && (ttl.isNegative() || ttl.toMinutes() > MAX_TTL_MINUTES))) {
+            throw new ApplicationException(ErrorCode.INVALID_LOG_LEVEL_REQUEST);
+        }
+        if (!LogbackLevels.isChangeable(LogbackLevels.resolveName(loggerName))) {
+            throw new ApplicationException(ErrorCode.LOG_LEVEL_LOGGER_NOT_ALLOWED);
+        }
+
+        Logger logger = LogbackLevels.logger(loggerName);
+        String name = logger.getName();
+
+        LevelChange previous = overrides.remove(name);
+        Level originalLevel = previous != null ? previous.originalLevel : logger.getLevel();
+        if (previous != null && previous.revertTask != null) {
+            previous.revertTask.cancel(false);
+        }
+
+        logger.setLevel(LogbackLevels.toLogback(level));
+
+        LocalDateTime revertAt = ttl == null ? null : LocalDateTime.now().plus(ttl);
+        LevelChange override = new LevelChange(name, level, originalLevel, revertAt);
+        if (ttl != null) {
+            override.revertTask = reverter.schedule(() -> revertIfCurrent(override), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        overrides.put(name, override);
+
+        log.warn("로거 레벨 변경: {} -> {} (복구 시각: {})", name, level, revertAt == null ? "직접 복구" : revertAt);
+        return override.toDto();
+    }
+
+    // 변경 전 레벨로 복구, 변경 내역이 없으면 false
+    public synchronized boolean revert(String loggerName) {
+        if (loggerName == null || loggerName.isBlank()) {
+            throw new ApplicationException(ErrorCode.INVALID_LOG_LEVEL_REQUEST);
+        }
+        LevelChange override = overrides.remove(LogbackLevels.resolveName(loggerName));
+        if (override == null) {
+            return false;
+        }
+        if (override.revertTask != null) {
+            override.revertTask.cancel(false);
+        }
+        restore(override);
+        return true;
+    }
+
+    public synchronized List<LogLevelOverrideDto> getOverrides() {
+        List<LogLevelOverrideDto> result = new ArrayList<>(overrides.size());
+        for (LevelChange override : overrides.values()) {
+            result.add(override.toDto());
+        }
+        return result;
+    }
+
+    // 유지 시간이 지난 변경 복구 (그 사이 같은 로거가 다시 변경되었으면 새 변경을 유지)
+    private synchronized void revertIfCurrent(LevelChange override) {
+        if (overrides.get(override.loggerName) != override) {
+            return;
+        }
+        overrides.remove(override.loggerName);
+        restore(override);
+    }
+
+    private void restore(LevelChange override) {
+        LogbackLevels.logger(override.loggerName).setLevel(override.originalLevel);
+        log.warn("로거 레벨 복구: {} -> {}", override.loggerName,
+                override.originalLevel == null ? "상위 로거 레벨" : override.originalLevel);
+    }
+
+    private static final class LevelChange {
+
+        private final String loggerName;
+        private final LogLevel level;
+        private final Level originalLevel;
+        private final LocalDateTime revertAt;
+        private ScheduledFuture<?> revertTask;
+
+        private LevelChange(String loggerName, LogLevel level, Level originalLevel, LocalDateTime revertAt) {
+            this.loggerName = loggerName;
+            this.level = level;
+            this.originalLevel = originalLevel;
+            this.revertAt = revertAt;
+        }
+
+        private LogLevelOverrideDto toDto() {
+            return new LogLevelOverrideDto(loggerName, level,
+                    originalLevel == null ? null : LogbackLevels.fromLogback(originalLevel), revertAt);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.sparta.outsourcing.aop;
+
+// 비동기 로그 버퍼가 가득 찼을 때의 처리 방식
+public enum LogOverflowPolicy {
+    DROP,  // 로그를 버리고 버린 건수만 기록 (요청 스레드가 기다리지 않음)
+    BLOCK  // 버퍼에 자리가 날 때까지 요청 스레드가 대기 (로그 유실 없음)
+}
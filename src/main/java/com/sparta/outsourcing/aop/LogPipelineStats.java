@@ -0,0 +1,14 @@
+package com.sparta.outsourcing.aop;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 비동기 로그 파이프라인 상태 (버퍼 크기, 대기 건수, 버린 건수, 가득 찼을 때 처리 방식)
+@Getter
+@AllArgsConstructor
+public class LogPipelineStats {
+    private int capacity;
+    private int pending;
+    private long dropped;
+    private LogOverflowPolicy overflowPolicy;
+}
@@ -0,0 +1,83 @@
+package com.sparta.outsourcing.aop;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 크기가 고정된 잠금 없는 링 버퍼 (여러 생산자, 단일 소비자)
+// 칸마다 순번을 두고, 생산자는 CAS 로 쓰기 위치를 선점한 뒤 순번을 갱신하여 소비자에게 넘겨줍니다
+final class LogRingBuffer<T> {
+
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+
+    // 소비자 스레드에서만 읽고 씀
+    private long head;
+
+    LogRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // 버퍼에 추가, 가득 찼으면 false
+    boolean offer(T element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                // 소비자가 아직 비우지 않은 칸 = 가득 참
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    // 버퍼에서 꺼냄, 비어 있으면 null (소비자 스레드에서만 호출)
+    @SuppressWarnings("unchecked")
+    T poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+
+        T element = (T) elements[index];
+        elements[index] = null;
+        sequences.lazySet(index, head + elements.length);
+        head++;
+        return element;
+    }
+
+    // 생산자가 자리를 선점한 로그까지 모두 꺼냈는지 (소비자 스레드에서만 호출)
+    // 선점 후 아직 기록 중인 칸이 있으면 poll() 은 null 이어도 false
+    boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    int capacity() {
+        return elements.length;
+    }
+
+    // 대략적인 대기 건수 (모니터링용)
+    int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, elements.length));
+    }
+}
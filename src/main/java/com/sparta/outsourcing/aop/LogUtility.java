@@ -1,41 +1,147 @@
 package com.sparta.outsourcing.aop;
 
+import com.sparta.outsourcing.aop.AsyncLogPipeline.LogEvent;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+import java.util.function.Supplier;
 
 @Slf4j
 public class LogUtility {
 
-    // 기본 로그 레벨을 설정할 수 있는 필드 (INFO, DEBUG, ERROR, WARN, TRACE)
-    private static LogLevel currentLogLevel = LogLevel.INFO;
+    // 비동기 로그 버퍼 기본 크기, 가득 찼을 때 기본 처리 방식 (application.properties 의 log.async.* 로 변경)
+    private static final int DEFAULT_PIPELINE_CAPACITY = 8192;
+    private static final LogOverflowPolicy DEFAULT_OVERFLOW_POLICY = LogOverflowPolicy.DROP;
+
+    // 로그는 요청 스레드에서 바로 출력하지 않고 비동기 파이프라인의 출력 스레드에서 출력
+    private static volatile AsyncLogPipeline pipeline =
+            new AsyncLogPipeline(DEFAULT_PIPELINE_CAPACITY, DEFAULT_OVERFLOW_POLICY, LogUtility::write);
 
-    // 로그 레벨을 동적으로 설정
+    // 애플리케이션 전체(com.sparta.outsourcing)의 Logback 로그 레벨 변경 (패키지별 변경은 LogLevelOverrides)
     public static void setLogLevel(LogLevel newLevel) {
-        currentLogLevel = newLevel;
-        log(currentLogLevel, "로그 레벨이 변경되었습니다: " + currentLogLevel);
+        LogbackLevels.logger(LogbackLevels.BASE_PACKAGE).setLevel(LogbackLevels.toLogback(newLevel));
+        log(newLevel, "로그 레벨이 변경되었습니다: {}", newLevel);
+    }
+
+    public static LogLevel getLogLevel() {
+        return LogbackLevels.fromLogback(LogbackLevels.logger(LogbackLevels.BASE_PACKAGE).getEffectiveLevel());
+    }
+
+    // 해당 레벨의 로그가 실제로 출력되는지 여부 (Logback 에 설정된 레벨 기준)
+    // 로그 메시지를 만드는 비용이 큰 경우 먼저 확인하여 건너뛸 수 있음
+    public static boolean isEnabled(LogLevel level) {
+        return switch (level) {
+            case DEBUG -> log.isDebugEnabled();
+            case ERROR -> log.isErrorEnabled();
+            case WARN -> log.isWarnEnabled();
+            case TRACE -> log.isTraceEnabled();
+            default -> log.isInfoEnabled();
+        };
     }
 
     // 로그 레벨별로 로그 출력
     public static void log(LogLevel level, String message) {
-        if (level.ordinal() >= currentLogLevel.ordinal()) {
-            switch (level) {
-                case DEBUG -> log.debug(message);
-                case ERROR -> log.error(message);
-                case WARN -> log.warn(message);
-                case TRACE -> log.trace(message);
-                default -> log.info(message);
-            }
+        if (isEnabled(level)) {
+            publish(level, message, null, null);
         }
     }
 
     public static void log(LogLevel level, String message, Throwable throwable) {
-        if (level.ordinal() >= currentLogLevel.ordinal()) {
-            switch (level) {
-                case DEBUG -> log.debug(message, throwable);
-                case ERROR -> log.error(message, throwable);
-                case WARN -> log.warn(message, throwable);
-                case TRACE -> log.trace(message, throwable);
-                default -> log.info(message, throwable);
-            }
+        if (isEnabled(level)) {
+            publish(level, message, null, throwable);
+        }
+    }
+
+    // {} 템플릿 로그 (slf4j 와 같은 형식, 마지막 인자가 예외이면 스택 트레이스 출력)
+    // 레벨에 걸리면 인자 배열도 만들지 않고, 메시지는 출력 스레드에서 완성
+    public static void log(LogLevel level, String template, Object arg) {
+        if (isEnabled(level)) {
+            publish(level, template, new Object[]{arg}, null);
+        }
+    }
+
+    public static void log(LogLevel level, String template, Object arg1, Object arg2) {
+        if (isEnabled(level)) {
+            publish(level, template, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    // 인자가 3개 이상인 템플릿 로그 (가변 인자 배열은 호출 시 만들어지므로, 자주 걸러지는 로그는 isEnabled 로 먼저 확인)
+    public static void log(LogLevel level, String template, Object... args) {
+        if (isEnabled(level)) {
+            publish(level, template, args, null);
+        }
+    }
+
+    // 메시지를 만드는 비용이 큰 경우, 레벨에 걸리지 않을 때만 호출한 스레드에서 메시지 생성
+    public static void log(LogLevel level, Supplier<String> messageSupplier) {
+        if (isEnabled(level)) {
+            publish(level, messageSupplier.get(), null, null);
+        }
+    }
+
+    // 요청 스레드의 트레이스 ID(MDC)를 함께 넘겨 출력 스레드에서도 같은 요청의 로그로 묶이도록 함
+    private static void publish(LogLevel level, String message, Object[] args, Throwable throwable) {
+        pipeline.publish(new LogEvent(level, message, args, throwable, MDC.get(TraceFilter.MDC_KEY)));
+    }
+
+    // 비동기 로그 파이프라인 교체 (기존 파이프라인에 남은 로그는 모두 출력 후 종료)
+    static synchronized void configurePipeline(int capacity, LogOverflowPolicy overflowPolicy) {
+        AsyncLogPipeline previous = pipeline;
+        pipeline = new AsyncLogPipeline(capacity, overflowPolicy, LogUtility::write);
+        previous.shutdown();
+    }
+
+    // 남은 로그를 모두 출력하고 출력 스레드 종료 (이후 로그는 호출한 스레드에서 바로 출력)
+    static synchronized void shutdownPipeline() {
+        pipeline.shutdown();
+    }
+
+    // 비동기 로그 파이프라인 상태
+    public static LogPipelineStats getPipelineStats() {
+        AsyncLogPipeline current = pipeline;
+        return new LogPipelineStats(current.capacity(), current.pendingCount(), current.droppedCount(), current.overflowPolicy());
+    }
+
+    // 출력 스레드에서 실제 출력
+    private static void write(LogEvent event) {
+        if (event.traceId() == null) {
+            writeEvent(event);
+            return;
+        }
+        MDC.put(TraceFilter.MDC_KEY, event.traceId());
+        try {
+            writeEvent(event);
+        } finally {
+            MDC.remove(TraceFilter.MDC_KEY);
+        }
+    }
+
+    private static void writeEvent(LogEvent event) {
+        if (event.args() != null) {
+            writeTemplate(event.level(), event.message(), event.args());
+            return;
+        }
+
+        String message = event.message();
+        Throwable throwable = event.throwable();
+        switch (event.level()) {
+            case DEBUG -> log.debug(message, throwable);
+            case ERROR -> log.error(message, throwable);
+            case WARN -> log.warn(message, throwable);
+            case TRACE -> log.trace(message, throwable);
+            default -> log.info(message, throwable);
+        }
+    }
+
+    // 템플릿 인자 채우기는 slf4j 에 맡김
+    private static void writeTemplate(LogLevel level, String template, Object[] args) {
+        switch (level) {
+            case DEBUG -> log.debug(template, args);
+            case ERROR -> log.error(template, args);
+            case WARN -> log.warn(template, args);
+            case TRACE -> log.trace(template, args);
+            default -> log.info(template, args);
         }
     }
 }
@@ -0,0 +1,69 @@
+package com.sparta.outsourcing.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+
+// Logback LoggerContext 의 로거 레벨 조회, 변경
+final class LogbackLevels {
+
+    // 애플리케이션 최상위 패키지 (상대 로거 이름의 기준)
+    static final String BASE_PACKAGE = "com.sparta.outsourcing";
+
+    // 애플리케이션 패키지 밖에서 레벨 변경을 허용하는 로거 (SQL 문만 출력하고 바인딩 값은 출력하지 않음)
+    private static final Set<String> ALLOWED_EXTERNAL_LOGGERS = Set.of("org.hibernate.SQL");
+
+    private LogbackLevels() {
+    }
+
+    // "ROOT", 전체 로거 이름, 애플리케이션 패키지 기준 상대 이름 (예: aop, domain.order) 을 실제 로거로 변환
+    static Logger logger(String name) {
+        return context().getLogger(resolveName(name));
+    }
+
+    static String resolveName(String name) {
+        String trimmed = name.trim();
+        if (trimmed.equalsIgnoreCase(Logger.ROOT_LOGGER_NAME)) {
+            return Logger.ROOT_LOGGER_NAME;
+        }
+        if (trimmed.startsWith(BASE_PACKAGE) || trimmed.matches("^(com|org|io|net|java|javax|jakarta|ch)\\..*")) {
+            return trimmed;
+        }
+        return BASE_PACKAGE + "." + trimmed;
+    }
+
+    // 운영 중 레벨을 바꿀 수 있는 로거인지 (ROOT, 프레임워크 로거는 민감한 값을 출력할 수 있어 제외)
+    static boolean isChangeable(String resolvedName) {
+        return resolvedName.equals(BASE_PACKAGE)
+                || resolvedName.startsWith(BASE_PACKAGE + ".")
+                || ALLOWED_EXTERNAL_LOGGERS.contains(resolvedName);
+    }
+
+    static Level toLogback(LogLevel level) {
+        return Level.toLevel(level.name());
+    }
+
+    // Logback 레벨을 LogLevel 로 (ALL 은 TRACE, OFF 는 ERROR 로 취급)
+    static LogLevel fromLogback(Level level) {
+        if (level.isGreaterOrEqual(Level.ERROR)) {
+            return LogLevel.ERROR;
+        }
+        if (level.isGreaterOrEqual(Level.WARN)) {
+            return LogLevel.WARN;
+        }
+        if (level.isGreaterOrEqual(Level.INFO)) {
+            return LogLevel.INFO;
+        }
+        if (level.isGreaterOrEqual(Level.DEBUG)) {
+            return LogLevel.DEBUG;
+        }
+        return LogLevel.TRACE;
+    }
+
+    private static LoggerContext context() {
+        return (LoggerContext) LoggerFactory.getILoggerFactory();
+    }
+}
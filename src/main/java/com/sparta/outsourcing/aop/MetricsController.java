@@ -0,0 +1,59 @@
+package com.sparta.outsourcing.aop;
+
+import com.sparta.outsourcing.domain.user.config.auth.JwtUtil;
+import com.sparta.outsourcing.domain.user.config.auth.TokenCacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// 운영자(operator.user-ids 에 등록된 유저)만 사용할 수 있음
+@RestController
+@RequestMapping("/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final LatencyMetrics latencyMetrics;
+    private final TraceBuffer traceBuffer;
+    private final JwtUtil jwtUtil;
+    private final OperatorAccess operatorAccess;
+
+    // 서비스 메서드별 실행 시간 백분위수(p50/p90/p99/p99.9), 처리량
+    @GetMapping("/latency")
+    public ResponseEntity<List<LatencyStats>> getLatencyStats(@RequestAttribute("userId") Long userId) {
+        operatorAccess.require(userId);
+        return ResponseEntity.ok(latencyMetrics.getStats());
+    }
+
+    // 가장 느린 요청의 트레이스 (필터, 컨트롤러, 서비스, 리포지토리 구간별 시간)
+    @GetMapping("/traces")
+    public ResponseEntity<List<Trace>> getSlowestTraces(@RequestParam(defaultValue = "20") int limit,
+                                                        @RequestAttribute("userId") Long userId) {
+        operatorAccess.require(userId);
+        return ResponseEntity.ok(traceBuffer.getSlowest(limit));
+    }
+
+    // 보관 중인 트레이스 단건 조회 (응답 헤더 X-Trace-Id 또는 로그의 트레이스 ID)
+    @GetMapping("/traces/{traceId}")
+    public ResponseEntity<Trace> getTrace(@PathVariable String traceId, @RequestAttribute("userId") Long userId) {
+        operatorAccess.require(userId);
+        Trace trace = traceBuffer.find(traceId);
+        return trace != null ? ResponseEntity.ok(trace) : ResponseEntity.notFound().build();
+    }
+
+    // 보관 중인 트레이스 비우기
+    @DeleteMapping("/traces")
+    public ResponseEntity<Void> clearTraces(@RequestAttribute("userId") Long userId) {
+        operatorAccess.require(userId);
+        traceBuffer.clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    // 검증된 JWT 캐시 적중률, 보관 토큰 수
+    @GetMapping("/token-cache")
+    public ResponseEntity<TokenCacheStats> getTokenCacheStats(@RequestAttribute("userId") Long userId) {
+        operatorAccess.require(userId);
+        return ResponseEntity.ok(jwtUtil.getTokenCacheStats());
+    }
+}
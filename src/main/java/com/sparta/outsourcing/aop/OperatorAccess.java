@@ -0,0 +1,26 @@
+package com.sparta.outsourcing.aop;
+
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+// 로그 레벨 변경, 지표 조회 등 운영용 엔드포인트 접근 권한
+// OWNER 권한은 회원가입 시 누구나 선택할 수 있으므로 권한이 아니라 operator.user-ids 에 등록된 유저만 허용합니다 (기본값: 없음)
+@Component
+public class OperatorAccess {
+
+    private final Set<Long> operatorIds;
+
+    public OperatorAccess(@Value("${operator.user-ids:}") Set<Long> operatorIds) {
+        this.operatorIds = Set.copyOf(operatorIds);
+    }
+
+    void require(Long userId) {
+        if (userId == null || !operatorIds.contains(userId)) {
+            throw new ApplicationException(ErrorCode.USER_FORBIDDEN);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sparta.outsourcing.aop;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+// 주문, 가게, 메뉴, 리뷰, 유저 도메인의 @Service 메서드 실행 시간을 나노초 단위로 히스토그램에 기록
+// 예외로 끝난 호출도 실행 시간에 포함합니다
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceLatencyAspect {
+
+    private final LatencyMetrics latencyMetrics;
+
+    @Around("@within(org.springframework.stereotype.Service) && ("
+            + "within(com.sparta.outsourcing.domain.order..*) || within(com.sparta.outsourcing.domain.store..*) || "
+            + "within(com.sparta.outsourcing.domain.menu..*) || within(com.sparta.outsourcing.domain.review..*) || "
+            + "within(com.sparta.outsourcing.domain.user..*))")
+    public Object recordLatency(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            latencyMetrics.record(((MethodSignature) joinPoint.getSignature()).getMethod(), System.nanoTime() - start);
+        }
+    }
+}
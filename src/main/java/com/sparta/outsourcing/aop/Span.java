@@ -0,0 +1,46 @@
+package com.sparta.outsourcing.aop;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+// 트레이스의 구간 하나 (필터, 컨트롤러, 서비스, 리포지토리 호출)
+// 시작 시각은 요청 시작 기준 나노초, 요청 스레드에서만 기록하고 요청이 끝난 뒤에만 다른 스레드에서 읽습니다
+@Getter
+public class Span {
+    private final int id;
+    private final int parentId; // 0: 최상위 구간 (요청 전체)
+    private final SpanKind kind;
+    private final long startOffsetNanos;
+    private long durationNanos;
+    private String error; // 구간이 예외로 끝난 경우 예외 클래스 이름
+
+    // 이름은 "클래스.메서드" 로 조회할 때만 만듦 (요청마다 문자열을 만들지 않음)
+    @JsonIgnore
+    private final String type;
+    @JsonIgnore
+    private String operation;
+
+    Span(int id, int parentId, SpanKind kind, String type, String operation, long startOffsetNanos) {
+        this.id = id;
+        this.parentId = parentId;
+        this.kind = kind;
+        this.type = type;
+        this.operation = operation;
+        this.startOffsetNanos = startOffsetNanos;
+    }
+
+    public String getName() {
+        return type == null ? operation : type + "." + operation;
+    }
+
+    void end(long endOffsetNanos, Throwable throwable) {
+        this.durationNanos = endOffsetNanos - startOffsetNanos;
+        if (throwable != null) {
+            this.error = throwable.getClass().getSimpleName();
+        }
+    }
+
+    void rename(String operation) {
+        this.operation = operation;
+    }
+}
@@ -0,0 +1,53 @@
+package com.sparta.outsourcing.aop;
+
+import jakarta.servlet.*;
+
+import java.io.IOException;
+
+// 등록된 서블릿 필터(JwtFilter, SqlBudgetFilter 등)를 감싸 필터 구간으로 기록
+// 필터 구간에는 다음 필터와 컨트롤러 실행이 하위 구간으로 포함됩니다
+class SpanFilter implements Filter {
+
+    private final Filter delegate;
+    private final String name;
+
+    SpanFilter(Filter delegate) {
+        this.delegate = delegate;
+        this.name = delegate.getClass().getSimpleName();
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        delegate.init(filterConfig);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        Trace trace = TraceContext.current();
+        if (trace == null) {
+            delegate.doFilter(request, response, chain);
+            return;
+        }
+
+        Span span = trace.startSpan(SpanKind.FILTER, name, "doFilter");
+        Throwable error = null;
+        try {
+            delegate.doFilter(request, response, chain);
+        } catch (IOException | ServletException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            trace.endSpan(span, error);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+    }
+
+    Filter getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,10 @@
+package com.sparta.outsourcing.aop;
+
+// 트레이스 구간 종류 (요청 전체, 필터, 컨트롤러, 서비스, 리포지토리)
+public enum SpanKind {
+    REQUEST,
+    FILTER,
+    CONTROLLER,
+    SERVICE,
+    REPOSITORY
+}
@@ -0,0 +1,9 @@
+package com.sparta.outsourcing.aop;
+
+// 요청의 SQL 실행 건수가 한도를 넘었거나 N+1 이 감지된 경우 (sql.budget.fail-on-violation=true 일 때만 발생)
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
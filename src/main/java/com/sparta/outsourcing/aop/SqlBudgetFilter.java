@@ -0,0 +1,83 @@
+package com.sparta.outsourcing.aop;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// HTTP 요청마다 실행된 SQL 건수와 JDBC 실행 시간을 집계하고, 엔드포인트별 한도 초과와 N+1 을 감지
+// 운영에서는 경고 로그만 남기고, 테스트(sql.budget.fail-on-violation=true)에서는 예외로 실패시킵니다
+@Slf4j
+@RequiredArgsConstructor
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlBudgetProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SqlRequestStats stats = SqlRequestTracker.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestTracker.end();
+        }
+        check(request, stats);
+    }
+
+    private void check(HttpServletRequest request, SqlRequestStats stats) {
+        String endpoint = endpointOf(request);
+        int budget = budgetOf(request, endpoint);
+
+        log.debug("[SQL 집계] 엔드포인트: {}, SQL 건수: {}, JDBC 실행 시간: {}ms",
+                endpoint, stats.getStatementCount(), TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()));
+
+        String violation = null;
+        if (stats.getStatementCount() > budget) {
+            violation = String.format("[SQL 한도 초과] 엔드포인트: %s, SQL 건수: %d (한도 %d), JDBC 실행 시간: %dms",
+                    endpoint, stats.getStatementCount(), budget, TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()));
+        } else if (stats.getMostRepeatedCount() >= properties.getRepeatedQueryThreshold()) {
+            violation = String.format("[N+1 의심] 엔드포인트: %s, 같은 형태의 SQL %d회 실행: %s",
+                    endpoint, stats.getMostRepeatedCount(), stats.getMostRepeatedShape());
+        }
+
+        if (violation == null) {
+            return;
+        }
+        if (properties.isFailOnViolation()) {
+            throw new SqlBudgetExceededException(violation);
+        }
+        log.warn(violation);
+    }
+
+    // "HTTP 메서드 URL 패턴" 한도, 없으면 "URL 패턴" 한도, 없으면 기본 한도
+    private int budgetOf(HttpServletRequest request, String endpoint) {
+        Integer budget = properties.getEndpoints().get(endpoint);
+        if (budget == null) {
+            budget = properties.getEndpoints().get(patternOf(request));
+        }
+        return budget != null ? budget : properties.getDefaultMaxStatements();
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        return request.getMethod() + " " + patternOf(request);
+    }
+
+    // 매핑된 URL 패턴 (매핑된 핸들러가 없으면 요청 URI)
+    private static String patternOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
@@ -0,0 +1,30 @@
+package com.sparta.outsourcing.aop;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 요청당 SQL 실행 건수 한도 설정 (sql.budget.*)
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sql.budget")
+public class SqlBudgetProperties {
+
+    // 요청당 SQL 집계 사용 여부
+    private boolean enabled = true;
+
+    // 엔드포인트별 한도가 없을 때의 요청당 최대 SQL 건수
+    private int defaultMaxStatements = 30;
+
+    // 한 요청에서 같은 형태의 SQL 이 이 횟수 이상 실행되면 N+1 로 판단
+    private int repeatedQueryThreshold = 5;
+
+    // 한도 초과 시 예외 발생 (테스트), false 면 경고 로그만 남김 (운영)
+    private boolean failOnViolation = false;
+
+    // 엔드포인트별 최대 SQL 건수 ("URL 패턴" 또는 "HTTP 메서드 URL 패턴" -> 건수, 예: sql.budget.endpoints[/api/orders/user/{orderId}]=10)
+    private Map<String, Integer> endpoints = new HashMap<>();
+}
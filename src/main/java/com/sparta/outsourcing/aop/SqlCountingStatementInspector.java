@@ -0,0 +1,16 @@
+package com.sparta.outsourcing.aop;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate 가 JDBC 로 보내는 모든 SQL 을 현재 요청의 SQL 통계에 기록 (SQL 은 변경하지 않음)
+public class SqlCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestStats stats = SqlRequestTracker.current();
+        if (stats != null) {
+            stats.onStatement(sql);
+        }
+        return sql;
+    }
+}
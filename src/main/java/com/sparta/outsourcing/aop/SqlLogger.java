@@ -0,0 +1,100 @@
+package com.sparta.outsourcing.aop;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// 실행된 SQL 중 느린 SQL 은 항상, 나머지는 설정한 비율만큼만 바인딩 값, 실행 시간과 함께 로그
+// 민감한 테이블, 컬럼(sql.log.redacted-*)을 다루는 SQL 은 문자열 바인딩 값을 가려서 출력합니다
+// "sql" 로거는 logback-spring.xml 에서 비동기 appender 로 연결되어 요청 스레드는 출력을 기다리지 않습니다
+final class SqlLogger {
+
+    private static final Logger log = LoggerFactory.getLogger("sql");
+    private static final String REDACTED = "'***'";
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int maxParameterLength;
+    private final Pattern redactedNames;
+    private final DoubleSupplier random;
+
+    SqlLogger(SqlLoggingProperties properties) {
+        this(properties, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    SqlLogger(SqlLoggingProperties properties, DoubleSupplier random) {
+        this.sampleRate = properties.getSampleRate();
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSlowThresholdMillis());
+        this.maxParameterLength = properties.getMaxParameterLength();
+        this.redactedNames = redactedNamePattern(properties);
+        this.random = random;
+    }
+
+    // 테이블, 컬럼 이름을 단어 단위로 찾는 패턴 (user 는 user_id, users 와 구분), 대상이 없으면 null
+    private static Pattern redactedNamePattern(SqlLoggingProperties properties) {
+        List<String> names = new ArrayList<>();
+        names.addAll(properties.getRedactedTables());
+        names.addAll(properties.getRedactedColumns());
+        String alternatives = names.stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|"));
+        return alternatives.isEmpty() ? null
+                : Pattern.compile("(?<![\\w$])(" + alternatives + ")(?![\\w$])", Pattern.CASE_INSENSITIVE);
+    }
+
+    // 로그 대상이면 true (바인딩 값 문자열은 로그 대상일 때만 생성)
+    boolean logIfNeeded(String sql, Object[] parameters, int parameterCount, int batchSize, long elapsedNanos) {
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        if (!slow && (sampleRate <= 0 || random.getAsDouble() >= sampleRate)) {
+            return false;
+        }
+
+        String elapsed = String.format("%.3fms", elapsedNanos / 1_000_000.0) + (batchSize > 0 ? ", 배치: " + batchSize + "건" : "");
+        String formattedParameters = formatParameters(sql, parameters, parameterCount);
+        if (slow) {
+            log.warn("[느린 SQL] 실행 시간: {}, 파라미터: {}, SQL: {}", elapsed, formattedParameters, sql);
+        } else {
+            log.info("[SQL] 실행 시간: {}, 파라미터: {}, SQL: {}", elapsed, formattedParameters, sql);
+        }
+        return true;
+    }
+
+    String formatParameters(String sql, Object[] parameters, int parameterCount) {
+        boolean redact = isSensitive(sql);
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < parameterCount; i++) {
+            joiner.add(redact && parameters[i] instanceof CharSequence ? REDACTED : formatParameter(parameters[i]));
+        }
+        return joiner.toString();
+    }
+
+    // Statement.execute(sql) 처럼 SQL 을 알 수 없으면 가리는 쪽으로 처리
+    private boolean isSensitive(String sql) {
+        return redactedNames != null && (sql == null || redactedNames.matcher(sql).find());
+    }
+
+    private String formatParameter(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        String text = value.getClass().isArray() ? Arrays.deepToString(new Object[]{value}) : value.toString();
+        if (text.length() > maxParameterLength) {
+            text = text.substring(0, maxParameterLength) + "...";
+        }
+        return value instanceof CharSequence ? "'" + text + "'" : text;
+    }
+}
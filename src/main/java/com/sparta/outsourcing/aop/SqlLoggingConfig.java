@@ -0,0 +1,32 @@
+package com.sparta.outsourcing.aop;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+// DataSource 를 SqlLoggingDataSource 로 감싸 샘플링, 느린 SQL 로그 적용 (hibernate.show_sql 대체)
+@Configuration
+public class SqlLoggingConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록하고 설정도 직접 바인딩
+    @Bean
+    public static BeanPostProcessor sqlLoggingDataSourcePostProcessor(Environment environment) {
+        SqlLoggingProperties properties = Binder.get(environment)
+                .bind("sql.log", SqlLoggingProperties.class)
+                .orElseGet(SqlLoggingProperties::new);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (properties.isEnabled() && bean instanceof DataSource dataSource && !(bean instanceof SqlLoggingDataSource)) {
+                    return new SqlLoggingDataSource(dataSource, properties);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package com.sparta.outsourcing.aop;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Set;
+
+// 커넥션, Statement 를 감싸 바인딩 값과 실행 시간을 SqlLogger 로 넘기는 DataSource
+// Statement 생성, 바인딩, 실행만 가로채고 나머지 호출은 그대로 원본에 위임합니다
+// 원본 빈을 대신하므로 컨텍스트 종료 시 close() 를 원본(HikariDataSource 등)에 전달해 커넥션 풀을 닫습니다
+public class SqlLoggingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final SqlLogger sqlLogger;
+
+    public SqlLoggingDataSource(DataSource targetDataSource, SqlLoggingProperties properties) {
+        this(targetDataSource, new SqlLogger(properties));
+    }
+
+    SqlLoggingDataSource(DataSource targetDataSource, SqlLogger sqlLogger) {
+        super(targetDataSource);
+        this.sqlLogger = sqlLogger;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    // 스프링이 추론하는 빈 종료 메서드 (원본이 닫을 수 있는 DataSource 인 경우에만 닫음)
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // prepareStatement, prepareCall, createStatement 로 만든 Statement 를 감쌈
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlLoggingDataSource.invoke(connection, method, args);
+
+            return switch (method.getName()) {
+                case "prepareStatement" -> Proxy.newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[]{PreparedStatement.class}, new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall" -> Proxy.newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[]{CallableStatement.class}, new StatementHandler((Statement) result, (String) args[0]));
+                case "createStatement" -> Proxy.newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[]{Statement.class}, new StatementHandler((Statement) result, null));
+                default -> result;
+            };
+        }
+    }
+
+    // 바인딩 값을 모아두었다가 실행 시 실행 시간과 함께 SqlLogger 로 전달 (한 스레드에서만 사용됨)
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private Object[] parameters = new Object[8];
+        private int parameterCount;
+        private int batchSize;
+
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if (EXECUTE_METHODS.contains(name)) {
+                long start = System.nanoTime();
+                try {
+                    return SqlLoggingDataSource.invoke(statement, method, args);
+                } finally {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+                    sqlLogger.logIfNeeded(sql, parameters, parameterCount, batchSize, System.nanoTime() - start);
+                    if (name.endsWith("Batch")) {
+                        batchSize = 0;
+                    }
+                }
+            }
+
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+            } else if (name.equals("clearParameters")) {
+                Arrays.fill(parameters, 0, parameterCount, null);
+                parameterCount = 0;
+            }
+            return SqlLoggingDataSource.invoke(statement, method, args);
+        }
+
+        // JDBC 파라미터 위치는 1부터 시작
+        private void bind(int index, Object value) {
+            if (index < 1) {
+                return;
+            }
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.sparta.outsourcing.aop;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// SQL 로그 설정 (sql.log.*)
+@Getter
+@Setter
+public class SqlLoggingProperties {
+
+    // SQL 로그 사용 여부 (false 면 DataSource 를 감싸지 않음)
+    private boolean enabled = true;
+
+    // 일반 SQL 중 로그로 남길 비율 (0.0 ~ 1.0)
+    private double sampleRate = 0.01;
+
+    // 이 시간 이상 걸린 SQL 은 비율과 관계없이 항상 로그 (ms)
+    private long slowThresholdMillis = 200;
+
+    // 바인딩 값 로그 최대 길이 (긴 문자열은 잘라서 출력)
+    private int maxParameterLength = 100;
+
+    // SQL 에 이 테이블이나 컬럼 이름이 있으면 문자열 바인딩 값을 가려서 출력 (비밀번호 해시, 이메일 등)
+    private List<String> redactedTables = List.of("user", "token_revocation");
+    private List<String> redactedColumns = List.of("password", "email", "token");
+}
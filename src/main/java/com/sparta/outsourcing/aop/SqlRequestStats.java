@@ -0,0 +1,58 @@
+package com.sparta.outsourcing.aop;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 한 HTTP 요청에서 실행된 SQL 건수, JDBC 실행 시간, 같은 형태 SQL 반복 횟수 (요청 스레드에서만 사용)
+final class SqlRequestStats {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, Integer> shapeCounts = new HashMap<>();
+    private int statementCount;
+    private long jdbcNanos;
+    private String mostRepeatedShape;
+    private int mostRepeatedCount;
+
+    void onStatement(String sql) {
+        statementCount++;
+        String shape = shapeOf(sql);
+        int count = shapeCounts.merge(shape, 1, Integer::sum);
+        if (count > mostRepeatedCount) {
+            mostRepeatedCount = count;
+            mostRepeatedShape = shape;
+        }
+    }
+
+    void addJdbcNanos(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    int getStatementCount() {
+        return statementCount;
+    }
+
+    long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    String getMostRepeatedShape() {
+        return mostRepeatedShape;
+    }
+
+    int getMostRepeatedCount() {
+        return mostRepeatedCount;
+    }
+
+    // 바인딩 값, 리터럴, IN 목록 길이를 지운 SQL 형태 (id 만 다른 반복 조회를 같은 형태로 묶기 위함)
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase();
+    }
+}
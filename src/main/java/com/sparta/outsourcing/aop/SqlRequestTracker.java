@@ -0,0 +1,25 @@
+package com.sparta.outsourcing.aop;
+
+// 현재 스레드에서 처리 중인 HTTP 요청의 SQL 통계
+// 요청 밖(스케줄러 등)에서 실행된 SQL 은 집계하지 않습니다
+final class SqlRequestTracker {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private SqlRequestTracker() {
+    }
+
+    static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+}
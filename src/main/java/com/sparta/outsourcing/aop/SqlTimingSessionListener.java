@@ -0,0 +1,38 @@
+package com.sparta.outsourcing.aop;
+
+import org.hibernate.SessionEventListener;
+
+// 세션마다 생성되어 JDBC 실행(단건, 배치) 시간을 현재 요청의 SQL 통계에 더함
+// hibernate.session.events.auto 로 등록되므로 기본 생성자가 필요합니다
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long executeStartNanos;
+    private long batchStartNanos;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        addJdbcNanos(System.nanoTime() - executeStartNanos);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        addJdbcNanos(System.nanoTime() - batchStartNanos);
+    }
+
+    private static void addJdbcNanos(long nanos) {
+        SqlRequestStats stats = SqlRequestTracker.current();
+        if (stats != null) {
+            stats.addJdbcNanos(nanos);
+        }
+    }
+}
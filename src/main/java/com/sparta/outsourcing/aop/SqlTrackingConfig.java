@@ -0,0 +1,34 @@
+package com.sparta.outsourcing.aop;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// 요청당 SQL 집계 등록 (Hibernate StatementInspector, 세션 이벤트 리스너, 요청 필터)
+@Configuration
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+public class SqlTrackingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlTrackingHibernateCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlCountingStatementInspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingSessionListener.class.getName());
+        };
+    }
+
+    // TraceFilter 다음, JwtFilter 보다 먼저 실행되어 요청 전체의 SQL 을 집계
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(SqlBudgetProperties properties) {
+        FilterRegistrationBean<SqlBudgetFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new SqlBudgetFilter(properties));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+
+        return registrationBean;
+    }
+}
@@ -0,0 +1,77 @@
+package com.sparta.outsourcing.aop;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+// HTTP 요청 하나의 트레이스 (트레이스 ID, 요청 전체 시간, 구간 목록)
+// 요청 스레드에서만 구간을 추가하고, 요청이 끝난 뒤 TraceBuffer 에 넘겨진 후에는 읽기만 합니다
+// 반복 호출(N+1 등)로 구간이 너무 많아지지 않도록 maxSpans 를 넘는 구간은 버리고 건수만 기록합니다
+@Getter
+public class Trace {
+
+    private final String traceId;
+    private final String method;
+    private String endpoint;
+    private int status;
+    private final long startedAtMillis;
+    private long durationNanos;
+    private final List<Span> spans = new ArrayList<>();
+    private int droppedSpanCount;
+
+    @JsonIgnore
+    private final long startNanos;
+    @JsonIgnore
+    private final int maxSpans;
+    @JsonIgnore
+    private final ArrayDeque<Span> openSpans = new ArrayDeque<>();
+
+    Trace(String traceId, String method, String uri, int maxSpans) {
+        this.traceId = traceId;
+        this.method = method;
+        this.endpoint = uri;
+        this.maxSpans = maxSpans;
+        this.startedAtMillis = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+    }
+
+    public LocalDateTime getStartedAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(startedAtMillis), ZoneId.systemDefault());
+    }
+
+    // 구간 시작 (현재 열려 있는 구간의 하위 구간), 구간 수 한도를 넘으면 null
+    Span startSpan(SpanKind kind, String type, String operation) {
+        if (spans.size() >= maxSpans) {
+            droppedSpanCount++;
+            return null;
+        }
+        Span parent = openSpans.peek();
+        Span span = new Span(spans.size() + 1, parent == null ? 0 : parent.getId(), kind, type, operation,
+                System.nanoTime() - startNanos);
+        spans.add(span);
+        openSpans.push(span);
+        return span;
+    }
+
+    // 구간 종료 (버려진 구간이면 무시)
+    void endSpan(Span span, Throwable throwable) {
+        if (span == null) {
+            return;
+        }
+        span.end(System.nanoTime() - startNanos, throwable);
+        openSpans.remove(span);
+    }
+
+    // 요청 종료, 매핑된 URL 패턴과 응답 상태 기록
+    void finish(String endpoint, int status) {
+        this.endpoint = endpoint;
+        this.status = status;
+        this.durationNanos = System.nanoTime() - startNanos;
+    }
+}
@@ -0,0 +1,75 @@
+package com.sparta.outsourcing.aop;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+// 끝난 요청 중 가장 느린 capacity 건의 트레이스 보관소
+// 가득 찬 뒤에는 보관 중인 가장 빠른 트레이스보다 느린 요청만 잠금을 잡고 교체하며,
+// 대부분의 요청은 volatile 기준값 비교 한 번으로 끝납니다
+@Component
+public class TraceBuffer {
+
+    private static final Comparator<Trace> BY_DURATION = Comparator.comparingLong(Trace::getDurationNanos);
+
+    private final int capacity;
+    private final PriorityQueue<Trace> slowest; // 가장 빠른 트레이스가 맨 앞
+    private final LongAdder recordedCount = new LongAdder();
+    private volatile long admissionNanos; // 가득 찬 경우 이 시간보다 느린 트레이스만 보관
+
+    public TraceBuffer(@Value("${trace.slowest-capacity:100}") int capacity) {
+        this.capacity = Math.max(1, capacity); // 0 이하로 설정되어도 최소 1건은 보관
+        this.slowest = new PriorityQueue<>(this.capacity, BY_DURATION);
+    }
+
+    public void offer(Trace trace) {
+        recordedCount.increment();
+        if (trace.getDurationNanos() <= admissionNanos) {
+            return;
+        }
+        synchronized (this) {
+            if (slowest.size() < capacity) {
+                slowest.add(trace);
+            } else if (trace.getDurationNanos() > slowest.peek().getDurationNanos()) {
+                slowest.poll();
+                slowest.add(trace);
+            }
+            if (slowest.size() == capacity) {
+                admissionNanos = slowest.peek().getDurationNanos();
+            }
+        }
+    }
+
+    // 가장 느린 순으로 limit 건 (음수는 0건으로 처리)
+    public synchronized List<Trace> getSlowest(int limit) {
+        List<Trace> traces = new ArrayList<>(slowest);
+        traces.sort(BY_DURATION.reversed());
+        return traces.subList(0, Math.max(0, Math.min(limit, traces.size())));
+    }
+
+    // 보관 중인 트레이스 조회, 없으면 null
+    public synchronized Trace find(String traceId) {
+        for (Trace trace : slowest) {
+            if (trace.getTraceId().equals(traceId)) {
+                return trace;
+            }
+        }
+        return null;
+    }
+
+    // 보관 중인 트레이스 비우기 (배포, 설정 변경 후 다시 측정할 때)
+    public synchronized void clear() {
+        slowest.clear();
+        admissionNanos = 0;
+    }
+
+    // 지금까지 끝난 요청 수
+    public long getRecordedCount() {
+        return recordedCount.sum();
+    }
+}
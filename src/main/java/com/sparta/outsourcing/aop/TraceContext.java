@@ -0,0 +1,23 @@
+package com.sparta.outsourcing.aop;
+
+// 현재 스레드에서 처리 중인 HTTP 요청의 트레이스
+// 요청 밖(스케줄러 등)의 호출은 트레이스하지 않습니다
+final class TraceContext {
+
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+    private TraceContext() {
+    }
+
+    static void begin(Trace trace) {
+        CURRENT.set(trace);
+    }
+
+    static Trace current() {
+        return CURRENT.get();
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,78 @@
+package com.sparta.outsourcing.aop;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+// 가장 먼저 실행되어 요청마다 트레이스 ID 를 정하고 요청 전체 구간을 기록
+// 트레이스 ID 는 MDC(traceId) 와 응답 헤더(X-Trace-Id) 에 넣어 JwtFilter, OrderLoggingAspect, GlobalExceptionHandler 로그를 한 요청으로 묶고,
+// 끝난 트레이스는 TraceBuffer 에 넘겨 느린 요청만 보관합니다
+@RequiredArgsConstructor
+public class TraceFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    public static final String MDC_KEY = "traceId";
+
+    // 호출한 쪽(게이트웨이 등)에서 넘긴 트레이스 ID 는 16~32자리 16진수만 사용
+    private static final Pattern VALID_TRACE_ID = Pattern.compile("[0-9a-fA-F]{16,32}");
+
+    private final TraceBuffer traceBuffer;
+    private final int maxSpansPerTrace;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Trace trace = new Trace(traceIdOf(request), request.getMethod(), request.getRequestURI(), maxSpansPerTrace);
+        Span root = trace.startSpan(SpanKind.REQUEST, null, request.getMethod() + " " + request.getRequestURI());
+
+        response.setHeader(TRACE_ID_HEADER, trace.getTraceId());
+        MDC.put(MDC_KEY, trace.getTraceId());
+        TraceContext.begin(trace);
+
+        Throwable error = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            TraceContext.end();
+            MDC.remove(MDC_KEY);
+
+            String endpoint = endpointOf(request);
+            trace.endSpan(root, error);
+            root.rename(request.getMethod() + " " + endpoint);
+            trace.finish(endpoint, error != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus());
+            traceBuffer.offer(trace);
+        }
+    }
+
+    private static String traceIdOf(HttpServletRequest request) {
+        String traceId = request.getHeader(TRACE_ID_HEADER);
+        if (traceId != null && VALID_TRACE_ID.matcher(traceId).matches()) {
+            return traceId.toLowerCase();
+        }
+        return newTraceId();
+    }
+
+    // 16자리 16진수 (64비트 난수)
+    static String newTraceId() {
+        String hex = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return hex.length() == 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+    }
+
+    // 매핑된 URL 패턴 (매핑된 핸들러가 없으면 요청 URI)
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
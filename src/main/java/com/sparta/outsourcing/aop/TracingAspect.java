@@ -0,0 +1,69 @@
+package com.sparta.outsourcing.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// 컨트롤러, 서비스, 리포지토리 호출을 현재 요청 트레이스의 구간으로 기록
+// 다른 Aspect, 트랜잭션보다 바깥에서 실행되어 구간 시간에 트랜잭션 시작, 커밋 시간도 포함합니다
+// 트레이스 중인 요청이 아니면 (스케줄러 등) 기록하지 않고 그대로 실행
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingAspect {
+
+    // Spring Data 리포지토리 프록시 클래스별 리포지토리 인터페이스 이름 (OrderRepository 등)
+    private final ConcurrentHashMap<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController) && within(com.sparta.outsourcing.domain..*)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return traceSpan(joinPoint, SpanKind.CONTROLLER);
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && within(com.sparta.outsourcing.domain..*)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return traceSpan(joinPoint, SpanKind.SERVICE);
+    }
+
+    // JpaRepository 에서 상속한 메서드(findById 등)도 포함
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return traceSpan(joinPoint, SpanKind.REPOSITORY);
+    }
+
+    private Object traceSpan(ProceedingJoinPoint joinPoint, SpanKind kind) throws Throwable {
+        Trace trace = TraceContext.current();
+        if (trace == null) {
+            return joinPoint.proceed();
+        }
+
+        Span span = trace.startSpan(kind, typeOf(joinPoint, kind), joinPoint.getSignature().getName());
+        Throwable error = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            trace.endSpan(span, error);
+        }
+    }
+
+    private String typeOf(ProceedingJoinPoint joinPoint, SpanKind kind) {
+        if (kind != SpanKind.REPOSITORY) {
+            return joinPoint.getSignature().getDeclaringType().getSimpleName();
+        }
+        // 상속한 메서드는 선언 타입이 CrudRepository 등이므로 프록시가 구현한 리포지토리 인터페이스 이름 사용
+        Object target = joinPoint.getTarget();
+        return repositoryNames.computeIfAbsent(target.getClass(), type -> AopUtils.isJdkDynamicProxy(target)
+                ? AopProxyUtils.proxiedUserInterfaces(target)[0].getSimpleName()
+                : type.getSimpleName());
+    }
+}
@@ -0,0 +1,46 @@
+package com.sparta.outsourcing.aop;
+
+import jakarta.servlet.Filter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// 요청 트레이스 등록 (가장 먼저 실행되는 TraceFilter, 등록된 다른 필터의 구간 기록)
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public FilterRegistrationBean<TraceFilter> traceFilter(
+            TraceBuffer traceBuffer,
+            @Value("${trace.max-spans-per-trace:256}") int maxSpansPerTrace
+    ) {
+        FilterRegistrationBean<TraceFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new TraceFilter(traceBuffer, maxSpansPerTrace));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registrationBean;
+    }
+
+    // FilterRegistrationBean 으로 등록된 필터(JwtFilter, SqlBudgetFilter)를 SpanFilter 로 감싸 필터 구간 기록
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록
+    @Bean
+    @SuppressWarnings("unchecked")
+    public static BeanPostProcessor filterSpanPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof FilterRegistrationBean<?> registrationBean) {
+                    Filter filter = registrationBean.getFilter();
+                    if (filter != null && !(filter instanceof TraceFilter) && !(filter instanceof SpanFilter)) {
+                        ((FilterRegistrationBean<Filter>) registrationBean).setFilter(new SpanFilter(filter));
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
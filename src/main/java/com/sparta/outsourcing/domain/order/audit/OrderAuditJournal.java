@@ -0,0 +1,163 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import com.sparta.outsourcing.domain.order.event.OrderStatusEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// 주문 생성, 상태 변경 이력을 남기는 추가 전용 감사 저널
+// 커밋된 주문 이벤트를 고정 길이 바이너리 레코드로 메모리 매핑된 세그먼트 파일에 순서대로 기록하고,
+// 세그먼트가 가득 차면 다음 번호의 세그먼트를 만들어 이어서 기록합니다
+// 기록은 페이지 캐시에 쓰는 것으로 끝나며 (프로세스가 죽어도 유지), 세그먼트 교체와 종료 시 디스크에 동기화합니다
+@Slf4j
+@Component
+public class OrderAuditJournal {
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final List<OrderAuditSegment> segments = new CopyOnWriteArrayList<>();
+    private OrderAuditSegment active;
+
+    @Autowired
+    public OrderAuditJournal(
+            @Value("${order.audit.directory:audit/orders}") String directory,
+            @Value("${order.audit.segment-size-mb:64}") int segmentSizeMb
+    ) {
+        this(Path.of(directory), (int) ((long) segmentSizeMb * 1024 * 1024 / OrderAuditRecord.SIZE));
+    }
+
+    OrderAuditJournal(Path directory, int recordsPerSegment) {
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        try {
+            Files.createDirectories(directory);
+            openSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 감사 저널을 열 수 없습니다: " + directory, e);
+        }
+    }
+
+    // 커밋된 주문 생성, 상태 변경만 기록 (기록 실패가 주문 처리에 영향을 주지 않도록 로그만 남김)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(OrderStatusEvent event) {
+        try {
+            append(OrderAuditRecord.from(event));
+        } catch (RuntimeException e) {
+            log.error("주문 감사 저널 기록 실패: 주문 ID {}, 상태 {}", event.getOrderId(), event.getStatus(), e);
+        }
+    }
+
+    public synchronized void append(OrderAuditRecord record) {
+        if (active.append(record)) {
+            return;
+        }
+        // 세그먼트가 가득 찬 경우 디스크에 동기화하고 다음 세그먼트로 교체
+        active.force();
+        try {
+            active = OrderAuditSegment.open(directory, active.index() + 1, recordsPerSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 감사 저널 세그먼트를 만들 수 없습니다", e);
+        }
+        segments.add(active);
+        active.append(record);
+    }
+
+    // 모든 레코드를 기록된 순서대로 전달
+    public void replay(Consumer<OrderAuditRecord> consumer) {
+        for (OrderAuditSegment segment : segments) {
+            segment.forEach(consumer);
+        }
+    }
+
+    // 주문 하나의 생성, 상태 변경 이력 (주문 ID 범위 밖의 세그먼트는 읽지 않음)
+    public List<OrderAuditRecord> historyOf(long orderId) {
+        List<OrderAuditRecord> history = new ArrayList<>();
+        for (OrderAuditSegment segment : segmentsOf(orderId)) {
+            segment.forEach(record -> {
+                if (record.orderId() == orderId) {
+                    history.add(record);
+                }
+            });
+        }
+        return history;
+    }
+
+    // 주문의 레코드가 있을 수 있는 세그먼트
+    List<OrderAuditSegment> segmentsOf(long orderId) {
+        List<OrderAuditSegment> result = new ArrayList<>();
+        for (OrderAuditSegment segment : segments) {
+            if (segment.mayContainOrder(orderId)) {
+                result.add(segment);
+            }
+        }
+        return result;
+    }
+
+    // 기간 [fromMillis, toMillis) 동안 가게 주문의 생성, 상태 변경 이력 (기간 밖의 세그먼트는 읽지 않음)
+    public List<OrderAuditRecord> storeHistory(long storeId, long fromMillis, long toMillis) {
+        List<OrderAuditRecord> history = new ArrayList<>();
+        for (OrderAuditSegment segment : segments) {
+            if (!segment.mayContain(fromMillis, toMillis - 1)) {
+                continue;
+            }
+            segment.forEach(record -> {
+                if (record.storeId() == storeId
+                        && record.occurredAtMillis() >= fromMillis && record.occurredAtMillis() < toMillis) {
+                    history.add(record);
+                }
+            });
+        }
+        return history;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        for (OrderAuditSegment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.error("주문 감사 저널 세그먼트 닫기 실패: {}", segment.path(), e);
+            }
+        }
+    }
+
+    // 기존 세그먼트를 번호 순으로 열고, 마지막 세그먼트에 이어서 기록
+    private void openSegments() throws IOException {
+        List<Long> indexes;
+        try (Stream<Path> files = Files.list(directory)) {
+            indexes = files.map(OrderAuditSegment::indexOf)
+                    .filter(index -> index >= 0)
+                    .sorted()
+                    .toList();
+        }
+
+        for (Long index : indexes) {
+            segments.add(OrderAuditSegment.open(directory, index, recordsPerSegment));
+        }
+        if (segments.isEmpty()) {
+            segments.add(OrderAuditSegment.open(directory, 0, recordsPerSegment));
+        }
+        active = segments.get(segments.size() - 1);
+
+        int recordCount = segments.stream().mapToInt(OrderAuditSegment::count).sum();
+        log.info("주문 감사 저널 열기 완료: 세그먼트 {}개, 레코드 {}건", segments.size(), recordCount);
+    }
+}
@@ -0,0 +1,95 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import com.sparta.outsourcing.domain.order.event.OrderStatusEvent;
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneId;
+import java.util.zip.CRC32;
+
+// 주문 감사 저널의 고정 길이(48바이트) 레코드
+// [0] 발생 시각(epoch ms) [8] 주문 ID [16] 가게 ID [24] 고객 ID [32] 변경한 유저 ID (-1: 시스템)
+// [40] 변경한 유저 권한 (0: 시스템, 1 + UserRole 순서값) [41] 이전 상태 (0: 주문 생성, 1 + OrderStatus 순서값) [42] 변경된 상태 [43] 예약
+// [44] 앞 44바이트의 CRC32 (기록 도중 중단된 레코드, 아직 쓰지 않은 영역 판별)
+public record OrderAuditRecord(
+        long occurredAtMillis,
+        long orderId,
+        long storeId,
+        long customerId,
+        Long actorId,
+        UserRole actorRole,
+        OrderStatus fromStatus,
+        OrderStatus toStatus
+) {
+
+    static final int SIZE = 48;
+    private static final int CRC_OFFSET = 44;
+    private static final long SYSTEM_ACTOR = -1L;
+
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    public static OrderAuditRecord from(OrderStatusEvent event) {
+        return new OrderAuditRecord(
+                event.getOccurredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                event.getOrderId(),
+                event.getStoreId(),
+                event.getCustomerId(),
+                event.getActorId(),
+                event.getActorRole(),
+                event.getPreviousStatus(),
+                event.getStatus()
+        );
+    }
+
+    // 주문 생성 레코드 여부
+    public boolean isCreation() {
+        return fromStatus == null;
+    }
+
+    void writeTo(byte[] target) {
+        ByteBuffer buffer = ByteBuffer.wrap(target);
+        buffer.putLong(0, occurredAtMillis);
+        buffer.putLong(8, orderId);
+        buffer.putLong(16, storeId);
+        buffer.putLong(24, customerId);
+        buffer.putLong(32, actorId == null ? SYSTEM_ACTOR : actorId);
+        buffer.put(40, (byte) (actorRole == null ? 0 : actorRole.ordinal() + 1));
+        buffer.put(41, (byte) (fromStatus == null ? 0 : fromStatus.ordinal() + 1));
+        buffer.put(42, (byte) (toStatus.ordinal() + 1));
+        buffer.put(43, (byte) 0);
+        buffer.putInt(CRC_OFFSET, crcOf(target));
+    }
+
+    // 레코드 복원, CRC 가 맞지 않으면 (아직 쓰지 않은 영역 포함) null
+    static OrderAuditRecord readFrom(byte[] source) {
+        ByteBuffer buffer = ByteBuffer.wrap(source);
+        if (buffer.getInt(CRC_OFFSET) != crcOf(source)) {
+            return null;
+        }
+        long actorId = buffer.getLong(32);
+        int role = buffer.get(40);
+        int from = buffer.get(41);
+        int to = buffer.get(42);
+        if (role < 0 || role > ROLES.length || from < 0 || from > STATUSES.length || to < 1 || to > STATUSES.length) {
+            return null;
+        }
+        return new OrderAuditRecord(
+                buffer.getLong(0),
+                buffer.getLong(8),
+                buffer.getLong(16),
+                buffer.getLong(24),
+                actorId == SYSTEM_ACTOR ? null : actorId,
+                role == 0 ? null : ROLES[role - 1],
+                from == 0 ? null : STATUSES[from - 1],
+                STATUSES[to - 1]
+        );
+    }
+
+    private static int crcOf(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, CRC_OFFSET);
+        return (int) crc.getValue();
+    }
+}
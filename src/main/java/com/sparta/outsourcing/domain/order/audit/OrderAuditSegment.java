@@ -0,0 +1,149 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+// 감사 저널 세그먼트 파일 하나 (파일 전체를 메모리 매핑하고 고정 길이 레코드를 순서대로 추가)
+// 기록은 저널의 잠금 안에서만 하고, 읽기는 기록 완료된 건수(volatile)까지만 하므로 잠금 없이 동시에 읽을 수 있습니다
+final class OrderAuditSegment {
+
+    private static final String PREFIX = "order-audit-";
+    private static final String SUFFIX = ".seg";
+
+    private final long index;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final byte[] scratch = new byte[OrderAuditRecord.SIZE];
+
+    private volatile int count;
+    private volatile long minOccurredAt = Long.MAX_VALUE;
+    private volatile long maxOccurredAt = Long.MIN_VALUE;
+    private volatile long minOrderId = Long.MAX_VALUE;
+    private volatile long maxOrderId = Long.MIN_VALUE;
+
+    private OrderAuditSegment(long index, Path path, FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.index = index;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+    }
+
+    // 세그먼트 열기 (없으면 recordCapacity 크기로 생성), 기존 파일은 마지막 정상 레코드까지 읽어 다음 기록 위치 복원
+    static OrderAuditSegment open(Path directory, long index, int recordCapacity) throws IOException {
+        Path path = directory.resolve(fileName(index));
+        boolean exists = Files.exists(path);
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = exists ? channel.size() : (long) recordCapacity * OrderAuditRecord.SIZE;
+        int capacity = (int) (size / OrderAuditRecord.SIZE);
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * OrderAuditRecord.SIZE);
+        OrderAuditSegment segment = new OrderAuditSegment(index, path, channel, buffer, capacity);
+        segment.recover();
+        return segment;
+    }
+
+    static String fileName(long index) {
+        return String.format("%s%019d%s", PREFIX, index, SUFFIX);
+    }
+
+    // 세그먼트 파일이면 번호, 아니면 -1
+    static long indexOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // 레코드 추가, 가득 찼으면 false (저널의 잠금 안에서만 호출)
+    boolean append(OrderAuditRecord record) {
+        if (count >= capacity) {
+            return false;
+        }
+        record.writeTo(scratch);
+        buffer.put(count * OrderAuditRecord.SIZE, scratch);
+
+        track(record);
+        count++;
+        return true;
+    }
+
+    void forEach(Consumer<OrderAuditRecord> consumer) {
+        int limit = count;
+        byte[] bytes = new byte[OrderAuditRecord.SIZE];
+        for (int i = 0; i < limit; i++) {
+            buffer.get(i * OrderAuditRecord.SIZE, bytes);
+            OrderAuditRecord record = OrderAuditRecord.readFrom(bytes);
+            if (record != null) {
+                consumer.accept(record);
+            }
+        }
+    }
+
+    // 기간 안에 기록된 레코드가 있을 수 있는지 (없으면 세그먼트를 읽지 않고 건너뜀)
+    boolean mayContain(long fromMillis, long toMillis) {
+        return count > 0 && minOccurredAt <= toMillis && maxOccurredAt >= fromMillis;
+    }
+
+    // 주문의 레코드가 있을 수 있는지 (주문 ID 는 증가하므로 대부분의 세그먼트를 읽지 않고 건너뜀)
+    boolean mayContainOrder(long orderId) {
+        return count > 0 && minOrderId <= orderId && maxOrderId >= orderId;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    long index() {
+        return index;
+    }
+
+    int count() {
+        return count;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    // 건너뛰기 판단용 범위 갱신 (count 를 늘리기 전에 호출해야 읽는 쪽이 갱신된 범위를 봄)
+    private void track(OrderAuditRecord record) {
+        minOccurredAt = Math.min(minOccurredAt, record.occurredAtMillis());
+        maxOccurredAt = Math.max(maxOccurredAt, record.occurredAtMillis());
+        minOrderId = Math.min(minOrderId, record.orderId());
+        maxOrderId = Math.max(maxOrderId, record.orderId());
+    }
+
+    private void recover() {
+        byte[] bytes = new byte[OrderAuditRecord.SIZE];
+        int recovered = 0;
+        while (recovered < capacity) {
+            buffer.get(recovered * OrderAuditRecord.SIZE, bytes);
+            OrderAuditRecord record = OrderAuditRecord.readFrom(bytes);
+            if (record == null) {
+                break;
+            }
+            track(record);
+            recovered++;
+        }
+        count = recovered;
+    }
+}
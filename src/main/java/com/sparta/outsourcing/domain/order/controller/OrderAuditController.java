@@ -0,0 +1,40 @@
+package com.sparta.outsourcing.domain.order.controller;
+
+import com.sparta.outsourcing.domain.order.dto.response.OrderAuditResponseDto;
+import com.sparta.outsourcing.domain.order.service.OrderAuditService;
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/orders/owner")
+@AllArgsConstructor
+public class OrderAuditController {
+
+    private final OrderAuditService orderAuditService;
+
+    // 주문 생성, 상태 변경 이력 (사장님)
+    @GetMapping("/{orderId}/audit")
+    public ResponseEntity<List<OrderAuditResponseDto>> getOrderHistory(
+            @PathVariable Long orderId,
+            @RequestAttribute("userId") Long ownerId,
+            @RequestAttribute("role") UserRole userRole) {
+        return ResponseEntity.ok(orderAuditService.getOrderHistory(orderId, ownerId, userRole));
+    }
+
+    // 가게의 하루 동안 주문 생성, 상태 변경 이력 (date 가 없으면 오늘)
+    @GetMapping("/stores/{storeId}/audit")
+    public ResponseEntity<List<OrderAuditResponseDto>> getStoreHistory(
+            @PathVariable Long storeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestAttribute("userId") Long ownerId,
+            @RequestAttribute("role") UserRole userRole) {
+        LocalDate day = date != null ? date : LocalDate.now();
+        return ResponseEntity.ok(orderAuditService.getStoreHistory(storeId, day, ownerId, userRole));
+    }
+}
@@ -1,13 +1,20 @@
 package com.sparta.outsourcing.domain.order.controller;
 
 import com.sparta.outsourcing.domain.order.dto.request.OrderRequestDto;
+import com.sparta.outsourcing.domain.order.dto.request.OrderStatusBatchRequestDto;
 import com.sparta.outsourcing.domain.order.dto.response.OrderResponseDto;
+import com.sparta.outsourcing.domain.order.dto.response.OrderStatusBatchResponseDto;
+import com.sparta.outsourcing.domain.order.dto.response.OwnerOrderPageResponseDto;
 import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import com.sparta.outsourcing.domain.order.event.OrderEventHub;
+import com.sparta.outsourcing.domain.order.service.OrderIdempotencyService;
 import com.sparta.outsourcing.domain.order.service.OrderService;
 import com.sparta.outsourcing.domain.user.enums.UserRole;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/orders")
@@ -15,12 +22,19 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderEventHub orderEventHub;
+    private final OrderIdempotencyService orderIdempotencyService;
 
     @PostMapping
     public ResponseEntity<OrderResponseDto> createOrder(
             @RequestBody OrderRequestDto orderRequestDto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @RequestAttribute("userId") Long userId,
             @RequestAttribute("role") UserRole userRole) {
-        OrderResponseDto orderResponseDto = orderService.createOrder(orderRequestDto, userRole);
+        // Idempotency-Key 가 있으면 같은 키의 재요청에 처음 생성된 주문을 그대로 반환 (키는 인증된 유저별로 구분)
+        OrderResponseDto orderResponseDto = idempotencyKey == null
+                ? orderService.createOrder(orderRequestDto, userRole)
+                : orderIdempotencyService.createOrder(orderRequestDto, userRole, userId, idempotencyKey);
         return ResponseEntity.status(201).body(orderResponseDto); // 201 Created
     }
 
@@ -34,6 +48,17 @@ public class OrderController {
         return ResponseEntity.ok(orderResponseDto);
     }
 
+    // 주문 상태 일괄 변경 (사장님), 변경되지 않은 주문은 주문별 사유로 응답
+    @PutMapping("/status:batch")
+    public ResponseEntity<OrderStatusBatchResponseDto> updateOrderStatusBatch(
+            @RequestBody OrderStatusBatchRequestDto requestDto,
+            @RequestAttribute("userId") Long ownerId,
+            @RequestAttribute("role") UserRole userRole) {
+        OrderStatusBatchResponseDto responseDto = orderService.updateOrderStatusBatch(
+                requestDto.getOrderIds(), requestDto.getStatus(), userRole, ownerId);
+        return ResponseEntity.ok(responseDto);
+    }
+
     @GetMapping("/user/{orderId}")
     public ResponseEntity<OrderResponseDto> getOrderForUser(
             @PathVariable Long orderId,
@@ -51,4 +76,37 @@ public class OrderController {
         OrderResponseDto orderResponseDto = orderService.getOrderByOwner(orderId, ownerId, userRole);
         return ResponseEntity.ok(orderResponseDto);
     }
+
+    @GetMapping("/owner")
+    public ResponseEntity<OwnerOrderPageResponseDto> getOrderBoard(
+            @RequestParam Long storeId,
+            @RequestParam OrderStatus status,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestAttribute("userId") Long ownerId,
+            @RequestAttribute("role") UserRole userRole) {
+        OwnerOrderPageResponseDto responseDto = orderService.getOrderBoard(storeId, status, after, size, ownerId, userRole);
+        return ResponseEntity.ok(responseDto);
+    }
+
+    // 가게 주문 상태 변경 구독 (사장님)
+    @GetMapping(value = "/owner/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeStoreOrders(
+            @RequestParam Long storeId,
+            @RequestAttribute("userId") Long ownerId,
+            @RequestAttribute("role") UserRole userRole) {
+        orderService.validateStoreOwner(storeId, ownerId, userRole);
+        return orderEventHub.subscribeStore(storeId);
+    }
+
+    // 주문 상태 변경 구독 (고객), 구독 시점의 주문 상태를 첫 이벤트로 전송
+    @GetMapping(value = "/user/{orderId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeOrder(
+            @PathVariable Long orderId,
+            @RequestAttribute("userId") Long userId,
+            @RequestAttribute("role") UserRole userRole) {
+        // 본인 주문인지 먼저 검증하고, 구독을 등록한 뒤 주문 상태를 조회 (그 사이 변경된 상태가 누락되지 않도록)
+        orderService.getOrderForUser(orderId, userId, userRole);
+        return orderEventHub.subscribeOrder(orderId, () -> orderService.getOrderStatusSnapshot(orderId));
+    }
 }
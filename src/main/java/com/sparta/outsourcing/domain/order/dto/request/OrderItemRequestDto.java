@@ -0,0 +1,15 @@
+package com.sparta.outsourcing.domain.order.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderItemRequestDto {
+    private Long menuId;
+    private Integer quantity;
+}
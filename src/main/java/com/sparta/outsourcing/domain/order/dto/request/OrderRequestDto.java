@@ -5,13 +5,18 @@ import com.sparta.outsourcing.domain.user.enums.UserRole;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 public class OrderRequestDto {
     private Long customerId;
     private Long storeId;
     private Long menuId;
+    // 장바구니 주문 메뉴 목록 (없으면 menuId 1개 주문)
+    private List<OrderItemRequestDto> items;
     private OrderStatus status;
+    // 주문 금액은 서버에서 메뉴 가격으로 계산하므로 사용하지 않음 (기존 클라이언트 호환용)
     private Integer totalPrice;
     private String email;
     private UserRole userRole;
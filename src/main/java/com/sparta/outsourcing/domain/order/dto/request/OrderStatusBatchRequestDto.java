@@ -0,0 +1,19 @@
+package com.sparta.outsourcing.domain.order.dto.request;
+
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 주문 상태 일괄 변경 요청 (사장님, 여러 주문을 같은 상태로 변경)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusBatchRequestDto {
+    private List<Long> orderIds;
+    private OrderStatus status;
+}
@@ -0,0 +1,38 @@
+package com.sparta.outsourcing.domain.order.dto.response;
+
+import com.sparta.outsourcing.domain.order.audit.OrderAuditRecord;
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 주문 감사 저널 이력 (이전 상태가 null 이면 주문 생성, 변경한 유저가 null 이면 자동 취소 등 시스템 변경)
+@Getter
+@AllArgsConstructor
+public class OrderAuditResponseDto {
+    private Long orderId;
+    private Long storeId;
+    private Long customerId;
+    private Long actorId;
+    private UserRole actorRole;
+    private OrderStatus fromStatus;
+    private OrderStatus toStatus;
+    private LocalDateTime occurredAt;
+
+    public static OrderAuditResponseDto from(OrderAuditRecord record) {
+        return new OrderAuditResponseDto(
+                record.orderId(),
+                record.storeId(),
+                record.customerId(),
+                record.actorId(),
+                record.actorRole(),
+                record.fromStatus(),
+                record.toStatus(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(record.occurredAtMillis()), ZoneId.systemDefault())
+        );
+    }
+}
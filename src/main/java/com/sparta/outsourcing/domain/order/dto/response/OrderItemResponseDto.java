@@ -0,0 +1,13 @@
+package com.sparta.outsourcing.domain.order.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderItemResponseDto {
+    private Long menuId;
+    private String menuName;
+    private Long menuPrice;
+    private Integer quantity;
+}
@@ -19,6 +19,7 @@ public class OrderResponseDto {
     private Long menuPrice;
     private OrderStatus status;
     private Integer totalPrice;
+    private List<OrderItemResponseDto> items;
     private boolean canUserCancel;
     private boolean canOwnerCancel;
     private List<OrderStatus> availableStatusChanges;
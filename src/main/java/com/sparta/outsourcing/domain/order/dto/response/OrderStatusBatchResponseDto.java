@@ -0,0 +1,16 @@
+package com.sparta.outsourcing.domain.order.dto.response;
+
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 주문 상태 일괄 변경 응답 (변경된 주문 ID 목록, 변경되지 않은 주문별 사유)
+@Getter
+@AllArgsConstructor
+public class OrderStatusBatchResponseDto {
+    private OrderStatus status;
+    private List<Long> updatedOrderIds;
+    private List<OrderStatusRejectionDto> rejected;
+}
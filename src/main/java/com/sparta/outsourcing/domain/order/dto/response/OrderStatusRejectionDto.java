@@ -0,0 +1,18 @@
+package com.sparta.outsourcing.domain.order.dto.response;
+
+import com.sparta.outsourcing.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 주문 상태 일괄 변경에서 변경되지 않은 주문과 사유
+@Getter
+@AllArgsConstructor
+public class OrderStatusRejectionDto {
+    private Long orderId;
+    private ErrorCode errorCode;
+    private String message;
+
+    public static OrderStatusRejectionDto of(Long orderId, ErrorCode errorCode) {
+        return new OrderStatusRejectionDto(orderId, errorCode, errorCode.getMessage());
+    }
+}
@@ -0,0 +1,15 @@
+package com.sparta.outsourcing.domain.order.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 사장님 주문 현황판 조회 응답 (nextCursor 를 다음 요청의 after 로 전달)
+@Getter
+@AllArgsConstructor
+public class OwnerOrderPageResponseDto {
+    private List<OwnerOrderSummaryDto> orders;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.sparta.outsourcing.domain.order.dto.response;
+
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 사장님 주문 현황판 조회용 프로젝션 (엔티티 대신 필요한 컬럼만 조회)
+@Getter
+@AllArgsConstructor
+public class OwnerOrderSummaryDto {
+    private Long id;
+    private Long customerId;
+    private Long menuId;
+    private String menuName;
+    private OrderStatus status;
+    private Integer totalPrice;
+    private LocalDateTime createdAt;
+}
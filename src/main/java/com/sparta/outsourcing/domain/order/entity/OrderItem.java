@@ -0,0 +1,45 @@
+package com.sparta.outsourcing.domain.order.entity;
+
+import com.sparta.outsourcing.domain.menu.entity.Menu;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 주문 메뉴 (한 주문에 담긴 메뉴별 수량과 주문 시점의 가격)
+// IDENTITY 전략은 insert 배치가 불가능하므로 시퀀스(테이블) 전략으로 id 를 미리 할당받아 한 번에 저장합니다
+@Getter
+@Entity
+@NoArgsConstructor
+public class OrderItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id")
+    private Orders order;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "menu_id")
+    private Menu menu;
+
+    private Long menuPrice;
+
+    private Integer quantity;
+
+    public OrderItem(Orders order, Menu menu, Integer quantity) {
+        this.order = order;
+        this.menu = menu;
+        this.menuPrice = menu.getPrice();
+        this.quantity = quantity;
+    }
+}
@@ -5,21 +5,31 @@ import com.sparta.outsourcing.domain.menu.entity.Menu;
 import com.sparta.outsourcing.domain.order.enums.OrderStatus;
 import com.sparta.outsourcing.domain.store.entity.Store;
 import com.sparta.outsourcing.domain.user.entity.User;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Entity
 @NoArgsConstructor
+// 사장님 주문 현황판 조회 (가게, 상태 조건 + 생성일시, id 순 키셋 페이지네이션) 용 복합 인덱스
+@Table(name = "orders", indexes = @Index(name = "idx_orders_store_status_created_id", columnList = "store_id, status, created_at, id"))
 public class Orders extends Timestamped {
 
     @Id
@@ -34,15 +44,24 @@ public class Orders extends Timestamped {
     @JoinColumn(name = "store_id")
     private Store store;
 
+    // 대표 메뉴 (장바구니 주문의 첫 번째 메뉴), 주문 메뉴 전체는 items
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "menu_id")
     private Menu menu;
 
+    // 주문과 함께 저장 (flush 시 insert 배치로 한 번에 저장)
+    @OneToMany(mappedBy = "order", cascade = CascadeType.PERSIST)
+    private List<OrderItem> items = new ArrayList<>();
+
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
     private Integer totalPrice;
 
+    // 주문 생성 요청의 멱등성 키 (인증된 유저 ID:Idempotency-Key), 같은 키로 주문이 중복 저장되지 않도록 유니크 제약
+    @Column(unique = true, length = 100)
+    private String idempotencyKey;
+
     public void setCustomer(User customer) {
         this.customer = customer;
     }
@@ -62,4 +81,12 @@ public class Orders extends Timestamped {
     public void setTotalPrice(Integer totalPrice) {
         this.totalPrice = totalPrice;
     }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public void addItem(Menu menu, Integer quantity) {
+        this.items.add(new OrderItem(this, menu, quantity));
+    }
 }
@@ -0,0 +1,283 @@
+package com.sparta.outsourcing.domain.order.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// 주문 상태 변경 SSE 구독 관리 (가게 단위: 사장님, 주문 단위: 고객)
+// 구독자마다 크기가 제한된 버퍼를 두고, 버퍼가 가득 찰 만큼 느린 구독자는 연결을 끊어 다른 구독자에게 영향이 없도록 합니다
+// 전송은 필요한 만큼 늘어나는 스레드에서 구독자별로 하고, 한 번의 전송이 제한 시간을 넘긴 구독자도 연결을 끊습니다
+// (소켓을 읽지 않는 클라이언트 하나가 공용 스레드를 붙잡아 다른 구독자의 전송이 멈추지 않도록)
+@Slf4j
+@Component
+public class OrderEventHub {
+
+    private static final String EVENT_NAME = "order-status";
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final int SUBSCRIBER_BUFFER_SIZE = 64;
+    private static final long SEND_TIMEOUT_MILLIS = 10_000L;
+    private static final long SEND_CHECK_INTERVAL_MILLIS = 1_000L;
+
+    private final Map<Long, Set<Subscriber>> storeSubscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> orderSubscribers = new ConcurrentHashMap<>();
+    private final Executor dispatcher;
+    private final LongSupplier clock;
+    private final ScheduledExecutorService sendWatchdog;
+
+    public OrderEventHub() {
+        this(newDispatcher(), System::currentTimeMillis, newSendWatchdog());
+        sendWatchdog.scheduleWithFixedDelay(this::evictStalledSenders,
+                SEND_CHECK_INTERVAL_MILLIS, SEND_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    OrderEventHub(Executor dispatcher) {
+        this(dispatcher, System::currentTimeMillis);
+    }
+
+    // 테스트용: 전송 제한 시간 확인은 evictStalledSenders 를 직접 호출
+    OrderEventHub(Executor dispatcher, LongSupplier clock) {
+        this(dispatcher, clock, null);
+    }
+
+    private OrderEventHub(Executor dispatcher, LongSupplier clock, ScheduledExecutorService sendWatchdog) {
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+        this.sendWatchdog = sendWatchdog;
+    }
+
+    // 가게 주문 구독 (사장님)
+    public SseEmitter subscribeStore(Long storeId) {
+        return subscribe(storeSubscribers, storeId, null, false);
+    }
+
+    // 주문 구독 (고객), 구독을 등록한 뒤 조회한 주문 상태를 첫 이벤트로 전송
+    // 등록 이후에 조회하므로 그 사이 커밋된 변경이 누락되지 않고, 조회한 상태보다 먼저 전달된 최신 이벤트는 발생 일시로 비교해 덮어쓰지 않음
+    public SseEmitter subscribeOrder(Long orderId, Supplier<OrderStatusEvent> snapshot) {
+        return subscribe(orderSubscribers, orderId, snapshot, true);
+    }
+
+    // 트랜잭션이 커밋된 이후에만 구독자에게 전달 (롤백된 상태 변경은 전송하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(OrderStatusEvent event) {
+        publish(event);
+    }
+
+    void publish(OrderStatusEvent event) {
+        deliver(storeSubscribers.get(event.getStoreId()), event);
+        deliver(orderSubscribers.get(event.getOrderId()), event);
+    }
+
+    int subscriberCount() {
+        return storeSubscribers.values().stream().mapToInt(Set::size).sum()
+                + orderSubscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // 전송을 시작한 지 제한 시간이 지나도 끝나지 않은 구독자의 연결 종료
+    // 막힌 전송이 쥐고 있는 emitter 잠금을 기다리지 않도록 emitter 종료는 전송 스레드에서 처리
+    void evictStalledSenders() {
+        long now = clock.getAsLong();
+        evictStalledSenders(storeSubscribers, now);
+        evictStalledSenders(orderSubscribers, now);
+    }
+
+    private void evictStalledSenders(Map<Long, Set<Subscriber>> subscribers, long now) {
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                long startedAt = subscriber.sendStartedAt;
+                if (startedAt != 0 && now - startedAt >= SEND_TIMEOUT_MILLIS && remove(subscriber)) {
+                    log.warn("SSE 전송이 {}ms 안에 끝나지 않아 연결을 종료합니다. key={}", SEND_TIMEOUT_MILLIS, subscriber.key);
+                    dispatcher.execute(subscriber.emitter::complete);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sendWatchdog != null) {
+            sendWatchdog.shutdownNow();
+        }
+        if (dispatcher instanceof ExecutorService) {
+            ((ExecutorService) dispatcher).shutdownNow();
+        }
+    }
+
+    private SseEmitter subscribe(Map<Long, Set<Subscriber>> subscribers, Long key, Supplier<OrderStatusEvent> snapshot,
+                                 boolean inOrder) {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(subscribers, key, emitter, inOrder);
+
+        // 같은 key 의 마지막 구독자 제거(remove)와 겹쳐도 map 에서 빠진 집합에 추가되지 않도록 추가까지 한 번에 처리
+        subscribers.compute(key, (k, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> evict(subscriber));
+        emitter.onError(e -> evict(subscriber));
+
+        if (snapshot != null) {
+            OrderStatusEvent initial;
+            try {
+                initial = snapshot.get();
+            } catch (RuntimeException e) {
+                remove(subscriber);
+                throw e;
+            }
+            if (initial != null) {
+                enqueue(subscriber, initial);
+            }
+        }
+        return emitter;
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+    }
+
+    private void deliver(Set<Subscriber> subscribers, OrderStatusEvent event) {
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, event);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, OrderStatusEvent event) {
+        // 버퍼가 가득 찼다면 이벤트를 따라가지 못하는 구독자이므로 연결 종료 (클라이언트는 재연결 후 조회 API 로 동기화)
+        if (!subscriber.buffer.offer(event)) {
+            log.warn("SSE 구독자가 이벤트를 따라가지 못해 연결을 종료합니다. key={}", subscriber.key);
+            evict(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    // 구독자별로 한 번에 하나의 스레드만 전송하도록 보장
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            OrderStatusEvent event;
+            while (!subscriber.closed.get() && (event = subscriber.buffer.poll()) != null) {
+                if (subscriber.isOlderThanDelivered(event)) {
+                    continue;
+                }
+                subscriber.sendStartedAt = clock.getAsLong();
+                try {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(subscriber.sequence.incrementAndGet()))
+                            .name(EVENT_NAME)
+                            .data(event));
+                } catch (IOException | IllegalStateException e) {
+                    evict(subscriber);
+                    return;
+                } finally {
+                    subscriber.sendStartedAt = 0;
+                }
+            }
+            subscriber.draining.set(false);
+            // 전송 종료 직후 들어온 이벤트가 있으면 다시 전송
+        } while (!subscriber.closed.get() && !subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscriber.buffer.clear();
+        subscriber.subscribers.computeIfPresent(subscriber.key, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        return true;
+    }
+
+    // 전송 중인 구독자 수만큼 늘어나고, 쉬는 스레드는 60초 후 정리되는 스레드 풀
+    // 막힌 전송은 그 구독자의 스레드 하나만 붙잡으며, 제한 시간이 지나면 연결이 종료되어 새 이벤트를 받지 않음
+    private static ExecutorService newDispatcher() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "order-sse-dispatcher-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static ScheduledExecutorService newSendWatchdog() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-sse-send-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static final class Subscriber {
+        private final Map<Long, Set<Subscriber>> subscribers;
+        private final Long key;
+        private final SseEmitter emitter;
+        private final BlockingQueue<OrderStatusEvent> buffer = new ArrayBlockingQueue<>(SUBSCRIBER_BUFFER_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        // 주문 구독자만 순서 비교 (가게 구독자는 여러 주문의 이벤트를 받으므로 발생 일시가 서로 비교 대상이 아님)
+        private final boolean inOrder;
+        // 마지막으로 전송한 이벤트의 발생 일시 (전송은 구독자별로 한 스레드만 수행)
+        private LocalDateTime lastDeliveredAt;
+        // 진행 중인 전송의 시작 시각 (0 이면 전송 중이 아님)
+        private volatile long sendStartedAt;
+
+        private Subscriber(Map<Long, Set<Subscriber>> subscribers, Long key, SseEmitter emitter, boolean inOrder) {
+            this.subscribers = subscribers;
+            this.key = key;
+            this.emitter = emitter;
+            this.inOrder = inOrder;
+        }
+
+        // 이미 전송한 이벤트보다 오래된 이벤트인지 확인 (아니면 전송할 이벤트로 기록)
+        private boolean isOlderThanDelivered(OrderStatusEvent event) {
+            if (!inOrder || event.getOccurredAt() == null) {
+                return false;
+            }
+            if (lastDeliveredAt != null && event.getOccurredAt().isBefore(lastDeliveredAt)) {
+                return true;
+            }
+            lastDeliveredAt = event.getOccurredAt();
+            return false;
+        }
+    }
+}
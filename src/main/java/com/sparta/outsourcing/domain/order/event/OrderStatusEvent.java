@@ -0,0 +1,34 @@
+package com.sparta.outsourcing.domain.order.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 주문 생성, 주문 상태 변경 이벤트 (트랜잭션 커밋 이후 SSE 구독자, 감사 저널에 전달)
+// 이전 상태, 변경한 유저 정보는 감사 저널 기록용으로 SSE 로는 전송하지 않음
+@Getter
+@AllArgsConstructor
+public class OrderStatusEvent {
+    private Long orderId;
+    private Long storeId;
+    private Long customerId;
+    private OrderStatus status;
+    private LocalDateTime occurredAt;
+
+    @JsonIgnore
+    private OrderStatus previousStatus; // 주문 생성이면 null
+
+    @JsonIgnore
+    private Long actorId; // 자동 취소 등 시스템 변경이면 null
+
+    @JsonIgnore
+    private UserRole actorRole;
+
+    public OrderStatusEvent(Long orderId, Long storeId, Long customerId, OrderStatus status, LocalDateTime occurredAt) {
+        this(orderId, storeId, customerId, status, occurredAt, null, null, null);
+    }
+}
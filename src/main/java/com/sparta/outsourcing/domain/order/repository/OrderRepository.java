@@ -1,7 +1,136 @@
 package com.sparta.outsourcing.domain.order.repository;
 
+import com.sparta.outsourcing.domain.order.dto.response.OwnerOrderSummaryDto;
 import com.sparta.outsourcing.domain.order.entity.Orders;
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Orders, Long> {
-}
\ No newline at end of file
+
+    // 주문 생성에 필요한 메뉴 전체(가게, 사장님 포함)와 고객을 한 번의 조회로 가져옵니다 (메뉴 ID IN 조건)
+    // 해당 가게의 메뉴만 조회되므로, 결과 행 수가 메뉴 ID 수보다 적으면 없는 메뉴가 있는 것입니다 ([0] = Menu, [1] = User)
+    @Query("SELECT m, u FROM Menu m JOIN FETCH m.store s JOIN FETCH s.owner, User u " +
+            "WHERE m.id IN :menuIds AND s.id = :storeId AND u.id = :customerId")
+    List<Object[]> findOrderPlacement(
+            @Param("storeId") Long storeId,
+            @Param("menuIds") Collection<Long> menuIds,
+            @Param("customerId") Long customerId
+    );
+
+    // 주문과 고객, 가게(사장님 포함), 메뉴, 주문 메뉴 전체를 한 번에 조회합니다
+    @Query("SELECT o FROM Orders o JOIN FETCH o.customer JOIN FETCH o.store s JOIN FETCH s.owner JOIN FETCH o.menu " +
+            "LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.menu " +
+            "WHERE o.id = :orderId")
+    Optional<Orders> findWithDetailsById(@Param("orderId") Long orderId);
+
+    // 멱등성 키로 주문과 고객, 가게, 메뉴, 주문 메뉴 전체를 한 번에 조회합니다
+    @Query("SELECT o FROM Orders o JOIN FETCH o.customer JOIN FETCH o.store JOIN FETCH o.menu " +
+            "LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.menu " +
+            "WHERE o.idempotencyKey = :idempotencyKey")
+    Optional<Orders> findWithDetailsByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
+    // 현재 상태가 from 인 경우에만 to 로 변경합니다 (compare-and-set), 변경된 행 수를 반환합니다
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Orders o SET o.status = :to, o.modifiedAt = :modifiedAt WHERE o.id = :orderId AND o.status = :from")
+    int updateStatusIfCurrent(
+            @Param("orderId") Long orderId,
+            @Param("from") OrderStatus from,
+            @Param("to") OrderStatus to,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
+
+    // 주문 ID 목록의 상태, 가게 사장님 ID 를 한 번에 조회하고, 트랜잭션이 끝날 때까지 다른 요청이 바꾸지 못하도록 잠급니다
+    // (상태 일괄 변경 권한 검증용, [0] = 주문 ID, [1] = 상태, [2] = 가게 ID, [3] = 사장님 ID, [4] = 고객 ID)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id, o.status, s.id, s.owner.id, o.customer.id FROM Orders o JOIN o.store s WHERE o.id IN :orderIds")
+    List<Object[]> findStatusOwnersForUpdate(@Param("orderIds") Collection<Long> orderIds);
+
+    // 주문 ID 목록 중 현재 상태가 froms 중 하나인 주문만 to 로 한 번에 변경합니다, 변경된 행 수를 반환합니다
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Orders o SET o.status = :to, o.modifiedAt = :modifiedAt WHERE o.id IN :orderIds AND o.status IN :froms")
+    int updateStatusIfCurrentIn(
+            @Param("orderIds") Collection<Long> orderIds,
+            @Param("froms") Collection<OrderStatus> froms,
+            @Param("to") OrderStatus to,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
+
+    // 주문 ID 목록 중 현재 상태가 from 이고 cutoff 이전에 생성된 주문만 to 로 한 번에 변경합니다, 변경된 행 수를 반환합니다
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Orders o SET o.status = :to, o.modifiedAt = :modifiedAt " +
+            "WHERE o.id IN :orderIds AND o.status = :from AND o.createdAt <= :cutoff")
+    int updateStatusIfCreatedBefore(
+            @Param("orderIds") Collection<Long> orderIds,
+            @Param("from") OrderStatus from,
+            @Param("to") OrderStatus to,
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("modifiedAt") LocalDateTime modifiedAt
+    );
+
+    // 주문 ID 목록 중 해당 상태이고 cutoff 이전에 생성된 주문의 가게, 고객 ID 를 조회하고, 트랜잭션이 끝날 때까지 잠급니다
+    // ([0] = 주문 ID, [1] = 가게 ID, [2] = 고객 ID)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id, o.store.id, o.customer.id FROM Orders o " +
+            "WHERE o.id IN :orderIds AND o.status = :status AND o.createdAt <= :cutoff")
+    List<Object[]> findInStatusCreatedBeforeForUpdate(
+            @Param("orderIds") Collection<Long> orderIds,
+            @Param("status") OrderStatus status,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+
+    // 주문 ID 목록 중 cutoff 이전부터 해당 상태에 머물러 있는 주문 ID
+    @Query("SELECT o.id FROM Orders o WHERE o.id IN :orderIds AND o.status = :status AND o.modifiedAt <= :cutoff")
+    List<Long> findIdsInStatusSince(
+            @Param("orderIds") Collection<Long> orderIds,
+            @Param("status") OrderStatus status,
+            @Param("cutoff") LocalDateTime cutoff
+    );
+
+    // 해당 상태들의 주문 ID, 상태, 최종 변경 일시를 id 순으로 조회 (afterId 이후, 마감 시각 재적재용)
+    // ([0] = 주문 ID, [1] = 상태, [2] = 최종 변경 일시)
+    @Query("SELECT o.id, o.status, o.modifiedAt FROM Orders o " +
+            "WHERE o.status IN :statuses AND o.id > :afterId ORDER BY o.id ASC")
+    List<Object[]> findStatusTimesAfter(
+            @Param("statuses") Collection<OrderStatus> statuses,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    // 사장님 주문 현황판 첫 페이지 조회 (생성일시, id 오름차순)
+    @Query("SELECT new com.sparta.outsourcing.domain.order.dto.response.OwnerOrderSummaryDto(" +
+            "o.id, o.customer.id, m.id, m.name, o.status, o.totalPrice, o.createdAt) " +
+            "FROM Orders o JOIN o.menu m " +
+            "WHERE o.store.id = :storeId AND o.status = :status " +
+            "ORDER BY o.createdAt ASC, o.id ASC")
+    List<OwnerOrderSummaryDto> findOwnerBoardFirstPage(
+            @Param("storeId") Long storeId,
+            @Param("status") OrderStatus status,
+            Pageable pageable
+    );
+
+    // 사장님 주문 현황판 다음 페이지 조회 (커서의 생성일시, id 이후의 주문만 조회)
+    @Query("SELECT new com.sparta.outsourcing.domain.order.dto.response.OwnerOrderSummaryDto(" +
+            "o.id, o.customer.id, m.id, m.name, o.status, o.totalPrice, o.createdAt) " +
+            "FROM Orders o JOIN o.menu m " +
+            "WHERE o.store.id = :storeId AND o.status = :status " +
+            "AND (o.createdAt > :afterCreatedAt OR (o.createdAt = :afterCreatedAt AND o.id > :afterId)) " +
+            "ORDER BY o.createdAt ASC, o.id ASC")
+    List<OwnerOrderSummaryDto> findOwnerBoardPageAfter(
+            @Param("storeId") Long storeId,
+            @Param("status") OrderStatus status,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,49 @@
+package com.sparta.outsourcing.domain.order.service;
+
+import com.sparta.outsourcing.domain.order.audit.OrderAuditJournal;
+import com.sparta.outsourcing.domain.order.audit.OrderAuditRecord;
+import com.sparta.outsourcing.domain.order.dto.response.OrderAuditResponseDto;
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+@Service
+@AllArgsConstructor
+public class OrderAuditService {
+
+    private final OrderAuditJournal orderAuditJournal;
+    private final OrderService orderService;
+
+    // 주문 이력 조회 (사장님) ==================================================================================
+    // DB 가 아닌 감사 저널에서 주문 생성부터 모든 상태 변경을 순서대로 조회합니다
+    public List<OrderAuditResponseDto> getOrderHistory(Long orderId, Long ownerId, UserRole userRole) {
+        List<OrderAuditRecord> history = orderAuditJournal.historyOf(orderId);
+        if (history.isEmpty()) {
+            throw new ApplicationException(ErrorCode.ORDER_NOT_FOUND);
+        }
+
+        // 권한 검증: 사장님만 자신의 가게 주문 이력을 조회할 수 있음
+        orderService.validateStoreOwner(history.get(0).storeId(), ownerId, userRole);
+
+        return history.stream().map(OrderAuditResponseDto::from).toList();
+    }
+
+    // 가게 일별 주문 이력 조회 (사장님) =========================================================================
+    public List<OrderAuditResponseDto> getStoreHistory(Long storeId, LocalDate date, Long ownerId, UserRole userRole) {
+        orderService.validateStoreOwner(storeId, ownerId, userRole);
+
+        ZoneId zone = ZoneId.systemDefault();
+        long from = date.atStartOfDay(zone).toInstant().toEpochMilli();
+        long to = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+
+        return orderAuditJournal.storeHistory(storeId, from, to).stream()
+                .map(OrderAuditResponseDto::from)
+                .toList();
+    }
+}
@@ -0,0 +1,86 @@
+package com.sparta.outsourcing.domain.order.service;
+
+import com.sparta.outsourcing.domain.order.dto.request.OrderItemRequestDto;
+import com.sparta.outsourcing.domain.order.dto.request.OrderRequestDto;
+import com.sparta.outsourcing.domain.order.dto.response.OrderItemResponseDto;
+import com.sparta.outsourcing.domain.order.dto.response.OrderResponseDto;
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// 멱등성 키(Idempotency-Key)를 사용하는 주문 생성 로직
+// 같은 키로 재요청하면 검증, 저장을 다시 하지 않고 처음 생성된 주문 응답을 그대로 반환합니다
+@Service
+@AllArgsConstructor
+public class OrderIdempotencyService {
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
+    private final OrderService orderService;
+    private final OrderIdempotencyStore orderIdempotencyStore;
+
+    // 주문 생성 로직 (트랜잭션 밖에서 중복 요청을 처리하고, 실제 생성은 OrderService 트랜잭션에서 수행)
+    // userId 는 요청 본문이 아닌 JwtFilter 에서 검증한 토큰의 유저 ID
+    public OrderResponseDto createOrder(OrderRequestDto orderRequestDto, UserRole userRole, Long userId, String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new ApplicationException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        // 다른 고객의 키와 겹치지 않도록 인증된 유저 ID 로 구분
+        String scopedKey = userId + ":" + idempotencyKey;
+
+        OrderResponseDto responseDto = orderIdempotencyStore.execute(scopedKey, () -> orderService.findOrderByIdempotencyKey(scopedKey)
+                .orElseGet(() -> createOrReplay(orderRequestDto, userRole, scopedKey)));
+
+        // 같은 키로 다른 주문(가게, 메뉴, 수량)을 요청한 경우 처음 생성된 주문을 반환하지 않고 거부
+        if (!isSameOrder(orderRequestDto, responseDto)) {
+            throw new ApplicationException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        return responseDto;
+    }
+
+    private OrderResponseDto createOrReplay(OrderRequestDto orderRequestDto, UserRole userRole, String scopedKey) {
+        try {
+            return orderService.createOrder(orderRequestDto, userRole, scopedKey);
+        } catch (DataIntegrityViolationException e) {
+            // 메모리 저장소를 거치지 않은 요청(다른 서버 등)이 먼저 저장한 경우, 유니크 제약으로 걸러진 주문을 반환
+            return orderService.findOrderByIdempotencyKey(scopedKey)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    // 요청한 가게, 메뉴별 수량이 생성된 주문과 같은지 확인 (메뉴별 수량은 OrderService 와 같은 방식으로 합산)
+    private static boolean isSameOrder(OrderRequestDto orderRequestDto, OrderResponseDto responseDto) {
+        if (!Objects.equals(orderRequestDto.getStoreId(), responseDto.getStoreId())) {
+            return false;
+        }
+
+        Map<Long, Integer> requested = new HashMap<>();
+        List<OrderItemRequestDto> items = orderRequestDto.getItems();
+        if (items == null || items.isEmpty()) {
+            requested.put(orderRequestDto.getMenuId(), 1);
+        } else {
+            for (OrderItemRequestDto item : items) {
+                requested.merge(item.getMenuId(), item.getQuantity() == null ? 1 : item.getQuantity(), Integer::sum);
+            }
+        }
+
+        Map<Long, Integer> ordered = new HashMap<>();
+        if (responseDto.getItems() == null || responseDto.getItems().isEmpty()) {
+            ordered.put(responseDto.getMenuId(), 1);
+        } else {
+            for (OrderItemResponseDto item : responseDto.getItems()) {
+                ordered.merge(item.getMenuId(), item.getQuantity(), Integer::sum);
+            }
+        }
+        return requested.equals(ordered);
+    }
+}
@@ -0,0 +1,133 @@
+package com.sparta.outsourcing.domain.order.service;
+
+import com.sparta.outsourcing.domain.order.dto.response.OrderResponseDto;
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// 멱등성 키별 주문 생성 결과 저장소 (최대 개수, 만료 시간이 있는 메모리 저장소)
+// 같은 키로 동시에 들어온 요청은 먼저 들어온 요청의 결과를 기다렸다가 같은 응답을 받습니다
+@Component
+public class OrderIdempotencyStore {
+
+    private static final int DEFAULT_MAX_ENTRIES = 10_000;
+    private static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long DEFAULT_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final long waitMillis;
+    private final LongSupplier clock;
+
+    public OrderIdempotencyStore() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TTL_MILLIS, DEFAULT_WAIT_MILLIS, System::currentTimeMillis);
+    }
+
+    OrderIdempotencyStore(int maxEntries, long ttlMillis, long waitMillis, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.waitMillis = waitMillis;
+        this.clock = clock;
+    }
+
+    // 키에 저장된 결과가 있으면 그대로 반환하고, 없으면 action 을 한 번만 실행하여 결과를 저장
+    public OrderResponseDto execute(String key, Supplier<OrderResponseDto> action) {
+        while (true) {
+            Entry entry = new Entry();
+            Entry existing = entries.putIfAbsent(key, entry);
+
+            // 만료된 결과는 새 요청으로 교체
+            if (existing != null && existing.isExpired(clock.getAsLong())) {
+                if (!entries.replace(key, existing, entry)) {
+                    continue;
+                }
+                existing = null;
+            }
+
+            if (existing == null) {
+                evictIfFull();
+                return run(key, entry, action);
+            }
+
+            OrderResponseDto result = await(existing);
+            if (result != null) {
+                return result;
+            }
+            // 먼저 들어온 요청이 실패한 경우 다시 시도
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private OrderResponseDto run(String key, Entry entry, Supplier<OrderResponseDto> action) {
+        boolean completed = false;
+        try {
+            OrderResponseDto result = action.get();
+            entry.expiresAt = clock.getAsLong() + ttlMillis;
+            entry.result.complete(result);
+            completed = true;
+            return result;
+        } finally {
+            // 실패한 요청은 저장하지 않음 (Error 를 포함한 모든 실패, 대기 중인 요청이 다시 시도)
+            if (!completed) {
+                entries.remove(key, entry);
+                entry.result.complete(null);
+            }
+        }
+    }
+
+    private OrderResponseDto await(Entry entry) {
+        try {
+            return entry.result.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ApplicationException(ErrorCode.ORDER_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApplicationException(ErrorCode.ORDER_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    // 최대 개수를 넘으면 만료된 결과부터 정리하고, 그래도 넘으면 가장 오래된 완료 결과를 정리
+    private void evictIfFull() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        int overflow = entries.size() - maxEntries;
+        if (overflow <= 0) {
+            return;
+        }
+        entries.entrySet().stream()
+                .filter(e -> e.getValue().result.isDone())
+                .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt))
+                .limit(Math.max(overflow, maxEntries / 10))
+                .forEach(e -> entries.remove(e.getKey(), e.getValue()));
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<OrderResponseDto> result = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        private boolean isExpired(long now) {
+            return result.isDone() && expiresAt <= now;
+        }
+    }
+}
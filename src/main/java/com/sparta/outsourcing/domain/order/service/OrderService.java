@@ -1,9 +1,16 @@
 package com.sparta.outsourcing.domain.order.service;
 
 import com.sparta.outsourcing.domain.menu.entity.Menu;
+import com.sparta.outsourcing.domain.order.dto.request.OrderItemRequestDto;
 import com.sparta.outsourcing.domain.order.dto.request.OrderRequestDto;
+import com.sparta.outsourcing.domain.order.dto.response.OrderItemResponseDto;
 import com.sparta.outsourcing.domain.order.dto.response.OrderResponseDto;
+import com.sparta.outsourcing.domain.order.dto.response.OrderStatusBatchResponseDto;
+import com.sparta.outsourcing.domain.order.dto.response.OrderStatusRejectionDto;
+import com.sparta.outsourcing.domain.order.dto.response.OwnerOrderPageResponseDto;
+import com.sparta.outsourcing.domain.order.dto.response.OwnerOrderSummaryDto;
 import com.sparta.outsourcing.domain.order.entity.Orders;
+import com.sparta.outsourcing.domain.order.event.OrderStatusEvent;
 import com.sparta.outsourcing.domain.store.entity.Store;
 import com.sparta.outsourcing.domain.user.entity.User;
 import com.sparta.outsourcing.domain.order.enums.OrderStatus;
@@ -12,16 +19,28 @@ import com.sparta.outsourcing.exception.ApplicationException;
 import com.sparta.outsourcing.exception.ErrorCode;
 import com.sparta.outsourcing.domain.order.repository.OrderRepository;
 import com.sparta.outsourcing.domain.store.repository.StoreRepository;
+import com.sparta.outsourcing.domain.store.service.StoreHoursIndex;
 import com.sparta.outsourcing.domain.user.repository.UserRepository;
-import com.sparta.outsourcing.domain.menu.repository.MenuRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.Collections;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @AllArgsConstructor
@@ -30,11 +49,29 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
-    private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StoreHoursIndex storeHoursIndex;
+
+    // 사장님 주문 현황판 한 페이지 최대 조회 건수, 커서(생성일시_id) 구분자
+    private static final int MAX_ORDER_BOARD_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = "_";
+
+    // 한 주문에 담을 수 있는 메뉴 종류 수, 메뉴별 최대 수량
+    private static final int MAX_ORDER_ITEMS = 50;
+    private static final int MAX_ITEM_QUANTITY = 99;
+
+    // 주문 상태 일괄 변경 최대 주문 수
+    private static final int MAX_ORDER_STATUS_BATCH_SIZE = 100;
 
     // 주문 생성 로직 ========================================================================================
     @Transactional
     public OrderResponseDto createOrder(OrderRequestDto orderRequestDto, UserRole userRole) {
+        return createOrder(orderRequestDto, userRole, null);
+    }
+
+    // 멱등성 키와 함께 주문 생성 (키 중복 처리는 OrderIdempotencyService 에서 수행)
+    @Transactional
+    public OrderResponseDto createOrder(OrderRequestDto orderRequestDto, UserRole userRole, String idempotencyKey) {
 
         // 사장님이 주문요청을 하는 경우 예외 처리
         if (userRole.equals(UserRole.OWNER)) {
@@ -43,26 +80,62 @@ public class OrderService {
 
         validateOrderCreationRequest(orderRequestDto);
 
-        validateStoreOpenStatus(orderRequestDto.getStoreId());
+        // 주문 메뉴 ID 별 수량 (장바구니 주문이 아니면 menuId 1개)
+        Map<Long, Integer> quantities = getOrderQuantities(orderRequestDto);
 
-        Store store = getValidStore(orderRequestDto.getStoreId());
-        User customer = getValidCustomer(orderRequestDto.getCustomerId());
-        Menu menu = getValidMenu(orderRequestDto.getMenuId());
+        // 가게(사장님 포함), 주문 메뉴 전체, 고객을 한 번의 조회로 가져옴
+        List<Object[]> placements = getValidOrderPlacement(
+                orderRequestDto.getStoreId(), quantities.keySet(), orderRequestDto.getCustomerId());
+        Map<Long, Menu> menus = new HashMap<>();
+        for (Object[] placement : placements) {
+            Menu menu = (Menu) placement[0];
+            menus.put(menu.getId(), menu);
+        }
+        User customer = (User) placements.get(0)[1];
+        Store store = ((Menu) placements.get(0)[0]).getStore();
 
-        validateOrderAmount(orderRequestDto.getTotalPrice(), store);
+        validateStoreOpenStatus(store);
 
         Orders order = new Orders();
         order.setCustomer(customer);
         order.setStore(store);
-        order.setMenu(menu);
         order.setStatus(orderRequestDto.getStatus());
-        order.setTotalPrice(orderRequestDto.getTotalPrice());
+        order.setIdempotencyKey(idempotencyKey);
+
+        // 주문 금액은 요청 값이 아닌 메뉴 가격 * 수량의 합으로 계산
+        long totalPrice = 0;
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            Menu menu = menus.get(line.getKey());
+            order.addItem(menu, line.getValue());
+            totalPrice += menu.getPrice() * line.getValue();
+        }
+        if (totalPrice > Integer.MAX_VALUE) {
+            throw new ApplicationException(ErrorCode.INVALID_ORDER_ITEM);
+        }
+
+        validateOrderAmount((int) totalPrice, store);
+
+        // 대표 메뉴 (첫 번째 주문 메뉴)
+        order.setMenu(menus.get(quantities.keySet().iterator().next()));
+        order.setTotalPrice((int) totalPrice);
 
         Orders savedOrder = orderRepository.save(order);
 
+        // 커밋 이후 가게, 주문 구독자에게 전달
+        eventPublisher.publishEvent(new OrderStatusEvent(
+                savedOrder.getId(), store.getId(), customer.getId(), savedOrder.getStatus(), LocalDateTime.now(),
+                null, customer.getId(), userRole));
+
         return mapToResponseDto(savedOrder);
     }
 
+    // 멱등성 키로 생성된 주문 조회 (재요청 시 처음 생성된 주문 응답 반환)
+    @Transactional(readOnly = true)
+    public Optional<OrderResponseDto> findOrderByIdempotencyKey(String idempotencyKey) {
+        return orderRepository.findWithDetailsByIdempotencyKey(idempotencyKey)
+                .map(this::mapToResponseDto);
+    }
+
     // 주문 생성 검증 메서드 ===================================================================================
     private void validateOrderCreationRequest(OrderRequestDto orderRequestDto) {
         if (orderRequestDto.getStatus() != OrderStatus.ORDER_PLACED) {
@@ -82,10 +155,49 @@ public class OrderService {
                 .orElseThrow(() -> new ApplicationException(ErrorCode.USER_NOT_FOUND));
     }
 
-    // 메뉴 유효성 검증 및 조회 메서드 ========================================================================
-    private Menu getValidMenu(Long menuId) {
-        return menuRepository.findById(menuId)
-                .orElseThrow(() -> new ApplicationException(ErrorCode.MENU_NOT_FOUND));
+    // 주문 메뉴 수량 검증 메서드 ============================================================================
+    // 같은 메뉴가 여러 번 담긴 경우 수량을 합산하고, 담은 순서를 유지합니다
+    private Map<Long, Integer> getOrderQuantities(OrderRequestDto orderRequestDto) {
+        List<OrderItemRequestDto> items = orderRequestDto.getItems();
+        if (items == null || items.isEmpty()) {
+            if (orderRequestDto.getMenuId() == null) {
+                throw new ApplicationException(ErrorCode.INVALID_ORDER_ITEM);
+            }
+            items = List.of(new OrderItemRequestDto(orderRequestDto.getMenuId(), 1));
+        }
+
+        if (items.size() > MAX_ORDER_ITEMS) {
+            throw new ApplicationException(ErrorCode.INVALID_ORDER_ITEM);
+        }
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItemRequestDto item : items) {
+            Integer quantity = item.getQuantity() == null ? 1 : item.getQuantity();
+            if (item.getMenuId() == null || quantity < 1 || quantity > MAX_ITEM_QUANTITY) {
+                throw new ApplicationException(ErrorCode.INVALID_ORDER_ITEM);
+            }
+            int merged = quantities.merge(item.getMenuId(), quantity, Integer::sum);
+            if (merged > MAX_ITEM_QUANTITY) {
+                throw new ApplicationException(ErrorCode.INVALID_ORDER_ITEM);
+            }
+        }
+        return quantities;
+    }
+
+    // 주문 생성 대상 유효성 검증 및 조회 메서드 ===========================================================
+    // 주문 메뉴 ID 전체를 IN 조건으로 한 번에 조회하며, 조회된 메뉴 수가 다를 때만 원인(가게/고객/메뉴)을 구분하기 위해 추가 조회를 수행합니다
+    private List<Object[]> getValidOrderPlacement(Long storeId, Set<Long> menuIds, Long customerId) {
+        List<Object[]> placements = orderRepository.findOrderPlacement(storeId, menuIds, customerId);
+
+        if (placements.size() == menuIds.size()) {
+            return placements;
+        }
+
+        getValidStore(storeId);
+        getValidCustomer(customerId);
+
+        // 메뉴가 없거나 해당 가게의 메뉴가 아닌 경우
+        throw new ApplicationException(ErrorCode.MENU_NOT_FOUND);
     }
 
     // 주문 금액 및 가게 상태 검증 메서드 =====================================================================
@@ -98,10 +210,29 @@ public class OrderService {
     }
 
     // 가게 영업 시간 검증 메서드 ==============================================================================
+    // 영업 시간 인덱스로 먼저 확인하고, 인덱스에 없는 가게만 DB 에서 조회하여 확인합니다
     public void validateStoreOpenStatus(Long storeId) {
-        Store store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new ApplicationException(ErrorCode.STORE_NOT_FOUND));
+        Boolean isOpen = storeHoursIndex.isOpen(storeId, LocalTime.now());
+        if (isOpen == null) {
+            validateStoreOpenStatus(getValidStore(storeId));
+            return;
+        }
+        if (!isOpen) {
+            throw new ApplicationException(ErrorCode.STORE_CLOSED);
+        }
+    }
+
+    private void validateStoreOpenStatus(Store store) {
         LocalTime now = LocalTime.now();
+
+        Boolean indexed = storeHoursIndex.isOpen(store.getId(), now);
+        if (indexed != null) {
+            if (!indexed) {
+                throw new ApplicationException(ErrorCode.STORE_CLOSED);
+            }
+            return;
+        }
+
         LocalTime openTime = store.getOpenTime();
         LocalTime closeTime = store.getCloseTime();
 
@@ -127,10 +258,11 @@ public class OrderService {
     @Transactional
     public OrderResponseDto updateOrderStatus(Long orderId, OrderStatus status, UserRole userRole, Long userId) {
 
-        Orders order = orderRepository.findById(orderId)
+        // 고객, 가게(사장님 포함), 메뉴를 함께 조회하여 상태 변경 이후 지연 로딩이 발생하지 않도록 함
+        Orders order = orderRepository.findWithDetailsById(orderId)
                 .orElseThrow(() -> new ApplicationException(ErrorCode.ORDER_NOT_FOUND));
 
-        // 주문 취소가 아닌 경우, 사장님만 상태 변경 가능
+        // 주문 취소가 아닌 경우, 사장님만 상태 변경 가능 (주문 상태, 주문자를 확인하기 전에 거부)
         if (!userRole.equals(UserRole.OWNER) && status != OrderStatus.ORDER_CANCELED) {
             throw new ApplicationException(ErrorCode.ORDER_STATUS_CHANGE_FORBIDDEN);
         }
@@ -140,77 +272,154 @@ public class OrderService {
             throw new ApplicationException(ErrorCode.INVALID_OWNER_FOR_ORDER);
         }
 
-        // 고객이 주문을 취소하려는 경우, 해당 고객이 맞는지 검증
-        if (status == OrderStatus.ORDER_CANCELED && !order.getCustomer().getId().equals(userId)) {
+        // 고객인 경우, 본인의 주문이 맞는지 검증 (다른 고객의 주문 상태가 드러나지 않도록 상태 검증보다 먼저)
+        if (userRole.equals(UserRole.USER) && !order.getCustomer().getId().equals(userId)) {
             throw new ApplicationException(ErrorCode.INVALID_USER_FOR_ORDER);
         }
 
-        // 이미 해당 상태로 변경된 경우 예외 처리
-        if (order.getStatus().equals(status)) {
-            throw new ApplicationException(ErrorCode.ALREADY_ORDER_STATUS);
+        // 권한, 현재 상태, 변경할 상태 조합으로 상태 전환 규칙 검증
+        OrderStatus currentStatus = order.getStatus();
+        ErrorCode rejection = OrderStatusTransitions.rejectionOf(userRole, currentStatus, status);
+        if (rejection != null) {
+            throw new ApplicationException(rejection);
         }
 
-        updateOrderStatusSequence(order, status);
+        // 조회 시점의 상태일 때만 변경 (동시에 다른 요청이 상태를 먼저 바꾼 경우 0건 갱신)
+        // 변경 일시는 이벤트 발생 일시와 같게 기록 (SSE 구독 시점의 상태와 이벤트의 선후를 비교하는 기준)
+        LocalDateTime modifiedAt = currentModifiedAt();
+        int updatedCount = orderRepository.updateStatusIfCurrent(orderId, currentStatus, status, modifiedAt);
+        if (updatedCount == 0) {
+            throw new ApplicationException(ErrorCode.ORDER_STATUS_CONFLICT);
+        }
 
-        Orders updatedOrder = orderRepository.save(order);
-        return mapToResponseDto(updatedOrder);
-    }
+        // 갱신 쿼리 실행 후 영속성 컨텍스트가 비워지므로 응답용으로만 상태 반영
+        order.setStatus(status);
 
+        // 커밋 이후 가게, 주문 구독자에게 전달
+        eventPublisher.publishEvent(new OrderStatusEvent(
+                orderId, order.getStore().getId(), order.getCustomer().getId(), status, modifiedAt,
+                currentStatus, userId, userRole));
 
-    // 주문 상태 변경 메소드
-    private void updateOrderStatusSequence(Orders order, OrderStatus status) {
+        return mapToResponseDto(order);
+    }
 
-        // 상태 변경: 주문 접수 → 주문 확인
-        if (order.getStatus() == OrderStatus.ORDER_PLACED && status == OrderStatus.ORDER_CONFIRMED) {
-            order.setStatus(OrderStatus.ORDER_CONFIRMED);
-            return;
-        }
+    // 주문 상태 일괄 변경 로직 (사장님) ========================================================================
+    // 주문 상태와 가게 사장님을 한 번의 조회로 검증하고, 변경 가능한 주문만 한 번의 갱신 쿼리로 변경합니다
+    // 변경되지 않은 주문은 예외 대신 주문별 사유로 응답합니다
+    @Transactional
+    public OrderStatusBatchResponseDto updateOrderStatusBatch(List<Long> orderIds, OrderStatus status, UserRole userRole, Long ownerId) {
 
-        // 상태 변경: 주문 확인 → 주문 준비 중
-        if (order.getStatus() == OrderStatus.ORDER_CONFIRMED && status == OrderStatus.ORDER_PREPARING) {
-            order.setStatus(OrderStatus.ORDER_PREPARING);
-            return;
+        // 주문 상태 일괄 변경은 사장님만 가능
+        if (userRole != UserRole.OWNER) {
+            throw new ApplicationException(ErrorCode.ORDER_STATUS_CHANGE_FORBIDDEN);
         }
-
-        // 상태 변경: 주문 준비 중 → 배달 중
-        if (order.getStatus() == OrderStatus.ORDER_PREPARING && status == OrderStatus.ORDER_ON_THE_WAY) {
-            order.setStatus(OrderStatus.ORDER_ON_THE_WAY);
-            return;
+        if (status == null || orderIds == null || orderIds.isEmpty() || orderIds.size() > MAX_ORDER_STATUS_BATCH_SIZE
+                || orderIds.contains(null)) {
+            throw new ApplicationException(ErrorCode.INVALID_ORDER_BATCH);
         }
 
-        // 상태 변경: 배달 중 → 배달 완료
-        if (order.getStatus() == OrderStatus.ORDER_ON_THE_WAY && status == OrderStatus.ORDER_DELIVERED) {
-            order.setStatus(OrderStatus.ORDER_DELIVERED);
-            return;
+        // 중복 ID 는 한 번만 처리 (요청 순서 유지)
+        Set<Long> requestedIds = new LinkedHashSet<>(orderIds);
+
+        // 검증한 상태가 갱신 전에 바뀌지 않도록 주문을 잠그고 조회 (트랜잭션 종료 시 해제)
+        Map<Long, Object[]> rows = new HashMap<>();
+        for (Object[] row : orderRepository.findStatusOwnersForUpdate(requestedIds)) {
+            rows.put((Long) row[0], row);
         }
 
-        // 주문 취소 처리
-        if (status == OrderStatus.ORDER_CANCELED) {
-            if (order.getStatus() == OrderStatus.ORDER_PLACED) {
-                order.setStatus(OrderStatus.ORDER_CANCELED);
-                return;
+        List<Long> validIds = new ArrayList<>();
+        List<OrderStatusRejectionDto> rejected = new ArrayList<>();
+        for (Long orderId : requestedIds) {
+            Object[] row = rows.get(orderId);
+            if (row == null) {
+                rejected.add(OrderStatusRejectionDto.of(orderId, ErrorCode.ORDER_NOT_FOUND));
+                continue;
             }
 
-            if (order.getStatus() == OrderStatus.ORDER_CONFIRMED) {
-                throw new ApplicationException(ErrorCode.INVALID_TRANSITION_FROM_ORDER_CONFIRMED_TO_CANCELLED);
+            // 본인의 가게 주문인지 검증
+            if (!ownerId.equals(row[3])) {
+                rejected.add(OrderStatusRejectionDto.of(orderId, ErrorCode.INVALID_OWNER_FOR_ORDER));
+                continue;
             }
 
-            if (order.getStatus() == OrderStatus.ORDER_PREPARING) {
-                throw new ApplicationException(ErrorCode.INVALID_TRANSITION_FROM_ORDER_PREPARING_TO_CANCELLED);
+            ErrorCode rejection = OrderStatusTransitions.rejectionOf(UserRole.OWNER, (OrderStatus) row[1], status);
+            if (rejection != null) {
+                rejected.add(OrderStatusRejectionDto.of(orderId, rejection));
+                continue;
             }
+            validIds.add(orderId);
+        }
 
-            if (order.getStatus() == OrderStatus.ORDER_ON_THE_WAY) {
-                throw new ApplicationException(ErrorCode.INVALID_TRANSITION_FROM_ORDER_DELIVERED_TO_CANCELLED);
-            }
+        if (validIds.isEmpty()) {
+            return new OrderStatusBatchResponseDto(status, List.of(), rejected);
+        }
 
-            if (order.getStatus() == OrderStatus.ORDER_DELIVERED) {
-                throw new ApplicationException(ErrorCode.INVALID_TRANSITION_FROM_ORDER_DELIVERED_TO_CANCELLED);
+        // 잠근 주문이므로 검증을 통과한 주문은 모두 변경됨 (갱신 쿼리의 상태 조건은 안전장치로 유지)
+        LocalDateTime modifiedAt = currentModifiedAt();
+        int updatedCount = orderRepository.updateStatusIfCurrentIn(
+                validIds, OrderStatusTransitions.sourcesOf(UserRole.OWNER, status), status, modifiedAt);
+
+        List<Long> updatedIds = validIds;
+        if (updatedCount < validIds.size()) {
+            // 같은 트랜잭션에서 상태를 다시 읽어 변경할 상태가 된 주문만 이번 갱신으로 변경된 주문으로 판단
+            // (검증을 통과한 주문은 이미 그 상태가 아니었으므로, 잠금 중에 그 상태가 되었다면 이번 갱신 쿼리가 바꾼 것)
+            Set<Long> changedIds = new HashSet<>();
+            for (Object[] row : orderRepository.findStatusOwnersForUpdate(validIds)) {
+                if (row[1] == status) {
+                    changedIds.add((Long) row[0]);
+                }
+            }
+            updatedIds = new ArrayList<>();
+            for (Long orderId : validIds) {
+                if (changedIds.contains(orderId)) {
+                    updatedIds.add(orderId);
+                } else {
+                    rejected.add(OrderStatusRejectionDto.of(orderId, ErrorCode.ORDER_STATUS_CONFLICT));
+                }
             }
+        }
+
+        // 커밋 이후 가게, 주문 구독자에게 전달
+        for (Long orderId : updatedIds) {
+            Object[] row = rows.get(orderId);
+            eventPublisher.publishEvent(new OrderStatusEvent(orderId, (Long) row[2], (Long) row[4], status, modifiedAt,
+                    (OrderStatus) row[1], ownerId, userRole));
+        }
+
+        return new OrderStatusBatchResponseDto(status, updatedIds, rejected);
+    }
+
+    // 미확인 주문 자동 취소 로직 ==============================================================================
+    // 주문 접수 상태로 cutoff 이전에 생성된 주문을 잠그고 조회한 뒤 한 번의 갱신 쿼리로 취소하고, 취소된 주문만 구독자에게 전달합니다
+    // 잠근 주문은 트랜잭션이 끝날 때까지 다른 요청(사장님 확인 등)이 바꿀 수 없으므로 조회된 주문이 곧 취소되는 주문입니다
+    @Transactional
+    public int autoCancelStaleOrders(Collection<Long> orderIds, LocalDateTime cutoff) {
+        List<Object[]> stale = orderRepository.findInStatusCreatedBeforeForUpdate(orderIds, OrderStatus.ORDER_PLACED, cutoff);
+        if (stale.isEmpty()) {
+            return 0;
+        }
 
+        List<Long> staleIds = new ArrayList<>(stale.size());
+        for (Object[] row : stale) {
+            staleIds.add((Long) row[0]);
         }
+        LocalDateTime canceledAt = currentModifiedAt();
+        int canceledCount = orderRepository.updateStatusIfCreatedBefore(
+                staleIds, OrderStatus.ORDER_PLACED, OrderStatus.ORDER_CANCELED, cutoff, canceledAt);
+
+        for (Object[] row : stale) {
+            // 시스템 변경이므로 변경한 유저 정보 없음
+            eventPublisher.publishEvent(new OrderStatusEvent(
+                    (Long) row[0], (Long) row[1], (Long) row[2], OrderStatus.ORDER_CANCELED, canceledAt,
+                    OrderStatus.ORDER_PLACED, null, null));
+        }
+        return canceledCount;
+    }
 
-        // 주문 상태 변경 동작에 어긋날 경우 예외 처리
-        throw new ApplicationException(ErrorCode.INVALID_ORDER_STATUS_TRANSITION);
+    // 주문 확인 이후 cutoff 까지 진행되지 않은 주문 ID 조회 (에스컬레이션 대상)
+    @Transactional(readOnly = true)
+    public List<Long> getStaleConfirmedOrderIds(Collection<Long> orderIds, LocalDateTime cutoff) {
+        return orderRepository.findIdsInStatusSince(orderIds, OrderStatus.ORDER_CONFIRMED, cutoff);
     }
 
     // 유저 전용 주문 조회 로직 ====================================================================================
@@ -232,6 +441,17 @@ public class OrderService {
         return mapToResponseDto(order);
     }
 
+    // 주문 구독 시점의 주문 상태 (SSE 첫 이벤트), 발생 일시는 마지막 상태 변경 일시
+    // 구독 등록 이후에 조회하므로 그 사이 변경된 상태가 누락되지 않고, 더 오래된 상태는 OrderEventHub 가 걸러냅니다
+    @Transactional(readOnly = true)
+    public OrderStatusEvent getOrderStatusSnapshot(Long orderId) {
+        Orders order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new ApplicationException(ErrorCode.ORDER_NOT_FOUND));
+        LocalDateTime changedAt = order.getModifiedAt() != null ? order.getModifiedAt() : order.getCreatedAt();
+        return new OrderStatusEvent(order.getId(), order.getStore().getId(), order.getCustomer().getId(),
+                order.getStatus(), changedAt);
+    }
+
     // 사장님 전용 주문 조회 로직 ==================================================================================
     @Transactional(readOnly = true)
     public OrderResponseDto getOrderByOwner(Long orderId, Long ownerId, UserRole userRole) {
@@ -246,6 +466,68 @@ public class OrderService {
         return mapToResponseDto(order);
     }
 
+    // 사장님 주문 현황판 조회 로직 ================================================================================
+    // 생성일시, id 기준 키셋 페이지네이션으로 가게의 특정 상태 주문을 한 번에 조회합니다
+    @Transactional(readOnly = true)
+    public OwnerOrderPageResponseDto getOrderBoard(Long storeId, OrderStatus status, String after, int size, Long ownerId, UserRole userRole) {
+
+        validateStoreOwner(storeId, ownerId, userRole);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        int pageSize = Math.min(Math.max(size, 1), MAX_ORDER_BOARD_PAGE_SIZE);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<OwnerOrderSummaryDto> orders;
+        if (after == null || after.isBlank()) {
+            orders = orderRepository.findOwnerBoardFirstPage(storeId, status, limit);
+        } else {
+            int separator = after.lastIndexOf(CURSOR_SEPARATOR);
+            LocalDateTime afterCreatedAt;
+            Long afterId;
+            try {
+                afterCreatedAt = LocalDateTime.parse(after.substring(0, separator));
+                afterId = Long.parseLong(after.substring(separator + 1));
+            } catch (DateTimeParseException | IndexOutOfBoundsException | NumberFormatException e) {
+                throw new ApplicationException(ErrorCode.INVALID_ORDER_CURSOR);
+            }
+            orders = orderRepository.findOwnerBoardPageAfter(storeId, status, afterCreatedAt, afterId, limit);
+        }
+
+        boolean hasNext = orders.size() > pageSize;
+        if (hasNext) {
+            orders = orders.subList(0, pageSize);
+        }
+
+        // 마지막 주문의 생성일시, id 를 다음 요청의 커서로 사용 (다음 페이지가 없어도 새로 들어온 주문 조회용으로 반환)
+        String nextCursor = after;
+        if (!orders.isEmpty()) {
+            OwnerOrderSummaryDto last = orders.get(orders.size() - 1);
+            nextCursor = last.getCreatedAt() + CURSOR_SEPARATOR + last.getId();
+        }
+
+        return new OwnerOrderPageResponseDto(orders, nextCursor, hasNext);
+    }
+
+    // 가게 주문 접근 권한 검증 메서드 (주문 현황판 조회, 가게 주문 구독) ======================================
+    @Transactional(readOnly = true)
+    public void validateStoreOwner(Long storeId, Long ownerId, UserRole userRole) {
+
+        // 권한 검증: 사장님만 자신의 가게 주문을 조회할 수 있음
+        if (userRole != UserRole.OWNER) {
+            throw new ApplicationException(ErrorCode.ORDER_ACCESS_DENIED);
+        }
+
+        Store store = getValidStore(storeId);
+        if (!store.getOwner().getId().equals(ownerId)) {
+            throw new ApplicationException(ErrorCode.ORDER_ACCESS_DENIED);
+        }
+    }
+
+    // 상태 변경 일시 (DB 에 저장되는 정밀도인 마이크로초로 맞춰 이벤트 발생 일시와 저장된 값이 같도록)
+    private static LocalDateTime currentModifiedAt() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
     // 주문 엔티티 -> 주문 응답 DTO 매핑 ======================================================================
     private OrderResponseDto mapToResponseDto(Orders order) {
         OrderResponseDto responseDto = new OrderResponseDto();
@@ -259,10 +541,14 @@ public class OrderService {
         responseDto.setMenuPrice(order.getMenu().getPrice());
         responseDto.setStatus(order.getStatus());
         responseDto.setTotalPrice(order.getTotalPrice());
+        responseDto.setItems(order.getItems().stream()
+                .map(item -> new OrderItemResponseDto(
+                        item.getMenu().getId(), item.getMenu().getName(), item.getMenuPrice(), item.getQuantity()))
+                .toList());
 
         // 취소 가능 여부 확인
-        responseDto.setCanUserCancel(canUserCancelOrder(order));
-        responseDto.setCanOwnerCancel(canOwnerCancelOrder(order));
+        responseDto.setCanUserCancel(OrderStatusTransitions.canCancel(UserRole.USER, order.getStatus()));
+        responseDto.setCanOwnerCancel(OrderStatusTransitions.canCancel(UserRole.OWNER, order.getStatus()));
 
         // 상태 변경 가능 목록 설정
         responseDto.setAvailableStatusChanges(getAvailableStatusChanges(order.getStatus()));
@@ -270,27 +556,9 @@ public class OrderService {
         return responseDto;
     }
 
-    // 유저가 취소할 수 있는지 확인
-    private boolean canUserCancelOrder(Orders order) {
-        return order.getStatus() == OrderStatus.ORDER_PLACED || order.getStatus() == OrderStatus.ORDER_CONFIRMED;
-    }
-
-    // 사장님이 취소할 수 있는지 확인
-    private boolean canOwnerCancelOrder(Orders order) {
-        return order.getStatus() == OrderStatus.ORDER_PLACED || order.getStatus() == OrderStatus.ORDER_CONFIRMED || order.getStatus() == OrderStatus.ORDER_PREPARING;
-    }
-
-    // 상태 전환 규칙을 미리 정의한 Map
-    private static final Map<OrderStatus, List<OrderStatus>> statusTransitions = Map.of(
-            OrderStatus.ORDER_PLACED, List.of(OrderStatus.ORDER_CONFIRMED),
-            OrderStatus.ORDER_CONFIRMED, List.of(OrderStatus.ORDER_PREPARING),
-            OrderStatus.ORDER_PREPARING, List.of(OrderStatus.ORDER_ON_THE_WAY),
-            OrderStatus.ORDER_ON_THE_WAY, List.of(OrderStatus.ORDER_DELIVERED)
-    );
-
     // 가능한 상태 변경 목록 반환 메서드
     private List<OrderStatus> getAvailableStatusChanges(OrderStatus currentStatus) {
-        return statusTransitions.getOrDefault(currentStatus, Collections.emptyList());
+        return OrderStatusTransitions.availableStatusChanges(currentStatus);
     }
 
 }
\ No newline at end of file
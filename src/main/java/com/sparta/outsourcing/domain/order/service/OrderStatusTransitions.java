@@ -0,0 +1,138 @@
+package com.sparta.outsourcing.domain.order.service;
+
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+import com.sparta.outsourcing.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// 주문 상태 전환 규칙 테이블 (상태 변경 검증, 예외 코드, 취소 가능 여부, 변경 가능 목록이 모두 이 테이블을 기준으로 동작)
+// (권한, 현재 상태, 변경할 상태) 조합을 애플리케이션 시작 시 배열로 미리 계산해두고 검사는 배열 조회로만 수행합니다
+final class OrderStatusTransitions {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final UserRole[] ROLES = UserRole.values();
+
+    // [권한][현재 상태] -> 변경 가능한 상태의 비트마스크 (1 << 변경할 상태.ordinal())
+    private static final int[][] ALLOWED = new int[ROLES.length][STATUSES.length];
+
+    // [권한][현재 상태][변경할 상태] -> 거절 시 예외 코드 (허용되는 전환은 null)
+    private static final ErrorCode[][][] REJECTIONS = new ErrorCode[ROLES.length][STATUSES.length][STATUSES.length];
+
+    // [권한][변경할 상태] -> 해당 상태로 변경할 수 있는 현재 상태 목록
+    private static final List<List<Set<OrderStatus>>> SOURCES = new ArrayList<>(ROLES.length);
+
+    // [현재 상태] -> 사장님이 진행시킬 수 있는 다음 상태 목록 (취소 제외)
+    private static final List<List<OrderStatus>> AVAILABLE_STATUS_CHANGES = new ArrayList<>(STATUSES.length);
+
+    static {
+        // 사장님: 주문 접수 → 주문 확인 → 주문 준비 중 → 배달 중 → 배달 완료
+        allow(UserRole.OWNER, OrderStatus.ORDER_PLACED, OrderStatus.ORDER_CONFIRMED);
+        allow(UserRole.OWNER, OrderStatus.ORDER_CONFIRMED, OrderStatus.ORDER_PREPARING);
+        allow(UserRole.OWNER, OrderStatus.ORDER_PREPARING, OrderStatus.ORDER_ON_THE_WAY);
+        allow(UserRole.OWNER, OrderStatus.ORDER_ON_THE_WAY, OrderStatus.ORDER_DELIVERED);
+
+        // 주문 취소: 고객, 사장님 모두 주문 접수 상태에서만 가능
+        allow(UserRole.OWNER, OrderStatus.ORDER_PLACED, OrderStatus.ORDER_CANCELED);
+        allow(UserRole.USER, OrderStatus.ORDER_PLACED, OrderStatus.ORDER_CANCELED);
+
+        for (UserRole role : ROLES) {
+            for (OrderStatus from : STATUSES) {
+                for (OrderStatus to : STATUSES) {
+                    REJECTIONS[role.ordinal()][from.ordinal()][to.ordinal()] =
+                            isAllowed(role, from, to) ? null : resolveRejection(role, from, to);
+                }
+            }
+        }
+
+        for (OrderStatus from : STATUSES) {
+            List<OrderStatus> changes = new ArrayList<>();
+            for (OrderStatus to : STATUSES) {
+                if (to != OrderStatus.ORDER_CANCELED && isAllowed(UserRole.OWNER, from, to)) {
+                    changes.add(to);
+                }
+            }
+            AVAILABLE_STATUS_CHANGES.add(Collections.unmodifiableList(changes));
+        }
+
+        for (UserRole role : ROLES) {
+            List<Set<OrderStatus>> sources = new ArrayList<>(STATUSES.length);
+            for (OrderStatus to : STATUSES) {
+                Set<OrderStatus> froms = EnumSet.noneOf(OrderStatus.class);
+                for (OrderStatus from : STATUSES) {
+                    if (isAllowed(role, from, to)) {
+                        froms.add(from);
+                    }
+                }
+                sources.add(Collections.unmodifiableSet(froms));
+            }
+            SOURCES.add(sources);
+        }
+    }
+
+    private OrderStatusTransitions() {
+    }
+
+    // 상태 전환 허용 여부
+    static boolean isAllowed(UserRole role, OrderStatus from, OrderStatus to) {
+        return (ALLOWED[role.ordinal()][from.ordinal()] & (1 << to.ordinal())) != 0;
+    }
+
+    // 상태 전환이 거절되는 경우의 예외 코드 (허용되는 전환이면 null)
+    static ErrorCode rejectionOf(UserRole role, OrderStatus from, OrderStatus to) {
+        return REJECTIONS[role.ordinal()][from.ordinal()][to.ordinal()];
+    }
+
+    // 해당 권한으로 주문을 취소할 수 있는지 확인
+    static boolean canCancel(UserRole role, OrderStatus from) {
+        return isAllowed(role, from, OrderStatus.ORDER_CANCELED);
+    }
+
+    // 가능한 상태 변경 목록 (취소 제외)
+    static List<OrderStatus> availableStatusChanges(OrderStatus from) {
+        return AVAILABLE_STATUS_CHANGES.get(from.ordinal());
+    }
+
+    // 해당 권한으로 to 상태로 변경할 수 있는 현재 상태 목록 (상태 일괄 변경 갱신 쿼리 조건)
+    static Set<OrderStatus> sourcesOf(UserRole role, OrderStatus to) {
+        return SOURCES.get(role.ordinal()).get(to.ordinal());
+    }
+
+    private static void allow(UserRole role, OrderStatus from, OrderStatus to) {
+        ALLOWED[role.ordinal()][from.ordinal()] |= 1 << to.ordinal();
+    }
+
+    // 거절 사유별 예외 코드 결정 (테이블 생성 시에만 호출)
+    private static ErrorCode resolveRejection(UserRole role, OrderStatus from, OrderStatus to) {
+        // 주문 취소가 아닌 경우, 사장님만 상태 변경 가능 (현재 상태와 관계없이 같은 예외로 거부해 주문 상태가 드러나지 않도록 먼저 검사)
+        if (role != UserRole.OWNER && to != OrderStatus.ORDER_CANCELED) {
+            return ErrorCode.ORDER_STATUS_CHANGE_FORBIDDEN;
+        }
+
+        // 이미 해당 상태인 경우
+        if (from == to) {
+            return ErrorCode.ALREADY_ORDER_STATUS;
+        }
+
+        if (to == OrderStatus.ORDER_CANCELED) {
+            switch (from) {
+                case ORDER_CONFIRMED:
+                    return ErrorCode.INVALID_TRANSITION_FROM_ORDER_CONFIRMED_TO_CANCELLED;
+                case ORDER_PREPARING:
+                    return ErrorCode.INVALID_TRANSITION_FROM_ORDER_PREPARING_TO_CANCELLED;
+                case ORDER_ON_THE_WAY:
+                case ORDER_DELIVERED:
+                    return ErrorCode.INVALID_TRANSITION_FROM_ORDER_DELIVERED_TO_CANCELLED;
+                default:
+                    break;
+            }
+        }
+
+        // 주문 상태 변경 동작에 어긋날 경우
+        return ErrorCode.INVALID_ORDER_STATUS_TRANSITION;
+    }
+}
@@ -0,0 +1,198 @@
+package com.sparta.outsourcing.domain.order.service;
+
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import com.sparta.outsourcing.domain.order.event.OrderStatusEvent;
+import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// 미확인 주문 자동 취소, 진행되지 않는 주문 에스컬레이션 스케줄러
+// 주문 접수 / 주문 확인 상태의 주문마다 마감 시각을 타이밍 휠에 등록해두고, 1초마다 마감 시각이 지난 주문만 모아 처리합니다
+// 마감 시각이 지난 주문은 상태, 시각 조건을 건 갱신 쿼리로 묶어서 처리하므로, 그 사이 상태가 바뀐 주문은 자연스럽게 제외됩니다
+// 휠은 메모리에만 있으므로 애플리케이션 시작 시 DB 의 주문 접수 / 주문 확인 주문으로 다시 채웁니다
+@Slf4j
+@Component
+public class OrderTimeoutScheduler {
+
+    private static final long TICK_MILLIS = 1000L;
+    private static final long RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final int BATCH_SIZE = 500;
+    private static final int REBUILD_PAGE_SIZE = 10_000;
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final long placedTimeoutMillis;
+    private final long confirmedTimeoutMillis;
+    private final LongSupplier clock;
+
+    // 주문 접수 후 사장님이 확인하지 않은 주문 (자동 취소)
+    private final OrderTimingWheel cancelWheel;
+
+    // 주문 확인 후 다음 단계로 진행되지 않은 주문 (에스컬레이션)
+    private final OrderTimingWheel escalationWheel;
+
+    private ScheduledExecutorService ticker;
+
+    @Autowired
+    public OrderTimeoutScheduler(
+            OrderService orderService,
+            OrderRepository orderRepository,
+            @Value("${order.timeout.placed-minutes:15}") long placedTimeoutMinutes,
+            @Value("${order.timeout.confirmed-minutes:60}") long confirmedTimeoutMinutes
+    ) {
+        this(orderService, orderRepository, TimeUnit.MINUTES.toMillis(placedTimeoutMinutes),
+                TimeUnit.MINUTES.toMillis(confirmedTimeoutMinutes), System::currentTimeMillis);
+    }
+
+    OrderTimeoutScheduler(OrderService orderService, OrderRepository orderRepository,
+                          long placedTimeoutMillis, long confirmedTimeoutMillis, LongSupplier clock) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.placedTimeoutMillis = placedTimeoutMillis;
+        this.confirmedTimeoutMillis = confirmedTimeoutMillis;
+        this.clock = clock;
+        this.cancelWheel = new OrderTimingWheel(TICK_MILLIS, clock.getAsLong());
+        this.escalationWheel = new OrderTimingWheel(TICK_MILLIS, clock.getAsLong());
+    }
+
+    // 애플리케이션 시작 시 마감 시각을 다시 적재한 뒤 틱 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-timeout-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    // 주문 생성, 상태 변경이 커밋된 이후 새 상태의 마감 시각 등록 (이전 상태의 마감 시각은 처리 시 조건에서 걸러짐)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderStatusChanged(OrderStatusEvent event) {
+        register(event.getOrderId(), event.getStatus(), event.getOccurredAt());
+    }
+
+    // DB 의 주문 접수 / 주문 확인 주문을 id 순으로 나누어 조회하여 휠에 등록
+    void rebuild() {
+        long afterId = 0L;
+        int count = 0;
+
+        while (true) {
+            List<Object[]> rows = orderRepository.findStatusTimesAfter(
+                    EnumSet.of(OrderStatus.ORDER_PLACED, OrderStatus.ORDER_CONFIRMED), afterId,
+                    PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (Object[] row : rows) {
+                register((Long) row[0], (OrderStatus) row[1], (LocalDateTime) row[2]);
+            }
+            count += rows.size();
+
+            if (rows.size() < REBUILD_PAGE_SIZE) {
+                break;
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        log.info("주문 마감 시각 재적재 완료: {}건", count);
+    }
+
+    // 마감 시각이 지난 주문 처리 (틱 스레드에서만 호출)
+    void tick() {
+        long now = clock.getAsLong();
+
+        List<Long> cancelTargets = new ArrayList<>();
+        cancelWheel.advanceTo(now, cancelTargets::add);
+        for (List<Long> batch : partition(cancelTargets)) {
+            cancel(batch, now);
+        }
+
+        List<Long> escalationTargets = new ArrayList<>();
+        escalationWheel.advanceTo(now, escalationTargets::add);
+        for (List<Long> batch : partition(escalationTargets)) {
+            escalate(batch, now);
+        }
+    }
+
+    int pendingCount() {
+        return cancelWheel.size() + escalationWheel.size();
+    }
+
+    private void register(Long orderId, OrderStatus status, LocalDateTime since) {
+        if (since == null) {
+            return;
+        }
+        // 밀리초 미만 절삭으로 DB 의 일시보다 먼저 처리되지 않도록 1ms 여유
+        long sinceMillis = since.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + 1;
+
+        if (status == OrderStatus.ORDER_PLACED) {
+            cancelWheel.schedule(orderId, sinceMillis + placedTimeoutMillis);
+        } else if (status == OrderStatus.ORDER_CONFIRMED) {
+            escalationWheel.schedule(orderId, sinceMillis + confirmedTimeoutMillis);
+        }
+    }
+
+    private void cancel(List<Long> orderIds, long now) {
+        try {
+            int canceledCount = orderService.autoCancelStaleOrders(orderIds, toLocalDateTime(now - placedTimeoutMillis));
+            if (canceledCount > 0) {
+                log.info("미확인 주문 자동 취소: {}건", canceledCount);
+            }
+        } catch (RuntimeException e) {
+            // 처리하지 못한 주문은 잠시 후 다시 시도
+            log.error("미확인 주문 자동 취소 실패, {}건을 다시 등록합니다", orderIds.size(), e);
+            orderIds.forEach(orderId -> cancelWheel.schedule(orderId, now + RETRY_DELAY_MILLIS));
+        }
+    }
+
+    private void escalate(List<Long> orderIds, long now) {
+        try {
+            List<Long> staleOrderIds = orderService.getStaleConfirmedOrderIds(
+                    orderIds, toLocalDateTime(now - confirmedTimeoutMillis));
+            if (!staleOrderIds.isEmpty()) {
+                log.warn("주문 확인 후 {}분 동안 진행되지 않은 주문: {}",
+                        TimeUnit.MILLISECONDS.toMinutes(confirmedTimeoutMillis), staleOrderIds);
+            }
+        } catch (RuntimeException e) {
+            log.error("주문 에스컬레이션 조회 실패, {}건을 다시 등록합니다", orderIds.size(), e);
+            orderIds.forEach(orderId -> escalationWheel.schedule(orderId, now + RETRY_DELAY_MILLIS));
+        }
+    }
+
+    private static List<List<Long>> partition(List<Long> orderIds) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int from = 0; from < orderIds.size(); from += BATCH_SIZE) {
+            batches.add(orderIds.subList(from, Math.min(from + BATCH_SIZE, orderIds.size())));
+        }
+        return batches;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,121 @@
+package com.sparta.outsourcing.domain.order.service;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+// 주문 마감 시각 관리용 계층형 타이밍 휠
+// 한 단계마다 64칸이며, 아래 단계가 한 바퀴 돌 때마다 위 단계의 한 칸을 아래 단계로 내려 다시 배치합니다 (4단계, 1초 틱 기준 약 194일)
+// 등록은 마감 시각으로 단계와 칸을 계산해 칸 끝에 추가하는 것으로 끝나므로 등록 건수와 관계없이 상수 시간입니다
+// 마감 시각보다 먼저 만료되지 않도록 마감 시각은 틱 단위로 올림하여 배치합니다
+final class OrderTimingWheel {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    // 최상위 단계까지 한 번에 배치할 수 있는 최대 틱 수 (이보다 먼 마감 시각은 최상위 단계 마지막 칸에 두었다가 다시 배치)
+    private static final long MAX_SPAN = 1L << (BITS * LEVELS);
+
+    private final long tickMillis;
+    private final Bucket[][] buckets = new Bucket[LEVELS][SLOTS];
+    private long currentTick;
+    private int size;
+
+    OrderTimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        for (Bucket[] level : buckets) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = new Bucket();
+            }
+        }
+    }
+
+    // 주문 마감 시각 등록 (이미 지난 마감 시각은 다음 틱에 만료)
+    synchronized void schedule(long orderId, long deadlineMillis) {
+        long tick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        place(orderId, Math.max(tick, currentTick + 1));
+        size++;
+    }
+
+    // 현재 시각까지 틱을 진행하며 마감 시각이 지난 주문 ID 를 전달하고, 만료된 건수를 반환
+    synchronized int advanceTo(long nowMillis, LongConsumer expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        int count = 0;
+
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // 아래 단계가 한 바퀴 돈 경우, 위 단계의 현재 칸을 아래 단계로 내림 (위 단계부터)
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (BITS * level)) - 1)) == 0) {
+                    cascade(level, (int) ((currentTick >>> (BITS * level)) & MASK));
+                }
+            }
+
+            Bucket bucket = take(0, (int) (currentTick & MASK));
+            for (int i = 0; i < bucket.size; i++) {
+                expired.accept(bucket.orderIds[i]);
+            }
+            count += bucket.size;
+            size -= bucket.size;
+        }
+        return count;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    // 아래 단계로 내려오는 중 만료 틱이 된 주문은 0단계 현재 칸에 배치되어 같은 틱에 만료
+    private void place(long orderId, long tick) {
+        long delta = tick - currentTick;
+
+        if (delta >= MAX_SPAN) {
+            long farthest = currentTick + MAX_SPAN - 1;
+            buckets[LEVELS - 1][(int) ((farthest >>> (BITS * (LEVELS - 1))) & MASK)].add(orderId, tick);
+            return;
+        }
+
+        int level = 0;
+        while (delta >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        buckets[level][(int) ((tick >>> (BITS * level)) & MASK)].add(orderId, tick);
+    }
+
+    private void cascade(int level, int slot) {
+        Bucket bucket = take(level, slot);
+        for (int i = 0; i < bucket.size; i++) {
+            place(bucket.orderIds[i], bucket.ticks[i]);
+        }
+    }
+
+    private Bucket take(int level, int slot) {
+        Bucket bucket = buckets[level][slot];
+        buckets[level][slot] = new Bucket();
+        return bucket;
+    }
+
+    // 한 칸에 배치된 주문 ID 와 만료 틱 (배열 끝에 추가만 하므로 등록은 분할 상환 상수 시간)
+    private static final class Bucket {
+
+        private static final long[] EMPTY = new long[0];
+
+        private long[] orderIds = EMPTY;
+        private long[] ticks = EMPTY;
+        private int size;
+
+        void add(long orderId, long tick) {
+            if (size == orderIds.length) {
+                int capacity = Math.max(8, size * 2);
+                orderIds = Arrays.copyOf(orderIds, capacity);
+                ticks = Arrays.copyOf(ticks, capacity);
+            }
+            orderIds[size] = orderId;
+            ticks[size] = tick;
+            size++;
+        }
+    }
+}
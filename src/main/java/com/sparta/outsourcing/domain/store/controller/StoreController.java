@@ -56,11 +56,15 @@ public class StoreController {
     /**
      * 가게 목록을 조회합니다
      *
+     * @param openNow true 인 경우 현재 영업 중인 가게만 조회합니다
      * @return 가게 목록의 정보와 메뉴목록을 반환합니다.
      */
     @GetMapping("/stores")
-    public ResponseEntity<List<StoreResponseDto>> getStoreList(@RequestParam String name) {
-        List<StoreResponseDto> responseList = storeService.getStoreList(name);
+    public ResponseEntity<List<StoreResponseDto>> getStoreList(@RequestParam String name,
+        @RequestParam(defaultValue = "false") boolean openNow) {
+        List<StoreResponseDto> responseList = openNow
+            ? storeService.getOpenStoreList(name)
+            : storeService.getStoreList(name);
         return new ResponseEntity<>(responseList, HttpStatus.OK);
     }
 
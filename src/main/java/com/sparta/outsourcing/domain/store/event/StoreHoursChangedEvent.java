@@ -0,0 +1,16 @@
+package com.sparta.outsourcing.domain.store.event;
+
+import java.time.LocalTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 가게 생성, 수정, 폐업 이벤트 (트랜잭션 커밋 이후 영업 시간 인덱스에 반영)
+@Getter
+@AllArgsConstructor
+public class StoreHoursChangedEvent {
+
+    private Long storeId;
+    private LocalTime openTime;
+    private LocalTime closeTime;
+    private boolean closedDown;
+}
@@ -17,4 +17,8 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     @Modifying
     @Query("UPDATE Store m SET m.status = true WHERE m.owner.id = :storeId")
     void deleteStoreById(Long storeId);
+
+    // 영업 시간 인덱스 적재용 (폐업하지 않은 가게의 id, 오픈 시간, 마감 시간)
+    @Query("SELECT s.id, s.openTime, s.closeTime FROM Store s WHERE s.status = false")
+    List<Object[]> findAllOpeningHours();
 }
@@ -0,0 +1,110 @@
+package com.sparta.outsourcing.domain.store.service;
+
+import com.sparta.outsourcing.domain.store.event.StoreHoursChangedEvent;
+import com.sparta.outsourcing.domain.store.repository.StoreRepository;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 가게 영업 시간 인덱스 (DB 조회 없이 영업 중 여부 확인)
+// 가게마다 하루 1440분을 비트 하나씩으로 표현한 비트맵을 미리 계산해두고, 영업 중 여부는 현재 분에 해당하는 비트만 확인합니다
+// 영업 시간은 분 단위로 관리하며, 오픈 시간은 포함, 마감 시간은 포함하지 않습니다 (자정을 넘기는 경우 포함)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreHoursIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int WORDS = (MINUTES_PER_DAY + 63) / 64;
+
+    private final StoreRepository storeRepository;
+
+    // 가게 ID -> 영업 중인 분(minute of day) 비트맵, 갱신 시 배열을 통째로 교체하므로 조회는 잠금 없이 수행
+    private final Map<Long, long[]> openMinutes = new ConcurrentHashMap<>();
+
+    // 애플리케이션 시작 시 영업 중인(폐업하지 않은) 가게 전체의 영업 시간을 적재
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        List<Object[]> rows = storeRepository.findAllOpeningHours();
+        for (Object[] row : rows) {
+            put((Long) row[0], (LocalTime) row[1], (LocalTime) row[2]);
+        }
+        log.info("가게 영업 시간 인덱스 적재 완료: {}개", rows.size());
+    }
+
+    // 가게 생성, 수정, 폐업이 커밋된 이후에만 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreHoursChanged(StoreHoursChangedEvent event) {
+        if (event.isClosedDown()) {
+            openMinutes.remove(event.getStoreId());
+            return;
+        }
+        put(event.getStoreId(), event.getOpenTime(), event.getCloseTime());
+    }
+
+    // 가게 영업 중 여부 (인덱스에 없는 가게는 null)
+    public Boolean isOpen(Long storeId, LocalTime now) {
+        long[] bitmap = openMinutes.get(storeId);
+        if (bitmap == null) {
+            return null;
+        }
+        return isSet(bitmap, minuteOfDay(now));
+    }
+
+    // 현재 영업 중인 가게 ID 목록
+    public Set<Long> findOpenStoreIds(LocalTime now) {
+        int minute = minuteOfDay(now);
+        Set<Long> storeIds = new HashSet<>();
+        openMinutes.forEach((storeId, bitmap) -> {
+            if (isSet(bitmap, minute)) {
+                storeIds.add(storeId);
+            }
+        });
+        return storeIds;
+    }
+
+    void put(Long storeId, LocalTime openTime, LocalTime closeTime) {
+        openMinutes.put(storeId, toBitmap(openTime, closeTime));
+    }
+
+    // 오픈 ~ 마감 직전 분까지 비트 설정 (마감 시간이 오픈 시간보다 이르면 자정을 넘겨 영업, 같으면 24시간 영업)
+    static long[] toBitmap(LocalTime openTime, LocalTime closeTime) {
+        long[] bitmap = new long[WORDS];
+        int open = minuteOfDay(openTime);
+        int close = minuteOfDay(closeTime);
+
+        if (open < close) {
+            setRange(bitmap, open, close);
+        } else if (open > close) {
+            setRange(bitmap, open, MINUTES_PER_DAY);
+            setRange(bitmap, 0, close);
+        } else {
+            setRange(bitmap, 0, MINUTES_PER_DAY);
+        }
+        return bitmap;
+    }
+
+    private static void setRange(long[] bitmap, int from, int to) {
+        for (int minute = from; minute < to; minute++) {
+            bitmap[minute >>> 6] |= 1L << minute;
+        }
+    }
+
+    private static boolean isSet(long[] bitmap, int minute) {
+        return (bitmap[minute >>> 6] & (1L << minute)) != 0;
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
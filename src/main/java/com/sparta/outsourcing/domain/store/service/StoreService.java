@@ -8,14 +8,18 @@ import com.sparta.outsourcing.exception.ErrorCode;
 import com.sparta.outsourcing.domain.store.dto.request.StoreRequestDto;
 import com.sparta.outsourcing.domain.store.dto.response.StoreResponseDto;
 import com.sparta.outsourcing.domain.store.entity.Store;
+import com.sparta.outsourcing.domain.store.event.StoreHoursChangedEvent;
 import com.sparta.outsourcing.domain.store.repository.StoreRepository;
 import com.sparta.outsourcing.domain.user.dto.AuthUser;
 import com.sparta.outsourcing.domain.user.entity.User;
 import com.sparta.outsourcing.domain.user.enums.UserRole;
 import com.sparta.outsourcing.domain.user.repository.UserRepository;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +30,8 @@ public class StoreService {
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
     private final MenuRepository menuRepository;
+    private final StoreHoursIndex storeHoursIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void createStore(AuthUser authUser, StoreRequestDto storeRequestDto) {
@@ -42,7 +48,12 @@ public class StoreService {
             throw new ApplicationException(ErrorCode.INVALID_STORE_SIZE);
         }
 
-        storeRepository.save(new Store(storeRequestDto, user));
+        Store store = new Store(storeRequestDto, user);
+        storeRepository.save(store);
+
+        // 커밋 이후 영업 시간 인덱스에 반영
+        eventPublisher.publishEvent(new StoreHoursChangedEvent(
+            store.getId(), store.getOpenTime(), store.getCloseTime(), false));
     }
 
     @Transactional
@@ -61,6 +72,10 @@ public class StoreService {
             throw new ApplicationException(ErrorCode.USER_FORBIDDEN);
         }
         store.update(storeRequestDto);
+
+        // 커밋 이후 영업 시간 인덱스에 반영
+        eventPublisher.publishEvent(new StoreHoursChangedEvent(
+            store.getId(), store.getOpenTime(), store.getCloseTime(), false));
     }
 
 
@@ -84,6 +99,30 @@ public class StoreService {
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<StoreResponseDto> getOpenStoreList(String name) {
+        // 영업 시간 인덱스에서 현재 영업 중인 가게만 남김 (영업 시간 확인을 위한 DB 조회 없음)
+        Set<Long> openStoreIds = storeHoursIndex.findOpenStoreIds(LocalTime.now());
+
+        List<StoreResponseDto> openStores = storeRepository.findStoreByName(name).stream()
+            .filter(store -> openStoreIds.contains(store.getId()))
+            .map(store -> new StoreResponseDto(
+                store.getId(),
+                store.getName(),
+                store.getOpenTime(),
+                store.getCloseTime(),
+                store.getMinPrice(),
+                store.getNotice()
+            ))
+            .collect(Collectors.toList());
+
+        if (openStores.isEmpty()) {
+            throw new ApplicationException(ErrorCode.STORE_NOT_FOUND);
+        }
+
+        return openStores;
+    }
+
     @Transactional(readOnly = true)
     public StoreResponseDto getStore(Long storeId) {
         Store store = storeRepository.findById(storeId)
@@ -121,6 +160,10 @@ public class StoreService {
 
         store.delete();
         menuRepository.updateMenu(storeId);
+
+        // 커밋 이후 영업 시간 인덱스에서 제거
+        eventPublisher.publishEvent(new StoreHoursChangedEvent(
+            store.getId(), store.getOpenTime(), store.getCloseTime(), true));
     }
 
     @Transactional
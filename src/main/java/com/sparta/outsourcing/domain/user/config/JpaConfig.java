@@ -1,10 +1,32 @@
 package com.sparta.outsourcing.domain.user.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
+
+    // OSIV (spring.jpa.open-in-view=false 대신 직접 등록)
+    // 로그인, 회원가입은 비밀번호 해시 계산 동안 DB 커넥션을 잡고 있지 않도록 요청 단위 EntityManager 를 열지 않음
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Bean
+    public WebMvcConfigurer openEntityManagerInViewConfigurer(OpenEntityManagerInViewInterceptor interceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addWebRequestInterceptor(interceptor)
+                        .excludePathPatterns("/api/signin", "/api/signup");
+            }
+        };
+    }
 }
@@ -0,0 +1,33 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import com.sparta.outsourcing.domain.user.dto.AuthUser;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+// 요청 단위 인증 정보
+// JwtFilter 에서 토큰을 한 번 검증한 결과를 요청 속성에 담아두고, 같은 요청 안에서는 토큰을 다시 파싱하지 않고 이 값을 사용합니다
+public final class AuthContext {
+
+    private static final String ATTRIBUTE = AuthContext.class.getName() + ".AUTH_USER";
+
+    private AuthContext() {
+    }
+
+    public static void set(HttpServletRequest request, AuthUser authUser) {
+        request.setAttribute(ATTRIBUTE, authUser);
+    }
+
+    public static AuthUser get(HttpServletRequest request) {
+        return (AuthUser) request.getAttribute(ATTRIBUTE);
+    }
+
+    // 현재 요청의 인증 정보 (HTTP 요청 밖이거나 인증이 필요 없는 요청이면 null)
+    public static AuthUser current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return (AuthUser) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,36 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import com.sparta.outsourcing.exception.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 로그인, 회원가입 요청의 클라이언트 IP 별 요청 수 제한 (한도를 넘으면 요청 본문을 읽지 않고 429 응답)
+// 프록시 뒤에서는 server.forward-headers-strategy 설정으로 getRemoteAddr 가 실제 클라이언트 IP 가 되도록 합니다
+@Slf4j
+@RequiredArgsConstructor
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private final AuthRateLimiter authRateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (authRateLimiter.tryAcquireForIp(request.getRemoteAddr())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.debug("[요청 수 제한] IP: {}, URI: {}", request.getRemoteAddr(), request.getRequestURI());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(authRateLimiter.getWindowSeconds()));
+        response.sendError(ErrorCode.TOO_MANY_AUTH_REQUESTS.getHttpStatus().value(),
+                ErrorCode.TOO_MANY_AUTH_REQUESTS.getMessage());
+    }
+}
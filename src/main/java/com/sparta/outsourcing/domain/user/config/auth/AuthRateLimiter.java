@@ -0,0 +1,56 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+// 로그인, 회원가입 요청 수 제한 (클라이언트 IP 별, 이메일 별)
+// 요청마다 BCrypt 계산이 필요하므로 무차별 대입(credential stuffing) 요청은 DB 조회, BCrypt 계산 전에 거부합니다
+@Component
+public class AuthRateLimiter {
+
+    private final boolean enabled;
+    private final long windowSeconds;
+    private final SlidingWindowRateLimiter ipLimiter;
+    private final SlidingWindowRateLimiter emailLimiter;
+
+    @Autowired
+    public AuthRateLimiter(
+            @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${auth.rate-limit.window-seconds:60}") long windowSeconds,
+            @Value("${auth.rate-limit.ip-max-requests:30}") int ipMaxRequests,
+            @Value("${auth.rate-limit.email-max-requests:10}") int emailMaxRequests,
+            @Value("${auth.rate-limit.max-keys:100000}") int maxKeys
+    ) {
+        this(enabled, windowSeconds, ipMaxRequests, emailMaxRequests, maxKeys, System::currentTimeMillis);
+    }
+
+    AuthRateLimiter(boolean enabled, long windowSeconds, int ipMaxRequests, int emailMaxRequests, int maxKeys,
+                    LongSupplier clock) {
+        this.enabled = enabled;
+        this.windowSeconds = windowSeconds;
+        this.ipLimiter = new SlidingWindowRateLimiter(ipMaxRequests, windowSeconds * 1000, maxKeys, clock);
+        this.emailLimiter = new SlidingWindowRateLimiter(emailMaxRequests, windowSeconds * 1000, maxKeys, clock);
+    }
+
+    // 클라이언트 IP 별 요청 수 제한 (AuthRateLimitFilter 에서 요청 본문을 읽기 전에 확인)
+    public boolean tryAcquireForIp(String ip) {
+        return !enabled || ip == null || ipLimiter.tryAcquire(ip);
+    }
+
+    // 이메일 별 요청 수 제한 (UserService 에서 DB 조회 전에 확인)
+    public void checkEmail(String email) {
+        if (enabled && email != null && !emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT))) {
+            throw new ApplicationException(ErrorCode.TOO_MANY_AUTH_REQUESTS);
+        }
+    }
+
+    public long getWindowSeconds() {
+        return windowSeconds;
+    }
+}
@@ -37,6 +37,12 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
             @Nullable WebDataBinderFactory binderFactory) {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
 
+        // JwtFilter 에서 만들어둔 인증 정보를 그대로 사용
+        AuthUser authUser = AuthContext.get(request);
+        if (authUser != null) {
+            return authUser;
+        }
+
         // JwtFilter 에서 set 한 userId, email 값을 가져옴
         Long userId = (Long) request.getAttribute("userId");
         String email = (String) request.getAttribute("email");
@@ -4,19 +4,33 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 @Configuration
 @RequiredArgsConstructor
 public class FilterConfig {
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthRateLimiter authRateLimiter;
 
     // Filter 등록
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, tokenRevocationList));
         registrationBean.addUrlPatterns("/*");
 
         return registrationBean;
     }
+
+    // 로그인, 회원가입 요청 수 제한 (트레이스, SQL 집계 다음, 요청 처리 전에 실행)
+    @Bean
+    public FilterRegistrationBean<AuthRateLimitFilter> authRateLimitFilter() {
+        FilterRegistrationBean<AuthRateLimitFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new AuthRateLimitFilter(authRateLimiter));
+        registrationBean.addUrlPatterns("/api/signin", "/api/signup");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+
+        return registrationBean;
+    }
 }
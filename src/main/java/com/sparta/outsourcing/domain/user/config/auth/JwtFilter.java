@@ -1,5 +1,7 @@
 package com.sparta.outsourcing.domain.user.config.auth;
 
+import com.sparta.outsourcing.domain.user.dto.AuthUser;
+import com.sparta.outsourcing.domain.user.enums.UserRole;
 import com.sparta.outsourcing.exception.ErrorCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -20,6 +22,7 @@ import java.util.List;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
     private static final String AUTHORIZATION = "Authorization";
     private static final List<String> PERMIT_ALL_URIS = List.of("/api/signin", "/api/signup");
 
@@ -49,10 +52,25 @@ public class JwtFilter implements Filter {
             // JWT 유효성 검사와 claims 추출
             Claims claims = jwtUtil.extractClaims(jwt);
 
+            Long userId = Long.parseLong(claims.getSubject());
+
+            // 탈퇴 등으로 폐기된 토큰 거부 (폐기 기록이 없는 유저는 Bloom filter 확인만 하고 통과)
+            if (tokenRevocationList.isRevoked(userId, claims.getIssuedAt())) {
+                log.error(ErrorCode.REVOKED_TOKEN.getMessage());
+                httpResponse.sendError(
+                        HttpServletResponse.SC_UNAUTHORIZED, ErrorCode.REVOKED_TOKEN.getMessage());
+                return;
+            }
+            String email = claims.get("email", String.class);
+            Object role = claims.get("role");
+
             // 사용자 정보를 ArgumentResolver 로 넘기기 위해 HttpServletRequest 에 세팅
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email", String.class));
-            httpRequest.setAttribute("role", claims.get("role"));
+            httpRequest.setAttribute("userId", userId);
+            httpRequest.setAttribute("email", email);
+            httpRequest.setAttribute("role", role);
+
+            // 같은 요청 안에서 토큰을 다시 검증하지 않도록 인증 정보를 한 번만 만들어 보관 (OrderLoggingAspect 등)
+            AuthContext.set(httpRequest, new AuthUser(userId, email, role == null ? null : UserRole.valueOf(role.toString())));
 
             chain.doFilter(request, response);
         } catch (SecurityException | MalformedJwtException e) {
@@ -3,6 +3,7 @@ package com.sparta.outsourcing.domain.user.config.auth;
 import com.sparta.outsourcing.domain.user.enums.UserRole;
 import com.sparta.outsourcing.exception.ErrorCode;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -21,18 +22,28 @@ import java.util.Date;
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 7 * 24 * 60 * 60 * 1000L; // 7일
+    static final long TOKEN_TIME = 7 * 24 * 60 * 60 * 1000L; // 7일 (TokenRevocationList 에서 만료된 폐기 기준 정리에 사용)
     // private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+    // 검증된 토큰 캐시 사용 여부, 최대 보관 토큰 수
+    @Value("${jwt.cache.enabled:true}")
+    private boolean cacheEnabled;
+    @Value("${jwt.cache.max-size:10000}")
+    private int cacheMaxSize;
+
     private Key key;
+    private JwtParser parser; // 서명 키가 설정된 파서 (불변, 여러 스레드에서 공유)
+    private VerifiedTokenCache verifiedTokenCache;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        verifiedTokenCache = new VerifiedTokenCache(cacheMaxSize);
     }
 
     //토큰 생성
@@ -58,7 +69,21 @@ public class JwtUtil {
         throw new NullPointerException(ErrorCode.NOT_FOUND_TOKEN.getMessage());
     }
 
+    // 같은 토큰은 만료 전까지 서명 검증, JSON 파싱을 다시 하지 않고 캐시된 claims 반환 (반환된 claims 는 읽기만 할 것)
+    // 검증에 실패한 토큰은 캐시하지 않으므로 예외는 매번 그대로 발생
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        if (!cacheEnabled) {
+            return parser.parseClaimsJws(token).getBody();
+        }
+        Claims claims = verifiedTokenCache.get(token);
+        if (claims == null) {
+            claims = parser.parseClaimsJws(token).getBody();
+            verifiedTokenCache.put(token, claims);
+        }
+        return claims;
+    }
+
+    public TokenCacheStats getTokenCacheStats() {
+        return verifiedTokenCache.stats();
     }
 }
@@ -0,0 +1,61 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// long 값(토큰이 폐기된 유저 ID, 가입된 이메일의 해시)의 Bloom filter
+// 없다고 판단하면 확실히 없고, 있다고 판단하면 오탐일 수 있으므로 사용하는 쪽(TokenRevocationList, RegisteredEmails)에서 다시 확인합니다
+// 추가는 비트 OR 만 하므로 잠금 없이 여러 스레드에서 추가, 조회할 수 있습니다 (제거는 지원하지 않음)
+final class LongBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    // expectedInsertions 건을 넣었을 때 오탐률이 falsePositiveRate 가 되는 크기
+    LongBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    void add(long value) {
+        long hash = mix(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((words.get(word) & mask) == 0) {
+                words.accumulateAndGet(word, mask, (current, added) -> current | added);
+            }
+        }
+    }
+
+    boolean mightContain(long value) {
+        long hash = mix(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & 0x7fffffffL) % bitCount;
+    }
+
+    // 연속된 값(유저 ID 등)이 고르게 퍼지도록 섞음 (SplitMix64 마무리 단계)
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,80 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import com.sparta.outsourcing.domain.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+// 가입된(탈퇴 포함) 이메일의 Bloom filter
+// 없다고 판단한 이메일은 가입된 적이 없으므로 회원가입 시 DB 조회를 생략하고, 있다고 판단하면 DB 에서 다시 확인합니다
+// 다른 서버에서 가입한 이메일은 반영되지 않을 수 있지만, 그 경우에도 email 유니크 제약으로 중복 가입은 막힙니다
+@Slf4j
+@Component
+public class RegisteredEmails {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int LOAD_PAGE_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final int expectedEmails;
+
+    private volatile LongBloomFilter bloomFilter;
+
+    public RegisteredEmails(
+            UserRepository userRepository,
+            @Value("${signup.email-filter.expected-emails:100000}") int expectedEmails
+    ) {
+        this.userRepository = userRepository;
+        this.expectedEmails = expectedEmails;
+        this.bloomFilter = new LongBloomFilter(expectedEmails, FALSE_POSITIVE_RATE);
+    }
+
+    // 서버가 요청을 받기 전에 가입된 이메일 적재 (id 순으로 나누어 조회)
+    @PostConstruct
+    public void load() {
+        long count = userRepository.count();
+        LongBloomFilter loaded = new LongBloomFilter((int) Math.min(Integer.MAX_VALUE, Math.max(expectedEmails, count * 2)), FALSE_POSITIVE_RATE);
+
+        long afterId = 0L;
+        int total = 0;
+        List<Object[]> rows;
+        do {
+            rows = userRepository.findEmailsAfter(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (Object[] row : rows) {
+                afterId = (Long) row[0];
+                if (row[1] != null) {
+                    loaded.add(hash((String) row[1]));
+                }
+            }
+            total += rows.size();
+        } while (rows.size() == LOAD_PAGE_SIZE);
+
+        bloomFilter = loaded;
+        log.info("가입된 이메일 적재 완료: {}건", total);
+    }
+
+    public boolean mightBeRegistered(String email) {
+        return bloomFilter.mightContain(hash(email));
+    }
+
+    // 가입이 저장된 이후 추가
+    public void add(String email) {
+        bloomFilter.add(hash(email));
+    }
+
+    // 64비트 FNV-1a (MySQL 기본 collation 은 대소문자를 구분하지 않으므로 소문자로 바꿔 계산, 구분하는 경우에도 오탐만 늘어남)
+    static long hash(String email) {
+        String normalized = email.trim().toLowerCase(Locale.ROOT);
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
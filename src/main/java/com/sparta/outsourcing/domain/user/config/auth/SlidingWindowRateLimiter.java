@@ -0,0 +1,119 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// 키(이메일, IP 등)별 슬라이딩 윈도우 요청 수 제한
+// 키마다 현재/직전 고정 윈도우의 요청 수만 보관하고, 직전 윈도우 요청 수를 지난 비율만큼 줄여 최근 window 동안의 요청 수를 추정합니다
+// 키를 stripe 로 나누어 stripe 마다 잠금과 LRU 맵을 두므로 다른 키끼리는 경쟁하지 않고,
+// stripe 당 보관 키 수를 넘으면 가장 오래 사용하지 않은 키부터 제거해 메모리 사용량이 제한됩니다
+class SlidingWindowRateLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final int maxRequests;
+    private final long windowMillis;
+    private final int maxKeysPerStripe;
+    private final LongSupplier clock;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    SlidingWindowRateLimiter(int maxRequests, long windowMillis, int maxKeys, LongSupplier clock) {
+        if (maxRequests < 1 || windowMillis < 1 || maxKeys < 1) {
+            throw new IllegalArgumentException("요청 수 제한, 윈도우, 최대 키 수는 1 이상이어야 합니다.");
+        }
+        this.maxRequests = maxRequests;
+        this.windowMillis = windowMillis;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.clock = clock;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    // 한도 이내면 요청 수를 늘리고 true, 한도를 넘으면 요청 수를 늘리지 않고 false
+    boolean tryAcquire(String key) {
+        long now = clock.getAsLong();
+        long window = now / windowMillis;
+        Stripe stripe = stripes[(key.hashCode() ^ (key.hashCode() >>> 16)) & (STRIPES - 1)];
+
+        stripe.lock.lock();
+        try {
+            stripe.evictIdle(window);
+
+            Counter counter = stripe.counters.get(key);
+            if (counter == null) {
+                counter = new Counter(window);
+                stripe.counters.put(key, counter);
+            }
+            counter.roll(window);
+
+            // 직전 윈도우 요청 중 아직 최근 window 안에 있다고 볼 수 있는 비율만큼 반영
+            double previousWeight = 1.0 - (double) (now - window * windowMillis) / windowMillis;
+            if (counter.previous * previousWeight + counter.current >= maxRequests) {
+                return false;
+            }
+            counter.current++;
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.counters.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // 접근 순서 LRU, 보관 키 수를 넘으면 가장 오래 사용하지 않은 키 제거
+        private final LinkedHashMap<String, Counter> counters = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Counter> eldest) {
+                return size() > maxKeysPerStripe;
+            }
+        };
+
+        // 직전 윈도우 이후 요청이 없는 키는 요청 수가 0 이므로 오래 사용하지 않은 순서로 제거 (한 번에 최대 2개)
+        private void evictIdle(long window) {
+            Iterator<Counter> iterator = counters.values().iterator();
+            for (int i = 0; i < 2 && iterator.hasNext(); i++) {
+                if (iterator.next().window >= window - 1) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Counter {
+        private long window;
+        private int current;
+        private int previous;
+
+        private Counter(long window) {
+            this.window = window;
+        }
+
+        private void roll(long now) {
+            if (now == window) {
+                return;
+            }
+            previous = now == window + 1 ? current : 0;
+            current = 0;
+            window = now;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검증된 JWT 캐시 상태 (적중률은 조회 중 캐시에서 찾은 비율)
+@Getter
+@AllArgsConstructor
+public class TokenCacheStats {
+    private int size;
+    private int maxSize;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -0,0 +1,110 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import com.sparta.outsourcing.domain.user.entity.TokenRevocation;
+import com.sparta.outsourcing.domain.user.event.TokenRevokedEvent;
+import com.sparta.outsourcing.domain.user.repository.TokenRevocationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// 토큰 폐기 목록 (유저별로 "이 시각 이전에 발급된 토큰은 무효" 기준 시각을 관리)
+// 대부분의 요청(폐기되지 않은 유저)은 Bloom filter 확인 한 번으로 끝나고, 포함될 수 있는 유저만 맵에서 기준 시각을 비교합니다
+// 기준 시각은 DB(TokenRevocation)에 저장하고 요청을 받기 전에 다시 적재하며,
+// 토큰 유효 기간(JwtUtil.TOKEN_TIME)보다 오래된 기준 시각은 그 이전 토큰이 모두 만료되었으므로 적재하지 않습니다
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int expectedUsers;
+    private final LongSupplier clock;
+
+    // 유저 ID -> 기준 시각 (epoch 초)
+    private final Map<Long, Long> cutoffs = new ConcurrentHashMap<>();
+    private volatile LongBloomFilter bloomFilter;
+
+    @Autowired
+    public TokenRevocationList(
+            TokenRevocationRepository tokenRevocationRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${jwt.revocation.expected-users:100000}") int expectedUsers
+    ) {
+        this(tokenRevocationRepository, eventPublisher, expectedUsers, System::currentTimeMillis);
+    }
+
+    TokenRevocationList(TokenRevocationRepository tokenRevocationRepository, ApplicationEventPublisher eventPublisher,
+                        int expectedUsers, LongSupplier clock) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.eventPublisher = eventPublisher;
+        this.expectedUsers = expectedUsers;
+        this.clock = clock;
+        this.bloomFilter = new LongBloomFilter(expectedUsers, FALSE_POSITIVE_RATE);
+    }
+
+    // 서버가 요청을 받기 전에 아직 의미 있는(토큰 유효 기간 이내) 기준 시각 적재
+    @PostConstruct
+    public void load() {
+        Instant threshold = Instant.ofEpochMilli(clock.getAsLong() - JwtUtil.TOKEN_TIME);
+        List<TokenRevocation> revocations = tokenRevocationRepository.findByRevokedBeforeAfter(threshold);
+
+        LongBloomFilter loaded = new LongBloomFilter(Math.max(expectedUsers, revocations.size() * 2), FALSE_POSITIVE_RATE);
+        for (TokenRevocation revocation : revocations) {
+            cutoffs.merge(revocation.getUserId(), revocation.getRevokedBefore().getEpochSecond(), Math::max);
+            loaded.add(revocation.getUserId());
+        }
+        bloomFilter = loaded;
+        log.info("토큰 폐기 목록 적재 완료: {}명", revocations.size());
+    }
+
+    // 유저의 revokedBefore 이전 발급 토큰 폐기 (호출한 트랜잭션에서 저장하고, 커밋된 이후 조회에 반영)
+    public void revokeTokensIssuedBefore(Long userId, Instant revokedBefore) {
+        TokenRevocation revocation = tokenRevocationRepository.findById(userId)
+                .orElseGet(() -> new TokenRevocation(userId, revokedBefore));
+        revocation.revokeBefore(revokedBefore);
+        tokenRevocationRepository.save(revocation);
+
+        eventPublisher.publishEvent(new TokenRevokedEvent(userId, revocation.getRevokedBefore()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTokenRevoked(TokenRevokedEvent event) {
+        add(event.getUserId(), event.getRevokedBefore().getEpochSecond());
+    }
+
+    // 폐기된 토큰 여부 (발급 시각은 초 단위이므로 기준 시각과 같은 초에 발급된 토큰도 폐기된 것으로 판단)
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        if (!bloomFilter.mightContain(userId)) {
+            return false;
+        }
+        Long cutoff = cutoffs.get(userId);
+        if (cutoff == null) {
+            return false;
+        }
+        // 기준 시각 이전에 발급된 토큰이 모두 만료되었으면 더 이상 확인할 필요가 없으므로 제거
+        if (cutoff * 1000 < clock.getAsLong() - JwtUtil.TOKEN_TIME) {
+            cutoffs.remove(userId, cutoff);
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() / 1000 <= cutoff;
+    }
+
+    void add(Long userId, long cutoffEpochSecond) {
+        cutoffs.merge(userId, cutoffEpochSecond, Math::max);
+        bloomFilter.add(userId);
+    }
+}
@@ -0,0 +1,130 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// 서명 검증이 끝난 JWT 의 claims 캐시
+// 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하여 힙에 토큰을 남기지 않고, 만료 시각이 지난 항목은 사용하지 않습니다
+// 조회는 ConcurrentHashMap 으로 잠금 없이 처리하고, 최대 크기를 넘으면 한 스레드만 정리하며
+// 만료된 항목부터, 그래도 넘으면 만료가 가장 가까운(가장 오래 전에 발급된) 토큰부터 최대 크기의 90% 까지 제거합니다
+final class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final int maxSize;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<TokenDigest, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    VerifiedTokenCache(int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    VerifiedTokenCache(int maxSize, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    // 검증된 claims, 없거나 만료되었으면 null (만료된 항목은 제거)
+    Claims get(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+        Entry entry = entries.get(digest);
+        if (entry != null) {
+            if (clock.getAsLong() < entry.expiresAtMillis()) {
+                hitCount.increment();
+                return entry.claims();
+            }
+            entries.remove(digest, entry);
+        }
+        missCount.increment();
+        return null;
+    }
+
+    // 검증된 claims 보관 (만료 시각이 없는 토큰은 보관하지 않음)
+    void put(String token, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        entries.put(TokenDigest.of(token), new Entry(claims, claims.getExpiration().getTime()));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    TokenCacheStats stats() {
+        return new TokenCacheStats(entries.size(), maxSize, hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    // 이미 다른 스레드가 정리 중이면 기다리지 않음
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            int target = maxSize - maxSize / 10;
+            List<Map.Entry<TokenDigest, Entry>> live = new ArrayList<>(entries.size());
+            for (Map.Entry<TokenDigest, Entry> e : entries.entrySet()) {
+                if (now >= e.getValue().expiresAtMillis()) {
+                    removeEvicted(e);
+                } else {
+                    live.add(e);
+                }
+            }
+            if (live.size() <= target) {
+                return;
+            }
+            live.sort(Comparator.comparingLong(e -> e.getValue().expiresAtMillis()));
+            for (int i = 0; i < live.size() - target; i++) {
+                removeEvicted(live.get(i));
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void removeEvicted(Map.Entry<TokenDigest, Entry> e) {
+        if (entries.remove(e.getKey(), e.getValue())) {
+            evictionCount.increment();
+        }
+    }
+
+    private record Entry(Claims claims, long expiresAtMillis) {
+    }
+
+    // 토큰의 SHA-256 다이제스트 (256비트를 long 4개로 보관)
+    private record TokenDigest(long h0, long h1, long h2, long h3) {
+
+        static TokenDigest of(String token) {
+            MessageDigest sha256 = SHA_256.get();
+            ByteBuffer digest = ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+    }
+}
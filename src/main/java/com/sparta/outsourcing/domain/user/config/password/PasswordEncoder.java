@@ -1,27 +1,37 @@
 package com.sparta.outsourcing.domain.user.config.password;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.regex.Pattern;
 
 @Component
 public class PasswordEncoder {
-    public String encode(String rawPassword) {
 
-        String passwordPattern =
-                "^(?=.*[A-Za-z])(?=.*[0-9])(?=.*[$@$!%*#?&])[A-Za-z0-9$@$!%*#?&]{8,}$";
+    private static final Pattern PASSWORD_PATTERN =
+            Pattern.compile("^(?=.*[A-Za-z])(?=.*[0-9])(?=.*[$@$!%*#?&])[A-Za-z0-9$@$!%*#?&]{8,}$");
+
+    // BCrypt 해시 계산은 요청 스레드가 아닌 PasswordHashingExecutor 에서 실행 (대기열이 가득 차면 503)
+    private final PasswordHashingExecutor hashingExecutor;
+    private final int cost;
 
-        Pattern pattern = Pattern.compile(passwordPattern);
-        if (!pattern.matcher(rawPassword).matches()) {
+    public PasswordEncoder(PasswordHashingExecutor hashingExecutor, @Value("${password.bcrypt.cost:4}") int cost) {
+        this.hashingExecutor = hashingExecutor;
+        this.cost = cost;
+    }
+
+    public String encode(String rawPassword) {
+        // 형식이 맞지 않는 비밀번호는 해시 스레드에 넘기지 않음
+        if (!PASSWORD_PATTERN.matcher(rawPassword).matches()) {
             throw new IllegalArgumentException("비밀번호는 8자 이상이며, 대문자와 특수 문자를 포함해야 합니다.");
         }
 
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return hashingExecutor.execute(() -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
     }
 
+    // 해시에 저장된 cost 로 검증하므로 cost 를 바꿔도 기존 비밀번호는 그대로 검증됨
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return hashingExecutor.execute(() -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified);
     }
 }
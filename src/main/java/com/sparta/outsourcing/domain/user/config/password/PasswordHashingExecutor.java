@@ -0,0 +1,89 @@
+package com.sparta.outsourcing.domain.user.config.password;
+
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 비밀번호 해시 계산(BCrypt) 전용 스레드 풀
+// 해시 계산은 CPU 를 오래 쓰므로 동시 실행 수를 스레드 수로 제한하고, 대기열이 가득 차거나 대기 시간을 넘으면
+// 요청을 쌓아두지 않고 바로 503 으로 응답하여 로그인이 몰려도 다른 요청을 처리할 스레드, DB 커넥션이 남도록 합니다
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    @Autowired
+    public PasswordHashingExecutor(
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${password.hashing.timeout-millis:5000}") long timeoutMillis
+    ) {
+        this(newExecutor(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueCapacity), timeoutMillis);
+    }
+
+    PasswordHashingExecutor(ThreadPoolExecutor executor, long timeoutMillis) {
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // 해시 스레드에서 실행하고 결과를 기다림 (작업에서 발생한 예외는 그대로 전달)
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            throw new ApplicationException(ErrorCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            // 아직 대기열에 있으면 실행되지 않음
+            future.cancel(true);
+            throw new ApplicationException(ErrorCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ApplicationException(ErrorCode.PASSWORD_HASHING_BUSY);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor newExecutor(int threads, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,15 @@
+package com.sparta.outsourcing.domain.user.dto;
+
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회원가입, 로그인용 프로젝션 (엔티티 대신 이메일 인덱스로 필요한 컬럼만 조회)
+@Getter
+@AllArgsConstructor
+public class UserCredentialDto {
+    private Long id;
+    private boolean deleted;
+    private String password;
+    private UserRole userRole;
+}
@@ -0,0 +1,35 @@
+package com.sparta.outsourcing.domain.user.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// 유저별 토큰 폐기 기준 시각 (이 시각 이전에 발급된 토큰은 사용할 수 없음)
+// 애플리케이션 시작 시 TokenRevocationList 가 다시 적재합니다
+@Getter
+@Entity
+@NoArgsConstructor
+public class TokenRevocation {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private Instant revokedBefore;
+
+    public TokenRevocation(Long userId, Instant revokedBefore) {
+        this.userId = userId;
+        this.revokedBefore = revokedBefore;
+    }
+
+    // 기준 시각은 앞당기지 않음
+    public void revokeBefore(Instant revokedBefore) {
+        if (revokedBefore.isAfter(this.revokedBefore)) {
+            this.revokedBefore = revokedBefore;
+        }
+    }
+}
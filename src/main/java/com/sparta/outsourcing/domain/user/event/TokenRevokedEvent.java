@@ -0,0 +1,15 @@
+package com.sparta.outsourcing.domain.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 유저 토큰 폐기 이벤트 (트랜잭션 커밋 이후 TokenRevocationList 에 반영)
+@Getter
+@AllArgsConstructor
+public class TokenRevokedEvent {
+
+    private Long userId;
+    private Instant revokedBefore;
+}
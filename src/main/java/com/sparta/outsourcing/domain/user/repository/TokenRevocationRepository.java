@@ -0,0 +1,13 @@
+package com.sparta.outsourcing.domain.user.repository;
+
+import com.sparta.outsourcing.domain.user.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    // 기준 시각이 threshold 이후인 폐기 기록 (그 이전 기록으로 폐기될 토큰은 이미 모두 만료됨)
+    List<TokenRevocation> findByRevokedBeforeAfter(Instant threshold);
+}
@@ -1,8 +1,13 @@
 package com.sparta.outsourcing.domain.user.repository;
 
+import com.sparta.outsourcing.domain.user.dto.UserCredentialDto;
 import com.sparta.outsourcing.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 
@@ -12,8 +17,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
                 new NoSuchElementException("사용자를 찾을 수 없습니다"));
     }
 
-    default User findByEmailOrElseThrow(String email){
-        return findByEmail(email).orElseThrow(() ->
+    default UserCredentialDto findCredentialByEmailOrElseThrow(String email){
+        return findCredentialByEmail(email).orElseThrow(() ->
                 new NoSuchElementException("사용자를 찾을 수 없습니다"));
     }
 
@@ -22,9 +27,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
                 new NoSuchElementException("Id가 존재하지 않습니다."));
     }
 
-    Optional<User> findByEmail(String email);
-    Optional<User> findByEmailAndDeletedTrue(String email);
-    Optional<User> findByEmailAndDeletedFalse(String email);
+    // 탈퇴 여부와 관계없이 이메일로 회원가입, 로그인에 필요한 컬럼만 조회 (email 유니크 인덱스 사용)
+    @Query("SELECT new com.sparta.outsourcing.domain.user.dto.UserCredentialDto(" +
+            "u.id, u.deleted, u.password, u.userRole) " +
+            "FROM User u WHERE u.email = :email")
+    Optional<UserCredentialDto> findCredentialByEmail(@Param("email") String email);
 
-}
+    // 가입된 이메일을 id 순으로 조회 (afterId 이후, RegisteredEmails 적재용)
+    // ([0] = 유저 ID, [1] = 이메일)
+    @Query("SELECT u.id, u.email FROM User u WHERE u.id > :afterId ORDER BY u.id ASC")
+    List<Object[]> findEmailsAfter(@Param("afterId") Long afterId, Pageable pageable);
 
+}
@@ -2,15 +2,23 @@ package com.sparta.outsourcing.domain.user.service;
 
 import com.sparta.outsourcing.domain.menu.repository.MenuRepository;
 import com.sparta.outsourcing.domain.store.repository.StoreRepository;
+import com.sparta.outsourcing.domain.user.config.auth.AuthRateLimiter;
 import com.sparta.outsourcing.domain.user.config.auth.JwtUtil;
+import com.sparta.outsourcing.domain.user.config.auth.RegisteredEmails;
+import com.sparta.outsourcing.domain.user.config.auth.TokenRevocationList;
 import com.sparta.outsourcing.domain.user.config.password.PasswordEncoder;
+import com.sparta.outsourcing.domain.user.dto.UserCredentialDto;
 import com.sparta.outsourcing.domain.user.entity.User;
 import com.sparta.outsourcing.domain.user.enums.UserRole;
 import com.sparta.outsourcing.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -21,24 +29,43 @@ public class UserService {
     private final StoreRepository storeRepository;
     private final MenuRepository menuRepository;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthRateLimiter authRateLimiter;
+    private final RegisteredEmails registeredEmails;
 
-    @Transactional
+    // 비밀번호 해시 계산 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행 (조회, 저장은 리포지토리 호출마다 짧은 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String signUp(String email, String password, UserRole userRole) {
-      if(!userRepository.findByEmailAndDeletedFalse(email).isEmpty()){
-          throw new IllegalArgumentException("이미 가입한 사용자 입니다.");
-      }
-      if(!userRepository.findByEmailAndDeletedTrue(email).isEmpty()){
-          throw new IllegalArgumentException("이미 탈퇴한 사용자 입니다.");
+      // 같은 이메일로 반복되는 요청은 DB 조회, 비밀번호 해시 계산 전에 거부
+      authRateLimiter.checkEmail(email);
+
+      // Bloom filter 에 없는 이메일은 가입된 적이 없으므로 조회 생략
+      if(registeredEmails.mightBeRegistered(email)){
+          userRepository.findCredentialByEmail(email).ifPresent(UserService::throwAlreadyRegistered);
       }
 
         User user = new User(email, passwordEncoder.encode(password), userRole);
 
-        return jwtUtil.createToken(userRepository.save(user).getId(), userRole);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 이메일로 가입한 경우 email 유니크 제약으로 실패하므로 먼저 가입된 회원 기준으로 응답
+            userRepository.findCredentialByEmail(email).ifPresent(UserService::throwAlreadyRegistered);
+            throw e;
+        }
+        registeredEmails.add(email);
+
+        return jwtUtil.createToken(savedUser.getId(), userRole);
     }
 
-    @Transactional
+    // 회원가입과 같이 비밀번호 검증 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String signIn(String email, String password) {
-        User user = userRepository.findByEmailOrElseThrow(email);
+        // 같은 이메일로 반복되는 요청은 DB 조회, 비밀번호 검증 전에 거부
+        authRateLimiter.checkEmail(email);
+
+        UserCredentialDto user = userRepository.findCredentialByEmailOrElseThrow(email);
         if(user.isDeleted()){
             throw new IllegalArgumentException("로그인할 수 없습니다.");
         }
@@ -67,5 +94,15 @@ public class UserService {
 
         user.deleted();
         userRepository.save(user);
+
+        // 탈퇴 전에 발급된 토큰 폐기 (커밋 이후 JwtFilter 에서 거부)
+        tokenRevocationList.revokeTokensIssuedBefore(user.getId(), Instant.now());
+    }
+
+    private static void throwAlreadyRegistered(UserCredentialDto user) {
+        if(user.isDeleted()){
+            throw new IllegalArgumentException("이미 탈퇴한 사용자 입니다.");
+        }
+        throw new IllegalArgumentException("이미 가입한 사용자 입니다.");
     }
 }
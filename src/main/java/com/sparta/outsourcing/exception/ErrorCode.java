@@ -15,6 +15,8 @@ public enum ErrorCode {
     ALREADY_USER_EXIST(HttpStatus.CONFLICT, "이미 존재하는 회원입니다."),
     PASSWORD_SAME_OLD(HttpStatus.CONFLICT, "기존 비밀번호와 동일합니다."),
     USER_FORBIDDEN(HttpStatus.FORBIDDEN, "계정의 권한이 없습니다."),
+    TOO_MANY_AUTH_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "로그인, 회원가입 요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "로그인, 회원가입 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "고객이 존재하지 않습니다."),
     STORE_NOT_FOUND(HttpStatus.NOT_FOUND, "가게가 존재하지 않습니다."),
@@ -22,6 +24,7 @@ public enum ErrorCode {
     MENU_NOT_FOUND(HttpStatus.NOT_FOUND, "메뉴가 존재하지 않습니다."),
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "주문이 존재하지 않습니다."),
     MINIMUM_ORDER_AMOUNT_NOT_MET(HttpStatus.BAD_REQUEST, "최소 주문 금액을 충족하지 못했습니다."),
+    INVALID_ORDER_ITEM(HttpStatus.BAD_REQUEST, "주문 메뉴 또는 수량이 올바르지 않습니다. (메뉴 최대 50종류, 메뉴별 1~99개)"),
     STORE_CLOSED(HttpStatus.FORBIDDEN, "가게가 영업중이 아닙니다."),
 
     INVALID_USER_FOR_ORDER(HttpStatus.FORBIDDEN, "주문 취소 권한이 없습니다. 해당 주문을 생성한 유저만 주문을 취소할 수 있습니다."),
@@ -35,6 +38,12 @@ public enum ErrorCode {
     INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST, "주문 요청 상태가 올바르지 않습니다."),
     INVALID_ORDER_CREATION_FOR_OWNER(HttpStatus.FORBIDDEN, "사장님은 주문을 요청할 수 없습니다."),
     ORDER_ACCESS_DENIED(HttpStatus.FORBIDDEN, "주문 접근 권한이 없습니다."),
+    ORDER_STATUS_CONFLICT(HttpStatus.CONFLICT, "다른 요청에 의해 주문 상태가 먼저 변경되었습니다. 주문 상태를 다시 확인해주세요."),
+    INVALID_ORDER_CURSOR(HttpStatus.BAD_REQUEST, "주문 목록 조회 커서 값이 올바르지 않습니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key 값이 올바르지 않습니다. (1~64자)"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 주문을 요청할 수 없습니다. 새로운 키를 사용해주세요."),
+    ORDER_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 로 처리 중인 주문 요청이 있습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_ORDER_BATCH(HttpStatus.BAD_REQUEST, "주문 상태 일괄 변경 요청이 올바르지 않습니다. (주문 1~100건, 변경할 상태 필수)"),
 
     REVIEW_ALREADY_EXISTS(HttpStatus.CONFLICT, "해당 주문에 이미 리뷰가 존재합니다."),
     INVALID_ROLE_FOR_REVIEW_CREATION(HttpStatus.FORBIDDEN, "리뷰 작성 권한이 없습니다."),
@@ -42,8 +51,12 @@ public enum ErrorCode {
     INVALID_REVIEW_ACCESS(HttpStatus.FORBIDDEN, "리뷰에 접근할 권한이 없습니다."),
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "리뷰가 존재하지 않습니다."),
 
+    INVALID_LOG_LEVEL_REQUEST(HttpStatus.BAD_REQUEST, "로그 레벨 변경 요청이 올바르지 않습니다. (로거 이름 필수, 유지 시간은 1분 이상 1440분 이하)"),
+    LOG_LEVEL_LOGGER_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "레벨을 변경할 수 없는 로거입니다. 애플리케이션 패키지(com.sparta.outsourcing) 하위 로거와 org.hibernate.SQL 만 변경할 수 있습니다."),
+
     INVALID_SIGNATURE(HttpStatus.UNAUTHORIZED, "유효하지 않는 JWT 서명입니다."),
     EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED,"만료된 JWT 토큰입니다."),
+    REVOKED_TOKEN(HttpStatus.UNAUTHORIZED,"폐기된 JWT 토큰입니다."),
     UNSUPPORTED_TOKEN(HttpStatus.UNAUTHORIZED,"지원되지 않는 JWT 토큰입니다."),
     EMPTY_CLAIMS(HttpStatus.BAD_REQUEST,"잘못된 JWT 토큰입니다."),
     TOKEN_VERIFICATION_ERROR(HttpStatus.UNAUTHORIZED,"JWT 토큰 검증 중 오류가 발생했습니다."),
@@ -0,0 +1,148 @@
+package com.sparta.outsourcing.aop;
+
+import com.sparta.outsourcing.aop.AsyncLogPipeline.LogEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncLogPipelineTest {
+
+    @Test
+    @DisplayName("로그가 출력 스레드에서 순서대로 출력되고, 종료 시 남은 로그가 모두 출력되는지 테스트")
+    void publish_WritesOnWriterThreadInOrder() {
+        List<String> written = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        AsyncLogPipeline pipeline = new AsyncLogPipeline(1024, LogOverflowPolicy.BLOCK, event -> {
+            written.add(event.message());
+            threads.add(Thread.currentThread().getName());
+        });
+
+        for (int i = 0; i < 100; i++) {
+            pipeline.publish(new LogEvent(LogLevel.INFO, "log-" + i, null));
+        }
+        pipeline.shutdown();
+
+        assertEquals(100, written.size());
+        assertEquals("log-0", written.get(0));
+        assertEquals("log-99", written.get(99));
+        assertTrue(threads.stream().allMatch("async-log-writer"::equals));
+    }
+
+    @Test
+    @DisplayName("DROP 정책에서 버퍼가 가득 차면 로그를 버리고 버린 건수를 기록하는지 테스트")
+    void publish_DropPolicy_CountsDropped() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch writing = new CountDownLatch(1);
+        List<String> written = new CopyOnWriteArrayList<>();
+        AsyncLogPipeline pipeline = new AsyncLogPipeline(4, LogOverflowPolicy.DROP, event -> {
+            writing.countDown();
+            awaitQuietly(release);
+            written.add(event.message());
+        });
+
+        // 첫 로그 출력 중 출력 스레드가 멈춘 상태에서 버퍼(4칸)를 넘치게 추가
+        pipeline.publish(new LogEvent(LogLevel.INFO, "first", null));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            pipeline.publish(new LogEvent(LogLevel.INFO, "log-" + i, null));
+        }
+
+        assertEquals(6, pipeline.droppedCount());
+
+        release.countDown();
+        pipeline.shutdown();
+        assertEquals(5, written.size());
+    }
+
+    @Test
+    @DisplayName("BLOCK 정책에서 버퍼가 가득 차면 자리가 날 때까지 기다려 유실이 없는지 테스트")
+    void publish_BlockPolicy_NoLoss() {
+        List<String> written = new CopyOnWriteArrayList<>();
+        AsyncLogPipeline pipeline = new AsyncLogPipeline(4, LogOverflowPolicy.BLOCK, event -> written.add(event.message()));
+
+        for (int i = 0; i < 1_000; i++) {
+            pipeline.publish(new LogEvent(LogLevel.INFO, "log-" + i, null));
+        }
+        pipeline.shutdown();
+
+        assertEquals(1_000, written.size());
+        assertEquals(0, pipeline.droppedCount());
+    }
+
+    @Test
+    @DisplayName("종료된 파이프라인은 호출한 스레드에서 바로 출력하는지 테스트")
+    void publish_AfterShutdown_WritesSynchronously() {
+        List<String> written = new CopyOnWriteArrayList<>();
+        AsyncLogPipeline pipeline = new AsyncLogPipeline(4, LogOverflowPolicy.DROP, event -> written.add(event.message()));
+        pipeline.shutdown();
+
+        pipeline.publish(new LogEvent(LogLevel.ERROR, "after", null));
+
+        assertEquals(List.of("after"), written);
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어 잠든 출력 스레드를 새 로그가 바로 깨우는지 테스트 (최대 대기 시간 1초보다 빨리 출력)")
+    void publish_IdleWriter_IsWokenUp() throws InterruptedException {
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch second = new CountDownLatch(2);
+        AsyncLogPipeline pipeline = new AsyncLogPipeline(16, LogOverflowPolicy.DROP, event -> {
+            first.countDown();
+            second.countDown();
+        });
+
+        pipeline.publish(new LogEvent(LogLevel.INFO, "first", null));
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        // 출력 스레드가 버퍼가 빈 것을 확인하고 잠들 때까지 대기
+        Thread.sleep(50);
+
+        pipeline.publish(new LogEvent(LogLevel.INFO, "second", null));
+
+        assertTrue(second.await(500, TimeUnit.MILLISECONDS));
+        pipeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("로그를 넣는 도중 파이프라인이 종료되어도 유실되는 로그가 없는지 테스트")
+    void publish_ConcurrentShutdown_NoLoss() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            LongAdder written = new LongAdder();
+            AsyncLogPipeline pipeline = new AsyncLogPipeline(1024, LogOverflowPolicy.BLOCK, event -> written.increment());
+            CountDownLatch start = new CountDownLatch(1);
+            Thread[] producers = new Thread[4];
+            for (int i = 0; i < producers.length; i++) {
+                producers[i] = new Thread(() -> {
+                    awaitQuietly(start);
+                    for (int j = 0; j < 2_000; j++) {
+                        pipeline.publish(new LogEvent(LogLevel.INFO, "log-" + j, null));
+                    }
+                });
+                producers[i].start();
+            }
+
+            start.countDown();
+            Thread.sleep(round % 3);
+            pipeline.shutdown();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            assertEquals(4 * 2_000, written.sum());
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
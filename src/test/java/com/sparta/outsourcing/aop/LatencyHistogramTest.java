@@ -0,0 +1,112 @@
+package com.sparta.outsourcing.aop;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("모든 구간이 빈틈없이 이어지고, 값이 자기 구간 범위 안에 들어가는지 테스트")
+    void bucketIndex_CoversRangeContiguously() {
+        for (int bucket = 0; bucket < LatencyHistogram.BUCKET_COUNT; bucket++) {
+            long lowest = LatencyHistogram.lowestValueOf(bucket);
+            long highest = LatencyHistogram.highestValueOf(bucket);
+
+            assertEquals(bucket, LatencyHistogram.bucketIndex(lowest));
+            assertEquals(bucket, LatencyHistogram.bucketIndex(highest));
+            if (bucket > 0) {
+                assertEquals(LatencyHistogram.highestValueOf(bucket - 1) + 1, lowest);
+            }
+            // 구간 폭은 구간 하한의 1/64 이하 (상대 오차 약 1.6%)
+            assertTrue((highest - lowest) * 64 <= Math.max(lowest, 1));
+        }
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS,
+                LatencyHistogram.highestValueOf(LatencyHistogram.BUCKET_COUNT - 1));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("백분위수가 정렬한 실제 값과 상대 오차 범위 안에서 일치하는지 테스트")
+    void snapshot_PercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram(4, 0L);
+        Random random = new Random(7);
+        List<Long> values = new ArrayList<>();
+
+        // 10µs ~ 100ms 사이의 로그 균등 분포
+        for (int i = 0; i < 100_000; i++) {
+            long nanos = (long) Math.pow(10, 4 + random.nextDouble() * 4);
+            values.add(nanos);
+            histogram.record(nanos);
+        }
+        values.sort(null);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot(TimeUnit.SECONDS.toNanos(10));
+
+        assertEquals(100_000, snapshot.count());
+        assertEquals(10_000.0, snapshot.throughputPerSecond(), 0.001);
+        assertEquals(values.get(values.size() - 1), snapshot.maxNanos());
+        assertWithin(values, 0.50, snapshot.p50Nanos());
+        assertWithin(values, 0.90, snapshot.p90Nanos());
+        assertWithin(values, 0.99, snapshot.p99Nanos());
+        assertWithin(values, 0.999, snapshot.p999Nanos());
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 기록해도 건수가 유실되지 않는지 테스트")
+    void record_Concurrent_NoLostCounts() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram(8, 0L);
+        int threads = 8;
+        int perThread = 100_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                // 모든 스레드가 같은 구간에 기록
+                for (int i = 0; i < perThread; i++) {
+                    histogram.record(1_000L);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot(1L);
+        assertEquals((long) threads * perThread, snapshot.count());
+        assertEquals(1_000L, snapshot.p50Nanos());
+        assertEquals(1_000L, snapshot.meanNanos());
+    }
+
+    @Test
+    @DisplayName("기록이 없으면 모든 값이 0 인지 테스트")
+    void snapshot_Empty_ReturnsZero() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram(1, 0L).snapshot(1L);
+
+        assertEquals(0, snapshot.count());
+        assertEquals(0, snapshot.p99Nanos());
+        assertEquals(0, snapshot.maxNanos());
+    }
+
+    private static void assertWithin(List<Long> sorted, double quantile, long actual) {
+        long expected = sorted.get((int) Math.ceil(quantile * sorted.size()) - 1);
+        assertTrue(actual >= expected && actual <= expected + expected / 64 + 1,
+                "p" + quantile + " expected " + expected + " but " + actual);
+    }
+}
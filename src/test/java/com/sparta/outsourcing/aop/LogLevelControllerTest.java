@@ -0,0 +1,63 @@
+package com.sparta.outsourcing.aop;
+
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogLevelControllerTest {
+
+    private LogLevelOverrides overrides;
+    private LogLevelController controller;
+
+    @BeforeEach
+    void setUp() {
+        overrides = new LogLevelOverrides();
+        // 운영자는 2번 유저만
+        controller = new LogLevelController(overrides, new OperatorAccess(Set.of(2L)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        overrides.shutdown();
+    }
+
+    @Test
+    @DisplayName("운영자로 등록되지 않은 유저(사장님 포함)는 로그 레벨을 변경, 조회할 수 없는지 테스트")
+    void logLevel_NotOperator_ThrowsForbidden() {
+        // given
+        LogLevel original = LogUtility.getLogLevel();
+
+        // when
+        ApplicationException set = assertThrows(ApplicationException.class,
+                () -> controller.setLogLevel(LogLevel.TRACE, 1L));
+        ApplicationException override = assertThrows(ApplicationException.class,
+                () -> controller.overrideLoggerLevel("aop", LogLevel.TRACE, null, 1L));
+        ApplicationException list = assertThrows(ApplicationException.class,
+                () -> controller.getLoggerOverrides(null));
+
+        // then
+        assertEquals(ErrorCode.USER_FORBIDDEN, set.getErrorCode());
+        assertEquals(ErrorCode.USER_FORBIDDEN, override.getErrorCode());
+        assertEquals(ErrorCode.USER_FORBIDDEN, list.getErrorCode());
+        assertEquals(original, LogUtility.getLogLevel());
+        assertTrue(overrides.getOverrides().isEmpty());
+    }
+
+    @Test
+    @DisplayName("운영자로 등록된 유저는 로거 레벨을 변경, 복구할 수 있는지 테스트")
+    void overrideLoggerLevel_Operator_ChangesAndReverts() {
+        assertEquals("com.sparta.outsourcing.aop",
+                controller.overrideLoggerLevel("aop", LogLevel.DEBUG, null, 2L).getBody().getLogger());
+        assertEquals(1, controller.getLoggerOverrides(2L).getBody().size());
+
+        assertEquals(204, controller.revertLoggerLevel("aop", 2L).getStatusCode().value());
+        assertTrue(overrides.getOverrides().isEmpty());
+    }
+}
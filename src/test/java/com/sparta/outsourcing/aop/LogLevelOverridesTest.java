@@ -0,0 +1,167 @@
+package com.sparta.outsourcing.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogLevelOverridesTest {
+
+    // 테스트에서 레벨을 바꾸는 로거
+    private static final String[] TOUCHED_LOGGERS = {
+            "com.sparta.outsourcing", "com.sparta.outsourcing.aop", "com.sparta.outsourcing.domain.order",
+            "com.sparta.outsourcing.domain.store", "com.sparta.outsourcing.domain.review", "org.hibernate.SQL"};
+
+    private LogLevelOverrides overrides;
+    private final Map<String, Level> originalLevels = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        overrides = new LogLevelOverrides();
+        for (String name : TOUCHED_LOGGERS) {
+            originalLevels.put(name, logger(name).getLevel());
+        }
+    }
+
+    // 복구 후에도 테스트 전 레벨(설정되지 않았으면 null)로 직접 되돌려 다른 테스트에 영향을 주지 않음
+    @AfterEach
+    void tearDown() {
+        overrides.getOverrides().forEach(override -> overrides.revert(override.getLogger()));
+        overrides.shutdown();
+        originalLevels.forEach((name, level) -> logger(name).setLevel(level));
+    }
+
+    private static Logger logger(String name) {
+        return (Logger) LoggerFactory.getLogger(name);
+    }
+
+    @Test
+    @DisplayName("애플리케이션 패키지 기준 상대 이름으로 해당 패키지의 레벨만 변경되는지 테스트")
+    void override_RelativeName_ChangesOnlyThatPackage() {
+        // when
+        LogLevelOverrideDto result = overrides.override("domain.order", LogLevel.DEBUG, (Long) null);
+
+        // then
+        assertEquals("com.sparta.outsourcing.domain.order", result.getLogger());
+        assertNull(result.getPreviousLevel());
+        assertNull(result.getRevertAt());
+        assertTrue(logger("com.sparta.outsourcing.domain.order.service.OrderService").isDebugEnabled());
+        assertFalse(logger("com.sparta.outsourcing.domain.store.service.StoreService").isDebugEnabled());
+    }
+
+    @Test
+    @DisplayName("복구 시 변경 전 레벨(상위 로거 레벨 상속)로 되돌리는지 테스트")
+    void revert_RestoresInheritedLevel() {
+        // given
+        overrides.override("domain.store", LogLevel.TRACE, (Long) null);
+        overrides.override("domain.store", LogLevel.ERROR, (Long) null);
+
+        // when
+        boolean reverted = overrides.revert("domain.store");
+
+        // then
+        assertTrue(reverted);
+        assertNull(logger("com.sparta.outsourcing.domain.store").getLevel());
+        assertTrue(overrides.getOverrides().isEmpty());
+        assertFalse(overrides.revert("domain.store"));
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지나면 자동으로 복구되는지 테스트")
+    void override_WithTtl_RevertsAutomatically() throws InterruptedException {
+        // given
+        Logger target = logger("com.sparta.outsourcing.domain.review");
+        Level original = target.getLevel();
+
+        // when
+        overrides.override("domain.review", LogLevel.TRACE, Duration.ofMillis(50));
+        assertEquals(Level.TRACE, target.getLevel());
+
+        // then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (target.getLevel() != original && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(original, target.getLevel());
+        assertTrue(overrides.getOverrides().isEmpty());
+    }
+
+    @Test
+    @DisplayName("유지 시간 중 다시 변경하면 이전 자동 복구가 취소되는지 테스트")
+    void override_Again_CancelsPreviousRevert() throws InterruptedException {
+        // given
+        overrides.override("aop", LogLevel.DEBUG, Duration.ofMillis(30));
+
+        // when
+        overrides.override("aop", LogLevel.TRACE, (Long) null);
+        Thread.sleep(100);
+
+        // then
+        assertEquals(Level.TRACE, logger("com.sparta.outsourcing.aop").getLevel());
+        assertEquals(1, overrides.getOverrides().size());
+    }
+
+    @Test
+    @DisplayName("로거 이름이 없거나 유지 시간이 1분 미만이면 예외가 발생하는지 테스트")
+    void override_InvalidRequest_ThrowsException() {
+        ApplicationException blank = assertThrows(ApplicationException.class,
+                () -> overrides.override(" ", LogLevel.DEBUG, (Long) null));
+        ApplicationException ttl = assertThrows(ApplicationException.class,
+                () -> overrides.override("aop", LogLevel.DEBUG, 0L));
+
+        assertEquals(ErrorCode.INVALID_LOG_LEVEL_REQUEST, blank.getErrorCode());
+        assertEquals(ErrorCode.INVALID_LOG_LEVEL_REQUEST, ttl.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("유지 시간이 24시간을 넘거나 계산 범위를 넘는 값이면 레벨을 바꾸지 않고 예외가 발생하는지 테스트")
+    void override_TtlAboveCap_ThrowsException() {
+        Level original = logger("com.sparta.outsourcing.aop").getLevel();
+
+        for (Long ttlMinutes : new Long[]{LogLevelOverrides.MAX_TTL_MINUTES + 1, Long.MAX_VALUE}) {
+            ApplicationException exception = assertThrows(ApplicationException.class,
+                    () -> overrides.override("aop", LogLevel.DEBUG, ttlMinutes));
+            assertEquals(ErrorCode.INVALID_LOG_LEVEL_REQUEST, exception.getErrorCode());
+        }
+        assertEquals(original, logger("com.sparta.outsourcing.aop").getLevel());
+        assertTrue(overrides.getOverrides().isEmpty());
+
+        LogLevelOverrideDto atCap = overrides.override("aop", LogLevel.DEBUG, LogLevelOverrides.MAX_TTL_MINUTES);
+        assertNotNull(atCap.getRevertAt());
+    }
+
+    @Test
+    @DisplayName("애플리케이션 패키지 밖의 로거(ROOT, 바인딩 값 로거 등)는 변경할 수 없는지 테스트")
+    void override_LoggerOutsideApplication_ThrowsException() {
+        for (String name : new String[]{"ROOT", "org.hibernate.orm.jdbc.bind", "org.springframework", "com.sparta.outsourcingx"}) {
+            Level original = logger(name).getLevel();
+
+            ApplicationException exception = assertThrows(ApplicationException.class,
+                    () -> overrides.override(name, LogLevel.TRACE, (Long) null));
+
+            assertEquals(ErrorCode.LOG_LEVEL_LOGGER_NOT_ALLOWED, exception.getErrorCode());
+            assertEquals(original, logger(name).getLevel());
+        }
+        assertTrue(overrides.getOverrides().isEmpty());
+    }
+
+    @Test
+    @DisplayName("허용 목록의 로거(org.hibernate.SQL)는 변경할 수 있는지 테스트")
+    void override_AllowedExternalLogger_ChangesLevel() {
+        LogLevelOverrideDto result = overrides.override("org.hibernate.SQL", LogLevel.DEBUG, (Long) null);
+
+        assertEquals("org.hibernate.SQL", result.getLogger());
+        assertTrue(logger("org.hibernate.SQL").isDebugEnabled());
+    }
+}
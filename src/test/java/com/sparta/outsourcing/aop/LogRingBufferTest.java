@@ -0,0 +1,84 @@
+package com.sparta.outsourcing.aop;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogRingBufferTest {
+
+    @Test
+    @DisplayName("가득 찬 버퍼는 추가를 거절하고, 꺼낸 만큼 다시 추가할 수 있는지 테스트")
+    void offer_Full_ReturnsFalseUntilPolled() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        Integer value;
+        while ((value = buffer.poll()) != null) {
+            drained.add(value);
+        }
+        assertEquals(List.of(1, 2, 3, 4), drained);
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    @DisplayName("2의 거듭제곱이 아닌 크기는 생성할 수 없는지 테스트")
+    void constructor_NotPowerOfTwo_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new LogRingBuffer<Integer>(1000));
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 추가해도 유실, 중복 없이 모두 꺼내지는지 테스트")
+    void offer_ConcurrentProducers_NoLossOrDuplicate() throws Exception {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 50_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        Set<Integer> consumed = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (consumed.size() < producers * perProducer && System.nanoTime() < deadline) {
+            Integer value = buffer.poll();
+            if (value != null) {
+                assertTrue(consumed.add(value), "중복: " + value);
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(producers * perProducer, consumed.size());
+        assertNull(buffer.poll());
+    }
+}
@@ -0,0 +1,66 @@
+package com.sparta.outsourcing.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogUtilityTest {
+
+    private final Logger applicationLogger = (Logger) LoggerFactory.getLogger(LogbackLevels.BASE_PACKAGE);
+    private Level originalLevel;
+
+    // 테스트 전 레벨(설정되지 않았으면 null, 상위 로거 레벨 상속)로 되돌려 다른 테스트에 영향을 주지 않음
+    @BeforeEach
+    void setUp() {
+        originalLevel = applicationLogger.getLevel();
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationLogger.setLevel(originalLevel);
+    }
+
+    @Test
+    @DisplayName("로그 레벨을 선언 순서가 아닌 심각도로 비교하는지 테스트")
+    void isEnabled_ComparesBySeverity() {
+        LogUtility.setLogLevel(LogLevel.WARN);
+
+        assertTrue(LogUtility.isEnabled(LogLevel.ERROR));
+        assertTrue(LogUtility.isEnabled(LogLevel.WARN));
+        assertFalse(LogUtility.isEnabled(LogLevel.INFO));
+        assertFalse(LogUtility.isEnabled(LogLevel.DEBUG));
+        assertFalse(LogUtility.isEnabled(LogLevel.TRACE));
+    }
+
+    @Test
+    @DisplayName("레벨에 걸리는 로그는 메시지를 만들지 않는지 테스트")
+    void log_Disabled_SupplierNotCalled() {
+        LogUtility.setLogLevel(LogLevel.ERROR);
+        AtomicInteger calls = new AtomicInteger();
+
+        LogUtility.log(LogLevel.INFO, () -> "message-" + calls.incrementAndGet());
+        assertEquals(0, calls.get());
+
+        LogUtility.log(LogLevel.ERROR, () -> "message-" + calls.incrementAndGet());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("다른 스레드에서 변경한 로그 레벨이 바로 반영되는지 테스트")
+    void setLogLevel_OtherThread_Visible() throws InterruptedException {
+        Thread thread = new Thread(() -> LogUtility.setLogLevel(LogLevel.ERROR));
+        thread.start();
+        thread.join();
+
+        assertEquals(LogLevel.ERROR, LogUtility.getLogLevel());
+        assertFalse(LogUtility.isEnabled(LogLevel.WARN));
+    }
+}
@@ -0,0 +1,55 @@
+package com.sparta.outsourcing.aop;
+
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsControllerTest {
+
+    private final TraceBuffer traceBuffer = new TraceBuffer(10);
+    private final MetricsController controller = new MetricsController(
+            new LatencyMetrics(), traceBuffer, null, new OperatorAccess(Set.of(2L)));
+
+    @Test
+    @DisplayName("운영자로 등록되지 않은 유저(사장님 포함)는 지표, 트레이스를 조회하거나 비울 수 없는지 테스트")
+    void metrics_NotOperator_ThrowsForbidden() {
+        // given
+        Trace trace = new Trace("trace-1", "GET", "/api/orders", 10);
+        trace.finish("/api/orders", 200);
+        traceBuffer.offer(trace);
+
+        // when & then
+        for (Runnable call : new Runnable[]{
+                () -> controller.getLatencyStats(1L),
+                () -> controller.getSlowestTraces(20, 1L),
+                () -> controller.getTrace("trace-1", 1L),
+                () -> controller.clearTraces(1L),
+                () -> controller.getTokenCacheStats(null)}) {
+            ApplicationException exception = assertThrows(ApplicationException.class, call::run);
+            assertEquals(ErrorCode.USER_FORBIDDEN, exception.getErrorCode());
+        }
+        assertNotNull(traceBuffer.find("trace-1"));
+    }
+
+    @Test
+    @DisplayName("운영자로 등록된 유저는 트레이스를 조회하고 비울 수 있는지 테스트")
+    void traces_Operator_ReturnsAndClears() {
+        // given
+        Trace trace = new Trace("trace-1", "GET", "/api/orders", 10);
+        trace.finish("/api/orders", 200);
+        traceBuffer.offer(trace);
+
+        // when
+        int found = controller.getSlowestTraces(20, 2L).getBody().size();
+        controller.clearTraces(2L);
+
+        // then
+        assertEquals(1, found);
+        assertNull(traceBuffer.find("trace-1"));
+    }
+}
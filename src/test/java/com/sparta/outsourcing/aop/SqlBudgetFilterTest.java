@@ -0,0 +1,116 @@
+package com.sparta.outsourcing.aop;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlBudgetFilterTest {
+
+    private final SqlCountingStatementInspector inspector = new SqlCountingStatementInspector();
+    private SqlBudgetProperties properties;
+    private SqlBudgetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SqlBudgetProperties();
+        properties.setDefaultMaxStatements(5);
+        properties.setRepeatedQueryThreshold(3);
+        properties.setFailOnViolation(true);
+        filter = new SqlBudgetFilter(properties);
+    }
+
+    // 요청 처리 중 서로 다른 형태의 SQL 을 count 건 실행하는 체인
+    private FilterChain distinctStatements(int count) {
+        return (request, response) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/orders/user/{orderId}");
+            for (int i = 0; i < count; i++) {
+                inspector.inspect("select * from table_" + (char) ('a' + i) + " where id=?");
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("요청당 SQL 건수가 기본 한도를 넘으면 실패하는지 테스트")
+    void doFilter_OverDefaultBudget_Throws() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/user/1");
+
+        SqlBudgetExceededException exception = assertThrows(SqlBudgetExceededException.class,
+                () -> filter.doFilter(request, new MockHttpServletResponse(), distinctStatements(6)));
+
+        assertTrue(exception.getMessage().contains("GET /api/orders/user/{orderId}"));
+        assertTrue(exception.getMessage().contains("6"));
+    }
+
+    @Test
+    @DisplayName("한도 이내의 요청은 통과하는지 테스트")
+    void doFilter_WithinBudget_Passes() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/user/1");
+
+        assertDoesNotThrow(() -> filter.doFilter(request, new MockHttpServletResponse(), distinctStatements(5)));
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 한도가 기본 한도보다 우선하는지 테스트")
+    void doFilter_EndpointBudget_OverridesDefault() {
+        properties.getEndpoints().put("/api/orders/user/{orderId}", 10);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/user/1");
+
+        assertDoesNotThrow(() -> filter.doFilter(request, new MockHttpServletResponse(), distinctStatements(8)));
+
+        properties.getEndpoints().put("GET /api/orders/user/{orderId}", 7);
+        assertThrows(SqlBudgetExceededException.class,
+                () -> filter.doFilter(new MockHttpServletRequest("GET", "/api/orders/user/1"), new MockHttpServletResponse(), distinctStatements(8)));
+    }
+
+    @Test
+    @DisplayName("id 만 다른 같은 형태의 SQL 이 반복되면 N+1 로 감지하는지 테스트")
+    void doFilter_RepeatedShape_DetectsNPlusOne() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/owner");
+        FilterChain chain = (req, res) -> {
+            inspector.inspect("select o1_0.id from orders o1_0 where o1_0.store_id=?");
+            for (long menuId = 1; menuId <= 3; menuId++) {
+                inspector.inspect("select m1_0.id,m1_0.name from menu m1_0 where m1_0.id=" + menuId);
+            }
+        };
+
+        SqlBudgetExceededException exception = assertThrows(SqlBudgetExceededException.class,
+                () -> filter.doFilter(request, new MockHttpServletResponse(), chain));
+
+        assertTrue(exception.getMessage().contains("N+1"));
+        assertTrue(exception.getMessage().contains("from menu m1_0 where m1_0.id=?"));
+    }
+
+    @Test
+    @DisplayName("운영 설정에서는 한도를 넘어도 요청이 실패하지 않는지 테스트")
+    void doFilter_WarnOnly_DoesNotThrow() {
+        properties.setFailOnViolation(false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/user/1");
+
+        assertDoesNotThrow(() -> filter.doFilter(request, new MockHttpServletResponse(), distinctStatements(20)));
+    }
+
+    @Test
+    @DisplayName("요청이 끝나면 집계가 정리되어 요청 밖의 SQL 은 집계하지 않는지 테스트")
+    void doFilter_AfterRequest_TrackerCleared() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/stores"), new MockHttpServletResponse(), distinctStatements(1));
+
+        assertNull(SqlRequestTracker.current());
+        assertEquals("select 1", inspector.inspect("select 1"));
+    }
+
+    @Test
+    @DisplayName("바인딩 값, 리터럴, IN 목록 길이가 달라도 같은 형태로 묶이는지 테스트")
+    void shapeOf_NormalizesLiteralsAndInLists() {
+        String first = SqlRequestStats.shapeOf("select *  from orders\n where id in (?, ?, ?) and name='a''b' and price > 10.5");
+        String second = SqlRequestStats.shapeOf("SELECT * FROM orders WHERE id IN (?) AND name='x' AND price > 3");
+
+        assertEquals(first, second);
+        assertEquals("select * from orders where id in (?) and name=? and price > ?", first);
+    }
+}
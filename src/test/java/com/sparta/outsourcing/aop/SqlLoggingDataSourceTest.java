@@ -0,0 +1,183 @@
+package com.sparta.outsourcing.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SqlLoggingDataSourceTest {
+
+    private static final String SQL = "select * from orders where id=? and status=?";
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private SqlLogger sqlLogger;
+
+    private SqlLoggingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SQL)).thenReturn(preparedStatement);
+        dataSource = new SqlLoggingDataSource(targetDataSource, sqlLogger);
+    }
+
+    @Test
+    @DisplayName("바인딩 값과 SQL 이 실행 시 SqlLogger 로 전달되는지 테스트")
+    void executeQuery_PassesSqlAndParameters() throws Exception {
+        // given
+        PreparedStatement statement = dataSource.getConnection().prepareStatement(SQL);
+        statement.setLong(1, 10L);
+        statement.setString(2, "ORDER_PLACED");
+
+        // when
+        statement.executeQuery();
+
+        // then
+        ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(sqlLogger).logIfNeeded(eq(SQL), parameters.capture(), eq(2), eq(0), anyLong());
+        assertEquals(10L, parameters.getValue()[0]);
+        assertEquals("ORDER_PLACED", parameters.getValue()[1]);
+        verify(preparedStatement).setLong(1, 10L);
+        verify(preparedStatement).executeQuery();
+    }
+
+    @Test
+    @DisplayName("배치 실행 시 배치 건수를 전달하고, 실행 후 초기화되는지 테스트")
+    void executeBatch_PassesBatchSize() throws Exception {
+        // given
+        PreparedStatement statement = dataSource.getConnection().prepareStatement(SQL);
+        for (long id = 1; id <= 3; id++) {
+            statement.setLong(1, id);
+            statement.setNull(2, Types.VARCHAR);
+            statement.addBatch();
+        }
+
+        // when
+        statement.executeBatch();
+        statement.executeBatch();
+
+        // then
+        verify(sqlLogger).logIfNeeded(eq(SQL), any(), eq(2), eq(3), anyLong());
+        verify(sqlLogger).logIfNeeded(eq(SQL), any(), eq(2), eq(0), anyLong());
+    }
+
+    @Test
+    @DisplayName("컨텍스트 종료 시 close() 가 원본 DataSource(커넥션 풀)에 전달되는지 테스트")
+    void close_ClosesTargetPool() throws Exception {
+        DataSource pool = mock(DataSource.class, withSettings().extraInterfaces(AutoCloseable.class));
+
+        new SqlLoggingDataSource(pool, sqlLogger).close();
+        // 닫을 수 없는 DataSource 는 그대로 둠
+        new SqlLoggingDataSource(targetDataSource, sqlLogger).close();
+
+        verify((AutoCloseable) pool).close();
+    }
+
+    @Test
+    @DisplayName("느린 SQL 은 비율과 관계없이 항상, 일반 SQL 은 비율만큼만 로그로 남기는지 테스트")
+    void logIfNeeded_SamplesAndAlwaysLogsSlowQueries() {
+        SqlLoggingProperties properties = new SqlLoggingProperties();
+        properties.setSampleRate(0.1);
+        properties.setSlowThresholdMillis(200);
+        Object[] parameters = {1L};
+
+        SqlLogger notSampled = new SqlLogger(properties, () -> 0.5);
+        assertFalse(notSampled.logIfNeeded(SQL, parameters, 1, 0, TimeUnit.MILLISECONDS.toNanos(5)));
+        assertTrue(notSampled.logIfNeeded(SQL, parameters, 1, 0, TimeUnit.MILLISECONDS.toNanos(200)));
+
+        SqlLogger sampled = new SqlLogger(properties, () -> 0.05);
+        assertTrue(sampled.logIfNeeded(SQL, parameters, 1, 0, TimeUnit.MILLISECONDS.toNanos(5)));
+
+        properties.setSampleRate(0.0);
+        assertFalse(new SqlLogger(properties, () -> 0.0).logIfNeeded(SQL, parameters, 1, 0, 0L));
+    }
+
+    @Test
+    @DisplayName("바인딩 값 문자열은 따옴표로 감싸고 최대 길이로 자르는지 테스트")
+    void formatParameters_QuotesAndTruncates() {
+        SqlLoggingProperties properties = new SqlLoggingProperties();
+        properties.setMaxParameterLength(5);
+        SqlLogger logger = new SqlLogger(properties, () -> 1.0);
+
+        String formatted = logger.formatParameters(SQL, new Object[]{1L, "abcdefgh", null, new byte[16], "x"}, 4);
+
+        assertEquals("[1, 'abcde...', null, <16 bytes>]", formatted);
+    }
+
+    @Test
+    @DisplayName("user 테이블이나 민감한 컬럼을 다루는 SQL 은 문자열 바인딩 값만 가리는지 테스트")
+    void formatParameters_SensitiveSql_RedactsStrings() {
+        SqlLogger logger = new SqlLogger(new SqlLoggingProperties(), () -> 1.0);
+        Object[] parameters = {"a@a.com", 1L, false};
+
+        assertEquals("['***', 1, false]", logger.formatParameters(
+                "select u1_0.id,u1_0.password from user u1_0 where u1_0.email=?", parameters, 3));
+        assertEquals("['***', 1, false]", logger.formatParameters(
+                "insert into token_revocation (revoked_before,user_id) values (?,?)", parameters, 3));
+        assertEquals("['***', 1, false]", logger.formatParameters(null, parameters, 3));
+        assertEquals("['a@a.com', 1, false]", logger.formatParameters(
+                "select o1_0.id from orders o1_0 where o1_0.user_id=?", parameters, 3));
+    }
+
+    @Test
+    @DisplayName("회원가입 SQL 을 로그로 남겨도 비밀번호 해시, 이메일이 출력되지 않는지 테스트")
+    void logIfNeeded_UserInsert_NeverWritesPasswordHash() {
+        // given
+        String passwordHash = "$2a$04$Q1qUe9mCM7pPbOvGxAoQOe6qO7f9Gk3sZt8xF1m9Z0bN6rVYl1wXe";
+        String insert = "insert into user (created_at,deleted,email,modified_at,password,user_role) values (?,?,?,?,?,?)";
+        Object[] parameters = {null, false, "owner@example.com", null, passwordHash, "OWNER"};
+
+        Logger sqlLog = (Logger) LoggerFactory.getLogger("sql");
+        Level originalLevel = sqlLog.getLevel();
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        sqlLog.addAppender(appender);
+        sqlLog.setLevel(Level.INFO);
+
+        try {
+            // when
+            SqlLogger logger = new SqlLogger(new SqlLoggingProperties(), () -> 0.0);
+            assertTrue(logger.logIfNeeded(insert, parameters, 6, 0, 0L));
+            assertTrue(logger.logIfNeeded(insert, parameters, 6, 0, TimeUnit.SECONDS.toNanos(1)));
+
+            // then
+            assertEquals(2, appender.list.size());
+            for (ILoggingEvent event : appender.list) {
+                String message = event.getFormattedMessage();
+                assertFalse(message.contains(passwordHash.substring(0, 20)), message);
+                assertFalse(message.contains("owner@example.com"), message);
+                assertTrue(message.contains("'***'"), message);
+            }
+        } finally {
+            sqlLog.detachAppender(appender);
+            sqlLog.setLevel(originalLevel);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.sparta.outsourcing.aop;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceBufferTest {
+
+    // durationNanos 만큼 걸린 것으로 끝난 트레이스
+    private Trace finished(String traceId, long durationNanos) throws Exception {
+        Trace trace = new Trace(traceId, "GET", "/api/orders", 10);
+        trace.finish("/api/orders", 200);
+        var field = Trace.class.getDeclaredField("durationNanos");
+        field.setAccessible(true);
+        field.setLong(trace, durationNanos);
+        return trace;
+    }
+
+    @Test
+    @DisplayName("가득 찬 뒤에는 보관 중인 가장 빠른 트레이스보다 느린 트레이스만 남는지 테스트")
+    void offer_KeepsSlowestTraces() throws Exception {
+        TraceBuffer buffer = new TraceBuffer(3);
+        long[] durations = {50, 10, 70, 30, 90, 20, 60};
+        for (int i = 0; i < durations.length; i++) {
+            buffer.offer(finished("trace-" + i, durations[i]));
+        }
+
+        List<Trace> slowest = buffer.getSlowest(10);
+
+        assertEquals(List.of(90L, 70L, 60L), slowest.stream().map(Trace::getDurationNanos).toList());
+        assertEquals(7, buffer.getRecordedCount());
+        assertEquals(2, buffer.getSlowest(2).size());
+    }
+
+    @Test
+    @DisplayName("보관 중인 트레이스를 트레이스 ID 로 조회하고, 비운 뒤에는 다시 채워지는지 테스트")
+    void findAndClear() throws Exception {
+        TraceBuffer buffer = new TraceBuffer(2);
+        buffer.offer(finished("a", 100));
+        buffer.offer(finished("b", 200));
+        buffer.offer(finished("c", 50));
+
+        assertNotNull(buffer.find("a"));
+        assertNull(buffer.find("c"));
+
+        buffer.clear();
+        assertTrue(buffer.getSlowest(10).isEmpty());
+
+        buffer.offer(finished("d", 1));
+        assertEquals("d", buffer.getSlowest(10).get(0).getTraceId());
+    }
+
+    @Test
+    @DisplayName("음수 limit 으로 조회하면 빈 목록을 반환하는지 테스트")
+    void getSlowest_NegativeLimit_ReturnsEmpty() throws Exception {
+        TraceBuffer buffer = new TraceBuffer(2);
+        buffer.offer(finished("a", 100));
+
+        assertTrue(buffer.getSlowest(-1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("보관 건수를 0 으로 설정해도 생성되고 가장 느린 1건을 보관하는지 테스트")
+    void constructor_ZeroCapacity_KeepsOneTrace() throws Exception {
+        TraceBuffer buffer = new TraceBuffer(0);
+        buffer.offer(finished("a", 100));
+        buffer.offer(finished("b", 200));
+
+        assertEquals(List.of("b"), buffer.getSlowest(10).stream().map(Trace::getTraceId).toList());
+    }
+}
@@ -0,0 +1,98 @@
+package com.sparta.outsourcing.aop;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceFilterTest {
+
+    private final TraceBuffer traceBuffer = new TraceBuffer(10);
+    private final TraceFilter traceFilter = new TraceFilter(traceBuffer, 5);
+
+    @Test
+    @DisplayName("요청마다 트레이스 ID 를 응답 헤더로 내려주고, 필터와 하위 구간이 부모 구간 아래에 기록되는지 테스트")
+    void doFilter_RecordsNestedSpans() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/user/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String[] traceIdInChain = new String[1];
+
+        // TraceFilter -> SpanFilter(JwtFilter 대신) -> 서비스, 리포지토리 구간
+        SpanFilter innerFilter = new SpanFilter((req, res, chain) -> chain.doFilter(req, res));
+        FilterChain chain = (req, res) -> innerFilter.doFilter(req, res, (req2, res2) -> {
+            traceIdInChain[0] = MDC.get(TraceFilter.MDC_KEY);
+            req2.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/orders/user/{orderId}");
+            Trace trace = TraceContext.current();
+            Span service = trace.startSpan(SpanKind.SERVICE, "OrderService", "getOrderForUser");
+            Span repository = trace.startSpan(SpanKind.REPOSITORY, "OrderRepository", "findById");
+            trace.endSpan(repository, null);
+            trace.endSpan(service, new IllegalStateException());
+        });
+
+        traceFilter.doFilter(request, response, chain);
+
+        String traceId = response.getHeader(TraceFilter.TRACE_ID_HEADER);
+        assertNotNull(traceId);
+        assertEquals(traceId, traceIdInChain[0]);
+        assertNull(MDC.get(TraceFilter.MDC_KEY));
+        assertNull(TraceContext.current());
+
+        Trace trace = traceBuffer.find(traceId);
+        assertEquals("/api/orders/user/{orderId}", trace.getEndpoint());
+        assertEquals(200, trace.getStatus());
+
+        List<Span> spans = trace.getSpans();
+        assertEquals(4, spans.size());
+        assertEquals("GET /api/orders/user/{orderId}", spans.get(0).getName());
+        assertEquals(SpanKind.FILTER, spans.get(1).getKind());
+        assertEquals(spans.get(0).getId(), spans.get(1).getParentId());
+        assertEquals(spans.get(1).getId(), spans.get(2).getParentId());
+        assertEquals("OrderRepository.findById", spans.get(3).getName());
+        assertEquals(spans.get(2).getId(), spans.get(3).getParentId());
+        assertEquals("IllegalStateException", spans.get(2).getError());
+        assertTrue(spans.get(0).getDurationNanos() >= spans.get(1).getDurationNanos());
+    }
+
+    @Test
+    @DisplayName("호출한 쪽에서 넘긴 올바른 트레이스 ID 는 그대로 사용하고, 잘못된 값은 새로 만드는지 테스트")
+    void doFilter_PropagatesValidIncomingTraceId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/stores");
+        request.addHeader(TraceFilter.TRACE_ID_HEADER, "4BF92F3577B34DA6A3CE929D0E0E4736");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        traceFilter.doFilter(request, response, new MockFilterChain());
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", response.getHeader(TraceFilter.TRACE_ID_HEADER));
+
+        MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/api/stores");
+        invalid.addHeader(TraceFilter.TRACE_ID_HEADER, "not-a-trace-id\r\nX-Injected: 1");
+        MockHttpServletResponse invalidResponse = new MockHttpServletResponse();
+        traceFilter.doFilter(invalid, invalidResponse, new MockFilterChain());
+        assertTrue(invalidResponse.getHeader(TraceFilter.TRACE_ID_HEADER).matches("[0-9a-f]{16}"));
+    }
+
+    @Test
+    @DisplayName("요청 하나의 구간 수가 한도를 넘으면 버리고 건수만 기록하는지 테스트")
+    void doFilter_TooManySpans_DropsExtraSpans() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/owner");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            Trace trace = TraceContext.current();
+            for (int i = 0; i < 10; i++) {
+                trace.endSpan(trace.startSpan(SpanKind.REPOSITORY, "MenuRepository", "findById"), null);
+            }
+        };
+
+        traceFilter.doFilter(request, response, chain);
+
+        Trace trace = traceBuffer.find(response.getHeader(TraceFilter.TRACE_ID_HEADER));
+        assertEquals(5, trace.getSpans().size());
+        assertEquals(6, trace.getDroppedSpanCount());
+    }
+}
@@ -0,0 +1,167 @@
+package com.sparta.outsourcing.domain.order.audit;
+
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderAuditJournalTest {
+
+    private static final long T0 = 1_727_000_000_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("주문 생성, 상태 변경 레코드가 기록된 순서대로 조회되는지 테스트")
+    void historyOf_ReturnsRecordsInOrder() {
+        OrderAuditJournal journal = new OrderAuditJournal(directory, 100);
+        journal.append(created(1L, 10L, T0));
+        journal.append(created(2L, 10L, T0 + 1));
+        journal.append(changed(1L, 10L, T0 + 2, OrderStatus.ORDER_PLACED, OrderStatus.ORDER_CONFIRMED));
+
+        List<OrderAuditRecord> history = journal.historyOf(1L);
+
+        assertEquals(2, history.size());
+        assertTrue(history.get(0).isCreation());
+        assertEquals(UserRole.USER, history.get(0).actorRole());
+        assertEquals(OrderStatus.ORDER_PLACED, history.get(1).fromStatus());
+        assertEquals(OrderStatus.ORDER_CONFIRMED, history.get(1).toStatus());
+        assertEquals(2L, history.get(1).actorId());
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("시스템 변경(자동 취소)은 변경한 유저 없이 기록되는지 테스트")
+    void append_SystemChange_HasNoActor() {
+        OrderAuditJournal journal = new OrderAuditJournal(directory, 100);
+        journal.append(new OrderAuditRecord(T0, 1L, 10L, 1L, null, null, OrderStatus.ORDER_PLACED, OrderStatus.ORDER_CANCELED));
+
+        OrderAuditRecord record = journal.historyOf(1L).get(0);
+
+        assertNull(record.actorId());
+        assertNull(record.actorRole());
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("저널을 다시 열면 기존 레코드 다음 위치부터 이어서 기록되는지 테스트")
+    void reopen_ContinuesAfterExistingRecords() {
+        OrderAuditJournal journal = new OrderAuditJournal(directory, 100);
+        journal.append(created(1L, 10L, T0));
+        journal.close();
+
+        OrderAuditJournal reopened = new OrderAuditJournal(directory, 100);
+        reopened.append(changed(1L, 10L, T0 + 1, OrderStatus.ORDER_PLACED, OrderStatus.ORDER_CONFIRMED));
+
+        List<OrderAuditRecord> history = reopened.historyOf(1L);
+        assertEquals(2, history.size());
+        assertTrue(history.get(0).isCreation());
+        assertEquals(OrderStatus.ORDER_CONFIRMED, history.get(1).toStatus());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 다음 세그먼트로 이어서 기록되고, 다시 열어도 모든 레코드가 조회되는지 테스트")
+    void append_SegmentFull_RotatesToNextSegment() {
+        OrderAuditJournal journal = new OrderAuditJournal(directory, 4);
+        for (long orderId = 1; orderId <= 10; orderId++) {
+            journal.append(created(orderId, 10L, T0 + orderId));
+        }
+        assertEquals(3, journal.segmentCount());
+        journal.close();
+
+        OrderAuditJournal reopened = new OrderAuditJournal(directory, 4);
+        assertEquals(3, reopened.segmentCount());
+        reopened.append(created(11L, 10L, T0 + 11));
+
+        long[] count = {0};
+        reopened.replay(record -> count[0]++);
+        assertEquals(11, count[0]);
+        assertEquals(1, reopened.historyOf(11L).size());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("주문 이력 조회 시 주문 ID 범위 밖의 세그먼트는 건너뛰고, 다시 열어도 범위가 복원되는지 테스트")
+    void historyOf_SkipsSegmentsOutsideOrderIdRange() {
+        OrderAuditJournal journal = new OrderAuditJournal(directory, 4);
+        for (long orderId = 1; orderId <= 10; orderId++) {
+            journal.append(created(orderId, 10L, T0 + orderId));
+        }
+        journal.append(changed(9L, 10L, T0 + 11, OrderStatus.ORDER_PLACED, OrderStatus.ORDER_CONFIRMED));
+
+        // 세그먼트별 주문 ID 범위: [1, 4], [5, 8], [9, 10]
+        assertEquals(1, journal.segmentsOf(6L).size());
+        assertEquals(1, journal.segmentsOf(9L).size());
+        assertTrue(journal.segmentsOf(11L).isEmpty());
+        assertEquals(2, journal.historyOf(9L).size());
+        journal.close();
+
+        OrderAuditJournal reopened = new OrderAuditJournal(directory, 4);
+        assertEquals(1, reopened.segmentsOf(6L).size());
+        assertEquals(0, reopened.segmentsOf(0L).size());
+        assertEquals(1, reopened.historyOf(6L).size());
+        assertEquals(2, reopened.historyOf(9L).size());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("기록 도중 중단된 마지막 레코드는 무시되고 그 위치부터 다시 기록되는지 테스트")
+    void reopen_CorruptedTail_IsIgnored() throws IOException {
+        OrderAuditJournal journal = new OrderAuditJournal(directory, 100);
+        journal.append(created(1L, 10L, T0));
+        journal.append(created(2L, 10L, T0 + 1));
+        journal.close();
+
+        // 두 번째 레코드의 주문 ID 일부만 기록된 상태로 만듦
+        Path segment = directory.resolve(OrderAuditSegment.fileName(0));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), OrderAuditRecord.SIZE + 8);
+        }
+
+        OrderAuditJournal reopened = new OrderAuditJournal(directory, 100);
+        assertEquals(1, reopened.historyOf(1L).size());
+        assertTrue(reopened.historyOf(2L).isEmpty());
+
+        reopened.append(created(3L, 10L, T0 + 2));
+        assertEquals(1, reopened.historyOf(3L).size());
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("가게 이력은 해당 가게의 [from, to) 기간 레코드만 조회되는지 테스트")
+    void storeHistory_FiltersByStoreAndTimeWindow() {
+        OrderAuditJournal journal = new OrderAuditJournal(directory, 2);
+        journal.append(created(1L, 10L, T0));
+        journal.append(created(2L, 20L, T0 + 100));
+        journal.append(created(3L, 10L, T0 + 200));
+        journal.append(changed(3L, 10L, T0 + 300, OrderStatus.ORDER_PLACED, OrderStatus.ORDER_CONFIRMED));
+        journal.append(created(4L, 10L, T0 + 400));
+
+        List<OrderAuditRecord> history = journal.storeHistory(10L, T0 + 100, T0 + 400);
+
+        assertEquals(2, history.size());
+        assertEquals(3L, history.get(0).orderId());
+        assertEquals(OrderStatus.ORDER_CONFIRMED, history.get(1).toStatus());
+        journal.close();
+    }
+
+    private OrderAuditRecord created(long orderId, long storeId, long occurredAt) {
+        return new OrderAuditRecord(occurredAt, orderId, storeId, 1L, 1L, UserRole.USER, null, OrderStatus.ORDER_PLACED);
+    }
+
+    private OrderAuditRecord changed(long orderId, long storeId, long occurredAt, OrderStatus from, OrderStatus to) {
+        return new OrderAuditRecord(occurredAt, orderId, storeId, 1L, 2L, UserRole.OWNER, from, to);
+    }
+}
@@ -1,8 +1,12 @@
 package com.sparta.outsourcing.domain.order.controller;
 
 import com.sparta.outsourcing.domain.order.dto.request.OrderRequestDto;
+import com.sparta.outsourcing.domain.order.dto.request.OrderStatusBatchRequestDto;
 import com.sparta.outsourcing.domain.order.dto.response.OrderResponseDto;
+import com.sparta.outsourcing.domain.order.dto.response.OrderStatusBatchResponseDto;
+import com.sparta.outsourcing.domain.order.dto.response.OwnerOrderPageResponseDto;
 import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import com.sparta.outsourcing.domain.order.service.OrderIdempotencyService;
 import com.sparta.outsourcing.domain.order.service.OrderService;
 import com.sparta.outsourcing.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,9 +16,14 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class OrderControllerTest {
@@ -22,6 +31,9 @@ class OrderControllerTest {
     @Mock
     private OrderService orderService;
 
+    @Mock
+    private OrderIdempotencyService orderIdempotencyService;
+
     @InjectMocks
     private OrderController orderController;
 
@@ -36,12 +48,25 @@ class OrderControllerTest {
         OrderResponseDto responseDto = new OrderResponseDto();
         when(orderService.createOrder(any(OrderRequestDto.class), eq(UserRole.USER))).thenReturn(responseDto);
 
-        ResponseEntity<OrderResponseDto> response = orderController.createOrder(requestDto, UserRole.USER);
+        ResponseEntity<OrderResponseDto> response = orderController.createOrder(requestDto, null, 1L, UserRole.USER);
 
         assertEquals(201, response.getStatusCodeValue());
         assertEquals(responseDto, response.getBody());
     }
 
+    @Test
+    void createOrderWithIdempotencyKeySuccessfully() {
+        OrderRequestDto requestDto = new OrderRequestDto();
+        OrderResponseDto responseDto = new OrderResponseDto();
+        when(orderIdempotencyService.createOrder(any(OrderRequestDto.class), eq(UserRole.USER), eq(1L), eq("key-1"))).thenReturn(responseDto);
+
+        ResponseEntity<OrderResponseDto> response = orderController.createOrder(requestDto, "key-1", 1L, UserRole.USER);
+
+        assertEquals(201, response.getStatusCodeValue());
+        assertEquals(responseDto, response.getBody());
+        verifyNoInteractions(orderService);
+    }
+
     @Test
     void updateOrderStatusSuccessfully() {
         OrderResponseDto responseDto = new OrderResponseDto();
@@ -53,6 +78,18 @@ class OrderControllerTest {
         assertEquals(responseDto, response.getBody());
     }
 
+    @Test
+    void updateOrderStatusBatchSuccessfully() {
+        OrderStatusBatchRequestDto requestDto = new OrderStatusBatchRequestDto(List.of(1L, 2L), OrderStatus.ORDER_PREPARING);
+        OrderStatusBatchResponseDto responseDto = new OrderStatusBatchResponseDto(OrderStatus.ORDER_PREPARING, List.of(1L, 2L), List.of());
+        when(orderService.updateOrderStatusBatch(eq(List.of(1L, 2L)), eq(OrderStatus.ORDER_PREPARING), eq(UserRole.OWNER), eq(1L))).thenReturn(responseDto);
+
+        ResponseEntity<OrderStatusBatchResponseDto> response = orderController.updateOrderStatusBatch(requestDto, 1L, UserRole.OWNER);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(responseDto, response.getBody());
+    }
+
     @Test
     void getOrderForUserSuccessfully() {
         OrderResponseDto responseDto = new OrderResponseDto();
@@ -74,4 +111,15 @@ class OrderControllerTest {
         assertEquals(200, response.getStatusCodeValue());
         assertEquals(responseDto, response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getOrderBoardSuccessfully() {
+        OwnerOrderPageResponseDto responseDto = new OwnerOrderPageResponseDto(Collections.emptyList(), null, false);
+        when(orderService.getOrderBoard(eq(1L), eq(OrderStatus.ORDER_PLACED), isNull(), eq(50), eq(1L), eq(UserRole.OWNER))).thenReturn(responseDto);
+
+        ResponseEntity<OwnerOrderPageResponseDto> response = orderController.getOrderBoard(1L, OrderStatus.ORDER_PLACED, null, 50, 1L, UserRole.OWNER);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(responseDto, response.getBody());
+    }
+}
@@ -0,0 +1,222 @@
+package com.sparta.outsourcing.domain.order.event;
+
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderEventHubTest {
+
+    private OrderStatusEvent event(Long orderId, Long storeId) {
+        return new OrderStatusEvent(orderId, storeId, 1L, OrderStatus.ORDER_CONFIRMED, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 찰 때까지 이벤트를 가져가지 않는 구독자는 연결이 종료되는지 테스트")
+    void publish_SlowSubscriber_IsEvicted() {
+        // 전송 작업을 실행하지 않는 dispatcher (느린 구독자)
+        List<Runnable> pending = new ArrayList<>();
+        OrderEventHub hub = new OrderEventHub(pending::add);
+        hub.subscribeStore(1L);
+
+        for (long i = 0; i < 64; i++) {
+            hub.publish(event(i, 1L));
+        }
+
+        assertEquals(1, hub.subscriberCount());
+        // 구독자당 전송 작업은 하나만 예약됨
+        assertEquals(1, pending.size());
+
+        hub.publish(event(64L, 1L));
+
+        assertEquals(0, hub.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("이벤트를 바로 가져가는 구독자는 버퍼 크기 이상의 이벤트에도 연결이 유지되는지 테스트")
+    void publish_FastSubscriber_StaysSubscribed() {
+        OrderEventHub hub = new OrderEventHub(Runnable::run);
+        hub.subscribeStore(1L);
+
+        for (long i = 0; i < 500; i++) {
+            hub.publish(event(i, 1L));
+        }
+
+        assertEquals(1, hub.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("이벤트가 해당 가게, 해당 주문 구독자에게만 전달되는지 테스트")
+    void publish_RoutesByStoreAndOrder() {
+        List<Runnable> pending = new ArrayList<>();
+        OrderEventHub hub = new OrderEventHub(pending::add);
+        hub.subscribeStore(1L);
+        hub.subscribeOrder(10L, () -> null);
+
+        hub.publish(event(11L, 2L));
+        assertEquals(0, pending.size());
+
+        hub.publish(event(10L, 2L));
+        assertEquals(1, pending.size());
+
+        hub.publish(event(11L, 1L));
+        assertEquals(2, pending.size());
+    }
+
+    @Test
+    @DisplayName("구독 등록 후 상태를 조회하는 사이 커밋된 변경이 전달되고, 더 오래된 조회 상태로 덮어쓰지 않는지 테스트")
+    void subscribeOrder_ChangeDuringSnapshot_IsDeliveredAndNotOverwritten() {
+        RecordingHub hub = new RecordingHub();
+        LocalDateTime placedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        LocalDateTime confirmedAt = placedAt.plusSeconds(5);
+
+        // 조회 직전에 상태 변경이 커밋되어 이벤트가 먼저 전달되고, 조회 결과는 그 이전 상태인 경우
+        hub.subscribeOrder(10L, () -> {
+            hub.publish(new OrderStatusEvent(10L, 1L, 1L, OrderStatus.ORDER_CONFIRMED, confirmedAt));
+            return new OrderStatusEvent(10L, 1L, 1L, OrderStatus.ORDER_PLACED, placedAt);
+        });
+
+        assertEquals(List.of(OrderStatus.ORDER_CONFIRMED), hub.sent);
+    }
+
+    @Test
+    @DisplayName("조회한 상태 이후의 변경은 순서대로 전달되는지 테스트")
+    void subscribeOrder_LaterChanges_AreDeliveredInOrder() {
+        RecordingHub hub = new RecordingHub();
+        LocalDateTime placedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        hub.subscribeOrder(10L, () -> new OrderStatusEvent(10L, 1L, 1L, OrderStatus.ORDER_PLACED, placedAt));
+        hub.publish(new OrderStatusEvent(10L, 1L, 1L, OrderStatus.ORDER_CONFIRMED, placedAt.plusSeconds(5)));
+
+        assertEquals(List.of(OrderStatus.ORDER_PLACED, OrderStatus.ORDER_CONFIRMED), hub.sent);
+    }
+
+    @Test
+    @DisplayName("가게 구독자는 발생 일시가 앞선 다른 주문의 이벤트도 모두 전달받는지 테스트")
+    void subscribeStore_OtherOrdersOutOfTimeOrder_AreAllDelivered() {
+        RecordingHub hub = new RecordingHub();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        hub.subscribeStore(1L);
+
+        hub.publish(new OrderStatusEvent(10L, 1L, 1L, OrderStatus.ORDER_CONFIRMED, now));
+        hub.publish(new OrderStatusEvent(11L, 1L, 2L, OrderStatus.ORDER_PLACED, now.minusSeconds(1)));
+
+        assertEquals(List.of(OrderStatus.ORDER_CONFIRMED, OrderStatus.ORDER_PLACED), hub.sent);
+    }
+
+    @Test
+    @DisplayName("구독 시점의 상태 조회에 실패하면 구독이 등록되지 않는지 테스트")
+    void subscribeOrder_SnapshotFails_Unsubscribes() {
+        OrderEventHub hub = new OrderEventHub(Runnable::run);
+
+        assertThrows(IllegalStateException.class, () -> hub.subscribeOrder(10L, () -> {
+            throw new IllegalStateException("조회 실패");
+        }));
+        assertEquals(0, hub.subscriberCount());
+    }
+
+    @Test
+    @DisplayName("전송이 막힌 구독자가 있어도 다른 구독자는 이벤트를 받고, 막힌 구독자는 전송 제한 시간 후 연결이 종료되는지 테스트")
+    void publish_BlockedSend_DoesNotStallOtherSubscribers() throws InterruptedException {
+        ExecutorService dispatcher = Executors.newCachedThreadPool();
+        AtomicLong now = new AtomicLong(1_000L);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blockedSends = new CountDownLatch(2);
+        CountDownLatch delivered = new CountDownLatch(3);
+        List<OrderStatus> sent = new CopyOnWriteArrayList<>();
+        AtomicInteger created = new AtomicInteger();
+
+        // 앞의 두 구독자는 소켓을 읽지 않는 클라이언트처럼 전송이 끝나지 않고, 세 번째 구독자만 정상
+        OrderEventHub hub = new OrderEventHub(dispatcher, now::get) {
+            @Override
+            SseEmitter createEmitter() {
+                boolean blocked = created.incrementAndGet() <= 2;
+                return new SseEmitter() {
+                    @Override
+                    public void send(SseEventBuilder builder) {
+                        if (blocked) {
+                            blockedSends.countDown();
+                            awaitQuietly(release);
+                            return;
+                        }
+                        sent.add(OrderStatus.ORDER_CONFIRMED);
+                        delivered.countDown();
+                    }
+                };
+            }
+        };
+        try {
+            hub.subscribeStore(1L);
+            hub.subscribeStore(1L);
+            hub.subscribeStore(1L);
+
+            for (long i = 0; i < 3; i++) {
+                hub.publish(event(i, 1L));
+            }
+
+            assertTrue(blockedSends.await(5, TimeUnit.SECONDS));
+            assertTrue(delivered.await(5, TimeUnit.SECONDS));
+            assertEquals(3, sent.size());
+
+            // 제한 시간 전에는 유지, 지나면 막힌 두 구독자만 연결 종료
+            now.addAndGet(5_000L);
+            hub.evictStalledSenders();
+            assertEquals(3, hub.subscriberCount());
+
+            now.addAndGet(5_000L);
+            hub.evictStalledSenders();
+            assertEquals(1, hub.subscriberCount());
+        } finally {
+            release.countDown();
+            hub.shutdown();
+            dispatcher.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 전송된 이벤트의 주문 상태를 기록하는 hub (전송 작업은 바로 실행)
+    private static class RecordingHub extends OrderEventHub {
+        private final List<OrderStatus> sent = new ArrayList<>();
+
+        private RecordingHub() {
+            super(Runnable::run);
+        }
+
+        @Override
+        SseEmitter createEmitter() {
+            return new SseEmitter() {
+                @Override
+                public void send(SseEventBuilder builder) {
+                    for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                        if (data.getData() instanceof OrderStatusEvent event) {
+                            sent.add(event.getStatus());
+                        }
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.sparta.outsourcing.domain.order.service;
+
+import com.sparta.outsourcing.domain.order.dto.request.OrderItemRequestDto;
+import com.sparta.outsourcing.domain.order.dto.request.OrderRequestDto;
+import com.sparta.outsourcing.domain.order.dto.response.OrderItemResponseDto;
+import com.sparta.outsourcing.domain.order.dto.response.OrderResponseDto;
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OrderIdempotencyServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private OrderIdempotencyStore orderIdempotencyStore;
+    private OrderIdempotencyService orderIdempotencyService;
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        orderIdempotencyStore = new OrderIdempotencyStore(100, 1000L, 5000L, now::get);
+        orderIdempotencyService = new OrderIdempotencyService(orderService, orderIdempotencyStore);
+    }
+
+    private OrderRequestDto request() {
+        OrderRequestDto requestDto = new OrderRequestDto();
+        requestDto.setCustomerId(1L);
+        return requestDto;
+    }
+
+    private OrderResponseDto response(Long orderId) {
+        OrderResponseDto responseDto = new OrderResponseDto();
+        responseDto.setId(orderId);
+        return responseDto;
+    }
+
+    @Test
+    @DisplayName("같은 키로 재요청하면 주문 생성을 다시 하지 않고 처음 응답을 반환하는지 테스트")
+    void createOrder_Replay_ReturnsStoredResponse() {
+        OrderResponseDto first = response(1L);
+        when(orderService.createOrder(any(OrderRequestDto.class), eq(UserRole.USER), eq("1:key"))).thenReturn(first);
+
+        OrderResponseDto result1 = orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key");
+        OrderResponseDto result2 = orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key");
+
+        assertSame(first, result1);
+        assertSame(first, result2);
+        verify(orderService, times(1)).createOrder(any(OrderRequestDto.class), any(), any());
+        verify(orderService, times(1)).findOrderByIdempotencyKey("1:key");
+    }
+
+    @Test
+    @DisplayName("메모리 저장소가 만료된 뒤 재요청하면 DB 에 저장된 주문을 반환하는지 테스트")
+    void createOrder_ReplayAfterExpiry_ReturnsPersistedOrder() {
+        OrderResponseDto first = response(1L);
+        when(orderService.createOrder(any(OrderRequestDto.class), eq(UserRole.USER), eq("1:key"))).thenReturn(first);
+        orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key");
+
+        now.addAndGet(2000L);
+        OrderResponseDto persisted = response(1L);
+        when(orderService.findOrderByIdempotencyKey("1:key")).thenReturn(Optional.of(persisted));
+
+        OrderResponseDto result = orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key");
+
+        assertSame(persisted, result);
+        verify(orderService, times(1)).createOrder(any(OrderRequestDto.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("유니크 제약 위반 시 먼저 저장된 주문을 반환하는지 테스트")
+    void createOrder_UniqueViolation_ReturnsExistingOrder() {
+        OrderResponseDto existing = response(7L);
+        when(orderService.createOrder(any(OrderRequestDto.class), eq(UserRole.USER), eq("1:key")))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(orderService.findOrderByIdempotencyKey("1:key"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(existing));
+
+        OrderResponseDto result = orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key");
+
+        assertSame(existing, result);
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 요청은 저장하지 않아 같은 키로 다시 시도할 수 있는지 테스트")
+    void createOrder_FailedAttempt_IsNotStored() {
+        OrderResponseDto second = response(2L);
+        when(orderService.createOrder(any(OrderRequestDto.class), eq(UserRole.USER), eq("1:key")))
+                .thenThrow(new ApplicationException(ErrorCode.STORE_CLOSED))
+                .thenReturn(second);
+
+        assertThrows(ApplicationException.class, () -> orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key"));
+        OrderResponseDto result = orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key");
+
+        assertSame(second, result);
+        verify(orderService, times(2)).createOrder(any(OrderRequestDto.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("요청 본문의 고객 ID 가 아닌 인증된 유저 ID 로 키를 구분하는지 테스트")
+    void createOrder_SameKeyOtherUser_DoesNotReplay() {
+        OrderResponseDto mine = response(1L);
+        OrderResponseDto others = response(2L);
+        when(orderService.createOrder(any(OrderRequestDto.class), eq(UserRole.USER), eq("1:key"))).thenReturn(mine);
+        when(orderService.createOrder(any(OrderRequestDto.class), eq(UserRole.USER), eq("2:key"))).thenReturn(others);
+
+        orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key");
+
+        // 본문의 고객 ID(1)를 그대로 보내도 다른 유저(2)에게는 1번 유저의 주문이 반환되지 않음
+        OrderResponseDto result = orderIdempotencyService.createOrder(request(), UserRole.USER, 2L, "key");
+
+        assertSame(others, result);
+        verify(orderService, times(2)).createOrder(any(OrderRequestDto.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 주문을 요청하면 처음 주문을 반환하지 않고 거부하는지 테스트")
+    void createOrder_ReplayWithDifferentBody_ThrowsException() {
+        OrderResponseDto first = response(1L);
+        first.setStoreId(1L);
+        first.setMenuId(10L);
+        first.setItems(List.of(new OrderItemResponseDto(10L, "메뉴", 1000L, 2)));
+        when(orderService.createOrder(any(OrderRequestDto.class), eq(UserRole.USER), eq("1:key"))).thenReturn(first);
+
+        OrderRequestDto original = request();
+        original.setStoreId(1L);
+        original.setItems(List.of(new OrderItemRequestDto(10L, 2)));
+        assertSame(first, orderIdempotencyService.createOrder(original, UserRole.USER, 1L, "key"));
+
+        OrderRequestDto changed = request();
+        changed.setStoreId(1L);
+        changed.setItems(List.of(new OrderItemRequestDto(10L, 3)));
+
+        ApplicationException exception = assertThrows(ApplicationException.class, () ->
+                orderIdempotencyService.createOrder(changed, UserRole.USER, 1L, "key"));
+
+        assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, exception.getErrorCode());
+        verify(orderService, times(1)).createOrder(any(OrderRequestDto.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("처리 중 Error 가 발생해도 키가 남지 않아 같은 키로 다시 시도할 수 있는지 테스트")
+    void createOrder_ErrorThrown_ReleasesKey() {
+        OrderResponseDto second = response(2L);
+        when(orderService.createOrder(any(OrderRequestDto.class), eq(UserRole.USER), eq("1:key")))
+                .thenThrow(new StackOverflowError())
+                .thenReturn(second);
+
+        assertThrows(StackOverflowError.class, () -> orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key"));
+        assertEquals(0, orderIdempotencyStore.size());
+
+        OrderResponseDto result = orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key");
+
+        assertSame(second, result);
+    }
+
+    @Test
+    @DisplayName("잘못된 멱등성 키면 예외가 발생하는지 테스트")
+    void createOrder_InvalidKey_ThrowsException() {
+        ApplicationException exception = assertThrows(ApplicationException.class, () ->
+                orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "k".repeat(65)));
+
+        assertEquals(ErrorCode.INVALID_IDEMPOTENCY_KEY, exception.getErrorCode());
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 주문을 한 번만 생성하고 같은 응답을 받는지 테스트")
+    void createOrder_ConcurrentDuplicates_CreateOnce() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.createOrder(any(OrderRequestDto.class), eq(UserRole.USER), eq("1:key"))).thenAnswer(invocation -> {
+            created.incrementAndGet();
+            inFlight.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response(1L);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<OrderResponseDto>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key")));
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 7; i++) {
+            futures.add(executor.submit(() -> orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key")));
+        }
+        release.countDown();
+
+        OrderResponseDto first = futures.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<OrderResponseDto> future : futures) {
+            assertSame(first, future.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    @DisplayName("저장된 키가 최대 개수를 넘지 않도록 오래된 결과를 정리하는지 테스트")
+    void createOrder_ManyKeys_StoreStaysBounded() {
+        when(orderService.createOrder(any(OrderRequestDto.class), eq(UserRole.USER), any())).thenReturn(response(1L));
+
+        for (int i = 0; i < 500; i++) {
+            now.incrementAndGet();
+            orderIdempotencyService.createOrder(request(), UserRole.USER, 1L, "key-" + i);
+        }
+
+        assertTrue(orderIdempotencyStore.size() <= 101);
+    }
+}
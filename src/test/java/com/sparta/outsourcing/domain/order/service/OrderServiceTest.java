@@ -2,13 +2,19 @@ package com.sparta.outsourcing.domain.order.service;
 
 import com.sparta.outsourcing.domain.menu.entity.Menu;
 import com.sparta.outsourcing.domain.menu.repository.MenuRepository;
+import com.sparta.outsourcing.domain.order.dto.request.OrderItemRequestDto;
 import com.sparta.outsourcing.domain.order.dto.request.OrderRequestDto;
 import com.sparta.outsourcing.domain.order.dto.response.OrderResponseDto;
+import com.sparta.outsourcing.domain.order.dto.response.OrderStatusBatchResponseDto;
+import com.sparta.outsourcing.domain.order.dto.response.OwnerOrderPageResponseDto;
+import com.sparta.outsourcing.domain.order.dto.response.OwnerOrderSummaryDto;
 import com.sparta.outsourcing.domain.order.entity.Orders;
+import com.sparta.outsourcing.domain.order.event.OrderStatusEvent;
 import com.sparta.outsourcing.domain.order.enums.OrderStatus;
 import com.sparta.outsourcing.domain.order.repository.OrderRepository;
 import com.sparta.outsourcing.domain.store.entity.Store;
 import com.sparta.outsourcing.domain.store.repository.StoreRepository;
+import com.sparta.outsourcing.domain.store.service.StoreHoursIndex;
 import com.sparta.outsourcing.domain.user.entity.User;
 import com.sparta.outsourcing.domain.user.enums.UserRole;
 import com.sparta.outsourcing.domain.user.repository.UserRepository;
@@ -19,14 +25,29 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -53,6 +74,10 @@ class OrderServiceTest {
     private UserRepository userRepository;
     @Mock
     private MenuRepository menuRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private StoreHoursIndex storeHoursIndex;
 
     private AutoCloseable closeable;
 
@@ -88,6 +113,7 @@ class OrderServiceTest {
 
         Menu menu = new Menu();
         ReflectionTestUtils.setField(menu, "id", 1L);
+        ReflectionTestUtils.setField(menu, "price", 10000L);
 
         Orders order = new Orders();
         ReflectionTestUtils.setField(order, "id", 1L);
@@ -97,9 +123,8 @@ class OrderServiceTest {
         order.setStatus(OrderStatus.ORDER_PLACED);
         order.setTotalPrice(10000);
 
-        when(storeRepository.findById(1L)).thenReturn(java.util.Optional.of(store));
-        when(userRepository.findById(1L)).thenReturn(java.util.Optional.of(customer));
-        when(menuRepository.findById(1L)).thenReturn(java.util.Optional.of(menu));
+        ReflectionTestUtils.setField(menu, "store", store);
+        when(orderRepository.findOrderPlacement(1L, Set.of(1L), 1L)).thenReturn(Collections.singletonList(new Object[]{menu, customer}));
         when(orderRepository.save(any(Orders.class))).thenReturn(order);
 
         LocalTime mockTime = LocalTime.of(10, 0);
@@ -116,6 +141,10 @@ class OrderServiceTest {
             assertEquals(OrderStatus.ORDER_PLACED, responseDto.getStatus());
             assertEquals(10000, responseDto.getTotalPrice());
             verify(orderRepository).save(any(Orders.class));
+            // 주문 생성 시 조회는 한 번만 수행 (가게 중복 조회 및 개별 PK 조회 없음)
+            verify(orderRepository, times(1)).findOrderPlacement(1L, Set.of(1L), 1L);
+            verifyNoInteractions(storeRepository, userRepository, menuRepository);
+            verify(eventPublisher).publishEvent(any(OrderStatusEvent.class));
         }
     }
 
@@ -253,9 +282,8 @@ class OrderServiceTest {
         order.setStatus(OrderStatus.ORDER_PLACED);
         order.setTotalPrice(10000);
 
-        when(storeRepository.findById(1L)).thenReturn(java.util.Optional.of(store));
-        when(userRepository.findById(1L)).thenReturn(java.util.Optional.of(customer));
-        when(menuRepository.findById(1L)).thenReturn(java.util.Optional.of(menu));
+        ReflectionTestUtils.setField(menu, "store", store);
+        when(orderRepository.findOrderPlacement(1L, Set.of(1L), 1L)).thenReturn(Collections.singletonList(new Object[]{menu, customer}));
         when(orderRepository.save(any(Orders.class))).thenReturn(order);
 
         LocalTime mockTime = LocalTime.of(10, 0);
@@ -294,6 +322,8 @@ class OrderServiceTest {
 
         Menu menu = new Menu();
         ReflectionTestUtils.setField(menu, "id", 1L);
+        // 주문 금액은 메뉴 가격으로 계산되므로 최소 주문 금액보다 낮은 가격의 메뉴로 주문
+        ReflectionTestUtils.setField(menu, "price", 3000L);
 
         Orders order = new Orders();
         ReflectionTestUtils.setField(order, "id", 1L);
@@ -303,9 +333,8 @@ class OrderServiceTest {
         order.setStatus(OrderStatus.ORDER_PLACED);
         order.setTotalPrice(10000);
 
-        when(storeRepository.findById(1L)).thenReturn(java.util.Optional.of(store));
-        when(userRepository.findById(1L)).thenReturn(java.util.Optional.of(customer));
-        when(menuRepository.findById(1L)).thenReturn(java.util.Optional.of(menu));
+        ReflectionTestUtils.setField(menu, "store", store);
+        when(orderRepository.findOrderPlacement(1L, Set.of(1L), 1L)).thenReturn(Collections.singletonList(new Object[]{menu, customer}));
         when(orderRepository.save(any(Orders.class))).thenReturn(order);
 
         LocalTime mockTime = LocalTime.of(10, 0);
@@ -343,6 +372,7 @@ class OrderServiceTest {
 
         Menu menu = new Menu();
         ReflectionTestUtils.setField(menu, "id", 1L);
+        ReflectionTestUtils.setField(menu, "price", 10000L);
 
         Orders order = new Orders();
         ReflectionTestUtils.setField(order, "id", 1L);
@@ -352,9 +382,8 @@ class OrderServiceTest {
         order.setStatus(OrderStatus.ORDER_PLACED);
         order.setTotalPrice(10000);
 
-        when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(customer));
-        when(menuRepository.findById(1L)).thenReturn(Optional.of(menu));
+        ReflectionTestUtils.setField(menu, "store", store);
+        when(orderRepository.findOrderPlacement(1L, Set.of(1L), 1L)).thenReturn(Collections.singletonList(new Object[]{menu, customer}));
         when(orderRepository.save(any(Orders.class))).thenReturn(order);
 
         LocalTime mockTime = LocalTime.of(10, 0);
@@ -402,8 +431,8 @@ class OrderServiceTest {
 
         existingOrder.setStore(store);
 
-        when(orderRepository.findById(orderId)).thenReturn(java.util.Optional.of(existingOrder));
-        when(orderRepository.save(any(Orders.class))).thenReturn(existingOrder);
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(java.util.Optional.of(existingOrder));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
 
         // When
         OrderResponseDto responseDto = orderService.updateOrderStatus(orderId, newStatus, userRole, userId);
@@ -411,7 +440,7 @@ class OrderServiceTest {
         // Then
         assertNotNull(responseDto);
         assertEquals(newStatus, responseDto.getStatus());
-        verify(orderRepository).save(any(Orders.class));
+        verify(orderRepository).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
     @Test
@@ -434,7 +463,7 @@ class OrderServiceTest {
 
         existingOrder.setStore(store);
 
-        when(orderRepository.findById(orderId)).thenReturn(java.util.Optional.of(existingOrder));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(java.util.Optional.of(existingOrder));
 
         // When & Then
         assertThrows(ApplicationException.class, () -> {
@@ -536,33 +565,57 @@ class OrderServiceTest {
     }
 
     @Test
-    @DisplayName("메뉴 유효성 검증 - 메뉴가 존재하는 경우")
-    void getValidMenu_MenuExists_ReturnsMenu() {
-        Long menuId = 1L;
+    @DisplayName("주문 생성 대상 조회 - 가게, 메뉴, 고객을 한 번의 조회로 가져옴")
+    void getValidOrderPlacement_AllExist_ReturnsPlacementWithSingleQuery() {
+        Store store = new Store();
+        ReflectionTestUtils.setField(store, "id", 1L);
+        User customer = new User();
+        ReflectionTestUtils.setField(customer, "id", 2L);
         Menu menu = new Menu();
-        ReflectionTestUtils.setField(menu, "id", menuId);
+        ReflectionTestUtils.setField(menu, "id", 3L);
+        ReflectionTestUtils.setField(menu, "store", store);
 
-        when(menuRepository.findById(menuId)).thenReturn(Optional.of(menu));
+        when(orderRepository.findOrderPlacement(1L, Set.of(3L), 2L)).thenReturn(Collections.singletonList(new Object[]{menu, customer}));
 
-        Menu result = ReflectionTestUtils.invokeMethod(orderService, "getValidMenu", menuId);
+        List<Object[]> result = ReflectionTestUtils.invokeMethod(orderService, "getValidOrderPlacement", 1L, Set.of(3L), 2L);
 
         assertNotNull(result);
-        assertEquals(menuId, result.getId());
+        assertSame(menu, result.get(0)[0]);
+        assertSame(customer, result.get(0)[1]);
+        verify(orderRepository, times(1)).findOrderPlacement(1L, Set.of(3L), 2L);
+        verifyNoInteractions(storeRepository, userRepository, menuRepository);
     }
 
     @Test
-    @DisplayName("메뉴 유효성 검증 - 메뉴가 존재하지 않는 경우")
-    void getValidMenu_MenuNotExists_ThrowsException() {
-        Long menuId = 100L;
+    @DisplayName("주문 생성 대상 조회 - 메뉴가 해당 가게의 메뉴가 아닌 경우 예외 발생")
+    void getValidOrderPlacement_MenuOfOtherStore_ThrowsException() {
+        Store store = new Store();
+        ReflectionTestUtils.setField(store, "id", 1L);
+        User customer = new User();
+        ReflectionTestUtils.setField(customer, "id", 2L);
 
-        when(menuRepository.findById(menuId)).thenReturn(Optional.empty());
+        when(orderRepository.findOrderPlacement(1L, Set.of(3L), 2L)).thenReturn(Collections.emptyList());
+        when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(customer));
 
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
-            ReflectionTestUtils.invokeMethod(orderService, "getValidMenu", menuId);
+            ReflectionTestUtils.invokeMethod(orderService, "getValidOrderPlacement", 1L, Set.of(3L), 2L);
         });
         assertEquals(ErrorCode.MENU_NOT_FOUND, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("주문 생성 대상 조회 - 가게가 존재하지 않는 경우 예외 발생")
+    void getValidOrderPlacement_StoreNotExists_ThrowsException() {
+        when(orderRepository.findOrderPlacement(100L, Set.of(3L), 2L)).thenReturn(Collections.emptyList());
+        when(storeRepository.findById(100L)).thenReturn(Optional.empty());
+
+        ApplicationException exception = assertThrows(ApplicationException.class, () -> {
+            ReflectionTestUtils.invokeMethod(orderService, "getValidOrderPlacement", 100L, Set.of(3L), 2L);
+        });
+        assertEquals(ErrorCode.STORE_NOT_FOUND, exception.getErrorCode());
+    }
+
     @Test
     @DisplayName("가게 유효성 검증 및 조회 - 가게가 존재하지 않는 경우 예외 발생")
     void getValidStore_StoreNotFound_ThrowsException() {
@@ -685,14 +738,14 @@ class OrderServiceTest {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Orders.class))).thenReturn(order);
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
 
         OrderResponseDto responseDto = orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CONFIRMED, userRole, userId);
 
         assertNotNull(responseDto);
         assertEquals(OrderStatus.ORDER_CONFIRMED, responseDto.getStatus());
-        verify(orderRepository).save(any(Orders.class));
+        verify(orderRepository).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
     @Test
@@ -720,7 +773,7 @@ class OrderServiceTest {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         // When & Then
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
@@ -776,14 +829,14 @@ class OrderServiceTest {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Orders.class))).thenReturn(order);
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
 
         OrderResponseDto responseDto = orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CANCELED, userRole, userId);
 
         assertNotNull(responseDto);
         assertEquals(OrderStatus.ORDER_CANCELED, responseDto.getStatus());
-        verify(orderRepository).save(any(Orders.class));
+        verify(orderRepository).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
     @Test
@@ -811,7 +864,7 @@ class OrderServiceTest {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
             orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CANCELED, userRole, userId);
@@ -845,7 +898,7 @@ class OrderServiceTest {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
             orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CANCELED, userRole, userId);
@@ -883,14 +936,14 @@ class OrderServiceTest {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Orders.class))).thenReturn(order);
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
 
         OrderResponseDto responseDto = orderService.updateOrderStatus(orderId, newStatus, userRole, userId);
 
         assertNotNull(responseDto);
         assertEquals(newStatus, responseDto.getStatus());
-        verify(orderRepository).save(any(Orders.class));
+        verify(orderRepository).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
     @Test
@@ -917,14 +970,14 @@ class OrderServiceTest {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Orders.class))).thenReturn(order);
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
 
         OrderResponseDto responseDto = orderService.updateOrderStatus(orderId, newStatus, userRole, userId);
 
         assertNotNull(responseDto);
         assertEquals(newStatus, responseDto.getStatus());
-        verify(orderRepository).save(any(Orders.class));
+        verify(orderRepository).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
     @Test
@@ -939,7 +992,7 @@ class OrderServiceTest {
         ReflectionTestUtils.setField(order, "id", orderId);
         order.setStatus(OrderStatus.ORDER_PLACED);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
             orderService.updateOrderStatus(orderId, newStatus, userRole, userId);
@@ -948,6 +1001,52 @@ class OrderServiceTest {
         assertEquals(ErrorCode.ORDER_STATUS_CHANGE_FORBIDDEN, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("주문 상태 업데이트 - 고객이 이미 해당 상태인 다른 고객의 주문을 변경 시 상태와 관계없이 권한 없음 예외 발생")
+    void updateOrderStatus_UserSameStatusOnOthersOrder_ThrowsForbidden() {
+        Long orderId = 1L;
+        Long userId = 1L;
+
+        Orders order = new Orders();
+        ReflectionTestUtils.setField(order, "id", orderId);
+        order.setStatus(OrderStatus.ORDER_CONFIRMED);
+
+        User customer = new User();
+        ReflectionTestUtils.setField(customer, "id", 2L);
+        order.setCustomer(customer);
+
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+
+        ApplicationException exception = assertThrows(ApplicationException.class, () ->
+                orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CONFIRMED, UserRole.USER, userId));
+
+        // 이미 해당 상태(ALREADY_ORDER_STATUS)라는 응답으로 다른 고객의 주문 상태가 드러나지 않음
+        assertEquals(ErrorCode.ORDER_STATUS_CHANGE_FORBIDDEN, exception.getErrorCode());
+        verify(orderRepository, never()).updateStatusIfCurrent(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("주문 상태 업데이트 - 고객이 이미 취소된 다른 고객의 주문을 취소 시 주문자 검증 예외 발생")
+    void updateOrderStatus_UserCancelOthersCanceledOrder_ThrowsInvalidUser() {
+        Long orderId = 1L;
+        Long userId = 1L;
+
+        Orders order = new Orders();
+        ReflectionTestUtils.setField(order, "id", orderId);
+        order.setStatus(OrderStatus.ORDER_CANCELED);
+
+        User customer = new User();
+        ReflectionTestUtils.setField(customer, "id", 2L);
+        order.setCustomer(customer);
+
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+
+        ApplicationException exception = assertThrows(ApplicationException.class, () ->
+                orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CANCELED, UserRole.USER, userId));
+
+        assertEquals(ErrorCode.INVALID_USER_FOR_ORDER, exception.getErrorCode());
+    }
+
     @Test
     @DisplayName("주문 상태 업데이트 - 사장님이 아닌 사용자가 본인의 주문을 취소 시 성공")
     void updateOrderStatus_NonOwnerRole_CancelOrder_Success() {
@@ -972,14 +1071,14 @@ class OrderServiceTest {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Orders.class))).thenReturn(order);
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
 
         OrderResponseDto responseDto = orderService.updateOrderStatus(orderId, newStatus, userRole, userId);
 
         assertNotNull(responseDto);
         assertEquals(newStatus, responseDto.getStatus());
-        verify(orderRepository).save(any(Orders.class));
+        verify(orderRepository).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
     @Test
@@ -998,7 +1097,7 @@ class OrderServiceTest {
         ReflectionTestUtils.setField(customer, "id", 2L);
         order.setCustomer(customer);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
             orderService.updateOrderStatus(orderId, newStatus, userRole, userId);
@@ -1025,7 +1124,7 @@ class OrderServiceTest {
         ReflectionTestUtils.setField(store, "owner", owner);
         order.setStore(store);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
             orderService.updateOrderStatus(orderId, newStatus, userRole, userId);
@@ -1251,14 +1350,14 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Orders.class))).thenReturn(order);
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
 
         OrderResponseDto responseDto = orderService.updateOrderStatus(orderId, OrderStatus.ORDER_PREPARING, userRole, userId);
 
         assertNotNull(responseDto);
         assertEquals(OrderStatus.ORDER_PREPARING, responseDto.getStatus());
-        verify(orderRepository).save(any(Orders.class));
+        verify(orderRepository).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
     @Test
@@ -1286,14 +1385,14 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Orders.class))).thenReturn(order);
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
 
         OrderResponseDto responseDto = orderService.updateOrderStatus(orderId, OrderStatus.ORDER_ON_THE_WAY, userRole, userId);
 
         assertNotNull(responseDto);
         assertEquals(OrderStatus.ORDER_ON_THE_WAY, responseDto.getStatus());
-        verify(orderRepository).save(any(Orders.class));
+        verify(orderRepository).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
     @Test
@@ -1321,14 +1420,14 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Orders.class))).thenReturn(order);
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
 
         OrderResponseDto responseDto = orderService.updateOrderStatus(orderId, OrderStatus.ORDER_DELIVERED, userRole, userId);
 
         assertNotNull(responseDto);
         assertEquals(OrderStatus.ORDER_DELIVERED, responseDto.getStatus());
-        verify(orderRepository).save(any(Orders.class));
+        verify(orderRepository).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
 
@@ -1358,14 +1457,14 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Orders.class))).thenReturn(order);
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
 
         OrderResponseDto responseDto = orderService.updateOrderStatus(orderId, newStatus, userRole, ownerId);
 
         assertNotNull(responseDto);
         assertEquals(newStatus, responseDto.getStatus());
-        verify(orderRepository).save(any(Orders.class));
+        verify(orderRepository).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
     @Test
@@ -1385,7 +1484,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(store, "owner", owner);
         order.setStore(store);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
             orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CONFIRMED, userRole, ownerId);
@@ -1412,7 +1511,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(store, "owner", owner);
         order.setStore(store);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
             orderService.updateOrderStatus(orderId, newStatus, userRole, userId);
@@ -1439,7 +1538,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(store, "owner", owner);
         order.setStore(store);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
             orderService.updateOrderStatus(orderId, newStatus, userRole, userId);
@@ -1647,7 +1746,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
             orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CANCELED, userRole, userId);
@@ -2083,7 +2182,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(customer, "id", userId);
         order.setCustomer(customer);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         // When & Then
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
@@ -2094,7 +2193,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
 
         assertEquals(OrderStatus.ORDER_CONFIRMED, order.getStatus());
 
-        verify(orderRepository, never()).save(any(Orders.class));
+        verify(orderRepository, never()).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
 
@@ -2115,7 +2214,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(customer, "id", userId);
         order.setCustomer(customer);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         // When & Then
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
@@ -2126,7 +2225,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
 
         assertEquals(OrderStatus.ORDER_PREPARING, order.getStatus());
 
-        verify(orderRepository, never()).save(any(Orders.class));
+        verify(orderRepository, never()).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
 
@@ -2155,8 +2254,8 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Orders.class))).thenReturn(order);
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
 
         // When & Then
         assertDoesNotThrow(() -> {
@@ -2164,7 +2263,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         });
 
         assertEquals(OrderStatus.ORDER_CANCELED, order.getStatus());
-        verify(orderRepository).save(order);
+        verify(orderRepository).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
 
@@ -2193,7 +2292,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         // When & Then
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
@@ -2204,7 +2303,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
 
         assertEquals(OrderStatus.ORDER_PREPARING, order.getStatus());
 
-        verify(orderRepository, never()).save(any(Orders.class));
+        verify(orderRepository, never()).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
 
@@ -2234,8 +2333,8 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Orders.class))).thenReturn(order);
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
 
         // When
         assertDoesNotThrow(() -> {
@@ -2244,7 +2343,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
 
         // Then
         assertEquals(OrderStatus.ORDER_CANCELED, order.getStatus());
-        verify(orderRepository).save(order);
+        verify(orderRepository).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
 
@@ -2278,7 +2377,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         // When & Then
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
@@ -2289,7 +2388,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
 
         assertEquals(OrderStatus.ORDER_ON_THE_WAY, order.getStatus());
 
-        verify(orderRepository, never()).save(any(Orders.class));
+        verify(orderRepository, never()).updateStatusIfCurrent(any(), any(), any(), any());
     }
 
 
@@ -2308,7 +2407,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(store, "owner", owner);
         order.setStore(store);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         // When & Then
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
@@ -2348,7 +2447,7 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
         ReflectionTestUtils.setField(menu, "id", 1L);
         order.setMenu(menu);
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(order));
 
         // When & Then
         ApplicationException exception = assertThrows(ApplicationException.class, () -> {
@@ -2359,10 +2458,443 @@ void getOrderByOwner_ValidRequest_ReturnsOrderResponseDto() {
 
         assertEquals(OrderStatus.ORDER_DELIVERED, order.getStatus());
 
+        verify(orderRepository, never()).updateStatusIfCurrent(any(), any(), any(), any());
+    }
+
+
+    @Test
+    @DisplayName("주문 상태 업데이트 - 다른 요청이 먼저 상태를 변경한 경우 충돌 예외 발생")
+    void updateOrderStatus_LostRace_ThrowsConflictException() {
+        Long orderId = 1L;
+        Long ownerId = 1L;
+
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(createOrderSnapshot(orderId, OrderStatus.ORDER_PLACED)));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(0);
+
+        ApplicationException exception = assertThrows(ApplicationException.class, () -> {
+            orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CONFIRMED, UserRole.OWNER, ownerId);
+        });
+
+        assertEquals(ErrorCode.ORDER_STATUS_CONFLICT, exception.getErrorCode());
+        assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+        verify(orderRepository).updateStatusIfCurrent(eq(orderId), eq(OrderStatus.ORDER_PLACED), eq(OrderStatus.ORDER_CONFIRMED), any());
+        // 상태 변경에 실패하면 구독자에게 이벤트를 전달하지 않음
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("주문 상태 업데이트 - 여러 스레드가 동시에 확인/취소를 요청해도 하나의 전환만 성공")
+    void updateOrderStatus_ConcurrentTransitions_OnlyOneSucceeds() throws Exception {
+        Long orderId = 1L;
+        Long ownerId = 1L;
+        Long customerId = 2L;
+        int requestCount = 200;
+
+        // DB 의 주문 상태 역할 - 조건부 UPDATE 는 현재 상태가 일치할 때만 반영
+        AtomicReference<OrderStatus> dbStatus = new AtomicReference<>(OrderStatus.ORDER_PLACED);
+        when(orderRepository.findWithDetailsById(orderId))
+                .thenAnswer(invocation -> Optional.of(createOrderSnapshot(orderId, dbStatus.get())));
+        when(orderRepository.updateStatusIfCurrent(eq(orderId), any(), any(), any()))
+                .thenAnswer(invocation -> dbStatus.compareAndSet(invocation.getArgument(1), invocation.getArgument(2)) ? 1 : 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<OrderResponseDto>> results = new ArrayList<>();
+
+        for (int i = 0; i < requestCount; i++) {
+            boolean ownerConfirm = i % 2 == 0;
+            results.add(executor.submit(() -> {
+                startLatch.await();
+                if (ownerConfirm) {
+                    return orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CONFIRMED, UserRole.OWNER, ownerId);
+                }
+                return orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CANCELED, UserRole.USER, customerId);
+            }));
+        }
+
+        startLatch.countDown();
+
+        List<OrderResponseDto> successes = new ArrayList<>();
+        for (Future<OrderResponseDto> result : results) {
+            try {
+                successes.add(result.get(10, TimeUnit.SECONDS));
+            } catch (ExecutionException e) {
+                // 패배한 요청은 모두 비즈니스 예외로 거절되어야 함 (충돌, 이미 변경된 상태, 불가능한 전환)
+                assertInstanceOf(ApplicationException.class, e.getCause());
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, successes.size());
+        assertEquals(dbStatus.get(), successes.get(0).getStatus());
+    }
+
+    @Test
+    @DisplayName("사장님이 본인 가게의 접수된 주문을 취소할 수 있는지 테스트")
+    void updateOrderStatus_OwnerCancelsPlacedOrder_Success() {
+        Long orderId = 1L;
+        Long ownerId = 1L;
+
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(createOrderSnapshot(orderId, OrderStatus.ORDER_PLACED)));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
+
+        OrderResponseDto responseDto = orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CANCELED, UserRole.OWNER, ownerId);
+
+        assertEquals(OrderStatus.ORDER_CANCELED, responseDto.getStatus());
+        assertFalse(responseDto.isCanUserCancel());
+        assertFalse(responseDto.isCanOwnerCancel());
+        assertTrue(responseDto.getAvailableStatusChanges().isEmpty());
+        verify(orderRepository).updateStatusIfCurrent(eq(orderId), eq(OrderStatus.ORDER_PLACED), eq(OrderStatus.ORDER_CANCELED), any());
+    }
+
+    @Test
+    @DisplayName("주문 현황판 첫 페이지 조회 시 한 건 더 조회하여 다음 페이지 여부와 커서를 반환하는지 테스트")
+    void getOrderBoard_FirstPage_ReturnsCursorAndHasNext() {
+        Store store = createOrderSnapshot(1L, OrderStatus.ORDER_PLACED).getStore();
+        when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 9, 25, 12, 0, 0);
+        List<OwnerOrderSummaryDto> rows = new ArrayList<>();
+        rows.add(new OwnerOrderSummaryDto(10L, 2L, 1L, "짜장면", OrderStatus.ORDER_PLACED, 15000, createdAt));
+        rows.add(new OwnerOrderSummaryDto(11L, 2L, 1L, "짜장면", OrderStatus.ORDER_PLACED, 15000, createdAt));
+        rows.add(new OwnerOrderSummaryDto(12L, 2L, 1L, "짜장면", OrderStatus.ORDER_PLACED, 15000, createdAt.plusSeconds(1)));
+        when(orderRepository.findOwnerBoardFirstPage(1L, OrderStatus.ORDER_PLACED, PageRequest.of(0, 3))).thenReturn(rows);
+
+        OwnerOrderPageResponseDto responseDto = orderService.getOrderBoard(1L, OrderStatus.ORDER_PLACED, null, 2, 1L, UserRole.OWNER);
+
+        assertEquals(2, responseDto.getOrders().size());
+        assertTrue(responseDto.isHasNext());
+        assertEquals(createdAt + "_11", responseDto.getNextCursor());
+        verify(orderRepository, never()).findOwnerBoardPageAfter(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("주문 현황판 커서 조회 시 커서의 생성일시, id 이후로 조회하는지 테스트")
+    void getOrderBoard_WithCursor_QueriesAfterCursor() {
+        Store store = createOrderSnapshot(1L, OrderStatus.ORDER_PLACED).getStore();
+        when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 9, 25, 12, 0, 0, 123456000);
+        String cursor = createdAt + "_11";
+        when(orderRepository.findOwnerBoardPageAfter(1L, OrderStatus.ORDER_PLACED, createdAt, 11L, PageRequest.of(0, 51)))
+                .thenReturn(Collections.emptyList());
+
+        OwnerOrderPageResponseDto responseDto = orderService.getOrderBoard(1L, OrderStatus.ORDER_PLACED, cursor, 50, 1L, UserRole.OWNER);
+
+        // 새로운 주문이 없으면 같은 커서를 다시 사용
+        assertTrue(responseDto.getOrders().isEmpty());
+        assertFalse(responseDto.isHasNext());
+        assertEquals(cursor, responseDto.getNextCursor());
+        verify(orderRepository, times(1)).findOwnerBoardPageAfter(1L, OrderStatus.ORDER_PLACED, createdAt, 11L, PageRequest.of(0, 51));
+    }
+
+    @Test
+    @DisplayName("주문 현황판 조회 시 잘못된 커서 값이면 예외가 발생하는지 테스트")
+    void getOrderBoard_InvalidCursor_ThrowsException() {
+        Store store = createOrderSnapshot(1L, OrderStatus.ORDER_PLACED).getStore();
+        when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
+
+        ApplicationException exception = assertThrows(ApplicationException.class, () ->
+                orderService.getOrderBoard(1L, OrderStatus.ORDER_PLACED, "이상해용", 50, 1L, UserRole.OWNER));
+
+        assertEquals(ErrorCode.INVALID_ORDER_CURSOR, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("주문 현황판 조회 시 다른 사장님의 가게면 예외가 발생하는지 테스트")
+    void getOrderBoard_OtherOwnersStore_ThrowsException() {
+        Store store = createOrderSnapshot(1L, OrderStatus.ORDER_PLACED).getStore();
+        when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
+
+        ApplicationException exception = assertThrows(ApplicationException.class, () ->
+                orderService.getOrderBoard(1L, OrderStatus.ORDER_PLACED, null, 50, 3L, UserRole.OWNER));
+
+        assertEquals(ErrorCode.ORDER_ACCESS_DENIED, exception.getErrorCode());
+        verify(orderRepository, never()).findOwnerBoardFirstPage(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("주문 현황판 조회 시 고객 권한이면 예외가 발생하는지 테스트")
+    void getOrderBoard_UserRole_ThrowsException() {
+        ApplicationException exception = assertThrows(ApplicationException.class, () ->
+                orderService.getOrderBoard(1L, OrderStatus.ORDER_PLACED, null, 50, 1L, UserRole.USER));
+
+        assertEquals(ErrorCode.ORDER_ACCESS_DENIED, exception.getErrorCode());
+        verifyNoInteractions(storeRepository);
+    }
+
+    @Test
+    @DisplayName("주문 상태 변경 성공 시 가게, 고객 정보가 담긴 이벤트를 발행하는지 테스트")
+    void updateOrderStatus_Success_PublishesOrderStatusEvent() {
+        Long orderId = 1L;
+
+        when(orderRepository.findWithDetailsById(orderId)).thenReturn(Optional.of(createOrderSnapshot(orderId, OrderStatus.ORDER_PLACED)));
+        when(orderRepository.updateStatusIfCurrent(any(), any(), any(), any())).thenReturn(1);
+
+        orderService.updateOrderStatus(orderId, OrderStatus.ORDER_CONFIRMED, UserRole.OWNER, 1L);
+
+        ArgumentCaptor<OrderStatusEvent> captor = ArgumentCaptor.forClass(OrderStatusEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(orderId, captor.getValue().getOrderId());
+        assertEquals(1L, captor.getValue().getStoreId());
+        assertEquals(2L, captor.getValue().getCustomerId());
+        assertEquals(OrderStatus.ORDER_CONFIRMED, captor.getValue().getStatus());
+        assertEquals(OrderStatus.ORDER_PLACED, captor.getValue().getPreviousStatus());
+        assertEquals(1L, captor.getValue().getActorId());
+        assertEquals(UserRole.OWNER, captor.getValue().getActorRole());
+    }
+
+    @Test
+    @DisplayName("장바구니 주문 - 메뉴 전체를 한 번에 조회하고 주문 금액을 메뉴 가격 * 수량으로 계산하는지 테스트")
+    void createOrder_CartItems_ComputesTotalPriceFromMenus() {
+        Store store = new Store();
+        ReflectionTestUtils.setField(store, "id", 1L);
+        ReflectionTestUtils.setField(store, "minPrice", 5000);
+        ReflectionTestUtils.setField(store, "openTime", LocalTime.of(8, 0));
+        ReflectionTestUtils.setField(store, "closeTime", LocalTime.of(22, 0));
+
+        User customer = new User();
+        ReflectionTestUtils.setField(customer, "id", 2L);
+
+        Menu jjajang = new Menu();
+        ReflectionTestUtils.setField(jjajang, "id", 1L);
+        ReflectionTestUtils.setField(jjajang, "price", 7000L);
+        ReflectionTestUtils.setField(jjajang, "store", store);
+        Menu jjamppong = new Menu();
+        ReflectionTestUtils.setField(jjamppong, "id", 2L);
+        ReflectionTestUtils.setField(jjamppong, "price", 8000L);
+        ReflectionTestUtils.setField(jjamppong, "store", store);
+
+        OrderRequestDto requestDto = new OrderRequestDto();
+        requestDto.setStoreId(1L);
+        requestDto.setCustomerId(2L);
+        requestDto.setStatus(OrderStatus.ORDER_PLACED);
+        // 요청 금액은 무시됨
+        requestDto.setTotalPrice(1);
+        // 같은 메뉴를 여러 번 담으면 수량 합산
+        requestDto.setItems(List.of(
+                new OrderItemRequestDto(1L, 2),
+                new OrderItemRequestDto(2L, 1),
+                new OrderItemRequestDto(1L, 1)));
+
+        List<Object[]> placements = new ArrayList<>();
+        placements.add(new Object[]{jjajang, customer});
+        placements.add(new Object[]{jjamppong, customer});
+        when(orderRepository.findOrderPlacement(1L, Set.of(1L, 2L), 2L)).thenReturn(placements);
+        when(orderRepository.save(any(Orders.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        LocalTime mockTime = LocalTime.of(12, 0);
+
+        try (MockedStatic<LocalTime> mockedLocalTime = mockStatic(LocalTime.class)) {
+            mockedLocalTime.when(LocalTime::now).thenReturn(mockTime);
+
+            OrderResponseDto responseDto = orderService.createOrder(requestDto, UserRole.USER);
+
+            // 7000 * 3 + 8000 * 1
+            assertEquals(29000, responseDto.getTotalPrice());
+            assertEquals(2, responseDto.getItems().size());
+            assertEquals(1L, responseDto.getItems().get(0).getMenuId());
+            assertEquals(3, responseDto.getItems().get(0).getQuantity());
+            assertEquals(2L, responseDto.getItems().get(1).getMenuId());
+            assertEquals(1, responseDto.getItems().get(1).getQuantity());
+            // 대표 메뉴는 첫 번째 주문 메뉴
+            assertEquals(1L, responseDto.getMenuId());
+            verify(orderRepository, times(1)).findOrderPlacement(1L, Set.of(1L, 2L), 2L);
+            verifyNoInteractions(storeRepository, userRepository, menuRepository);
+        }
+    }
+
+    @Test
+    @DisplayName("장바구니 주문 - 다른 가게의 메뉴가 섞여 있으면 예외가 발생하는지 테스트")
+    void createOrder_CartItemsWithOtherStoreMenu_ThrowsException() {
+        Store store = new Store();
+        ReflectionTestUtils.setField(store, "id", 1L);
+        User customer = new User();
+        ReflectionTestUtils.setField(customer, "id", 2L);
+        Menu menu = new Menu();
+        ReflectionTestUtils.setField(menu, "id", 1L);
+        ReflectionTestUtils.setField(menu, "store", store);
+
+        OrderRequestDto requestDto = new OrderRequestDto();
+        requestDto.setStoreId(1L);
+        requestDto.setCustomerId(2L);
+        requestDto.setStatus(OrderStatus.ORDER_PLACED);
+        requestDto.setItems(List.of(new OrderItemRequestDto(1L, 1), new OrderItemRequestDto(99L, 1)));
+
+        // 메뉴 99번은 해당 가게 메뉴가 아니므로 조회되지 않음
+        when(orderRepository.findOrderPlacement(1L, Set.of(1L, 99L), 2L)).thenReturn(Collections.singletonList(new Object[]{menu, customer}));
+        when(storeRepository.findById(1L)).thenReturn(Optional.of(store));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(customer));
+
+        ApplicationException exception = assertThrows(ApplicationException.class, () ->
+                orderService.createOrder(requestDto, UserRole.USER));
+
+        assertEquals(ErrorCode.MENU_NOT_FOUND, exception.getErrorCode());
         verify(orderRepository, never()).save(any(Orders.class));
     }
 
+    @Test
+    @DisplayName("장바구니 주문 - 수량이 올바르지 않으면 조회 전에 예외가 발생하는지 테스트")
+    void createOrder_InvalidQuantity_ThrowsException() {
+        OrderRequestDto requestDto = new OrderRequestDto();
+        requestDto.setStoreId(1L);
+        requestDto.setCustomerId(2L);
+        requestDto.setStatus(OrderStatus.ORDER_PLACED);
+        requestDto.setItems(List.of(new OrderItemRequestDto(1L, 0)));
+
+        ApplicationException exception = assertThrows(ApplicationException.class, () ->
+                orderService.createOrder(requestDto, UserRole.USER));
+
+        assertEquals(ErrorCode.INVALID_ORDER_ITEM, exception.getErrorCode());
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("가게 영업 시간 검증 - 영업 시간 인덱스에 있는 가게는 DB 조회 없이 확인하는지 테스트")
+    void validateStoreOpenStatus_IndexedStore_DoesNotQueryStore() {
+        when(storeHoursIndex.isOpen(eq(1L), any(LocalTime.class))).thenReturn(true);
+        when(storeHoursIndex.isOpen(eq(2L), any(LocalTime.class))).thenReturn(false);
+
+        assertDoesNotThrow(() -> orderService.validateStoreOpenStatus(1L));
+        ApplicationException exception = assertThrows(ApplicationException.class, () -> orderService.validateStoreOpenStatus(2L));
+
+        assertEquals(ErrorCode.STORE_CLOSED, exception.getErrorCode());
+        verifyNoInteractions(storeRepository);
+    }
+
+    @Test
+    @DisplayName("주문 상태 일괄 변경 - 한 번의 조회로 검증하고 한 번의 갱신 쿼리로 변경, 변경되지 않은 주문은 사유와 함께 응답하는지 테스트")
+    void updateOrderStatusBatch_MixedOrders_UpdatesValidAndReportsRejected() {
+        // 1, 2: 주문 확인 상태 (변경 가능), 3: 주문 접수 상태 (주문 준비 중으로 바로 변경 불가), 4: 존재하지 않는 주문, 2는 중복 요청
+        when(orderRepository.findStatusOwnersForUpdate(Set.of(1L, 2L, 3L, 4L))).thenReturn(List.of(
+                new Object[]{1L, OrderStatus.ORDER_CONFIRMED, 10L, 1L, 20L},
+                new Object[]{2L, OrderStatus.ORDER_CONFIRMED, 10L, 1L, 21L},
+                new Object[]{3L, OrderStatus.ORDER_PLACED, 10L, 1L, 22L}
+        ));
+        when(orderRepository.updateStatusIfCurrentIn(eq(List.of(1L, 2L)), eq(Set.of(OrderStatus.ORDER_CONFIRMED)),
+                eq(OrderStatus.ORDER_PREPARING), any(LocalDateTime.class))).thenReturn(2);
+
+        OrderStatusBatchResponseDto response = orderService.updateOrderStatusBatch(
+                List.of(1L, 2L, 3L, 4L, 2L), OrderStatus.ORDER_PREPARING, UserRole.OWNER, 1L);
+
+        assertEquals(List.of(1L, 2L), response.getUpdatedOrderIds());
+        assertEquals(2, response.getRejected().size());
+        assertEquals(3L, response.getRejected().get(0).getOrderId());
+        assertEquals(ErrorCode.INVALID_ORDER_STATUS_TRANSITION, response.getRejected().get(0).getErrorCode());
+        assertEquals(4L, response.getRejected().get(1).getOrderId());
+        assertEquals(ErrorCode.ORDER_NOT_FOUND, response.getRejected().get(1).getErrorCode());
+
+        verify(orderRepository, times(1)).findStatusOwnersForUpdate(any());
+        verify(orderRepository, times(1)).updateStatusIfCurrentIn(any(), any(), any(), any());
+        verify(orderRepository, never()).findWithDetailsById(anyLong());
+        verify(eventPublisher, times(2)).publishEvent(any(OrderStatusEvent.class));
+    }
+
+    @Test
+    @DisplayName("주문 상태 일괄 변경 - 다른 가게의 주문은 변경하지 않고 권한 없음으로 응답하는지 테스트")
+    void updateOrderStatusBatch_OtherOwnersOrder_Rejected() {
+        when(orderRepository.findStatusOwnersForUpdate(any())).thenReturn(List.<Object[]>of(
+                new Object[]{1L, OrderStatus.ORDER_CONFIRMED, 10L, 99L, 20L}
+        ));
+
+        OrderStatusBatchResponseDto response = orderService.updateOrderStatusBatch(
+                List.of(1L), OrderStatus.ORDER_PREPARING, UserRole.OWNER, 1L);
+
+        assertTrue(response.getUpdatedOrderIds().isEmpty());
+        assertEquals(ErrorCode.INVALID_OWNER_FOR_ORDER, response.getRejected().get(0).getErrorCode());
+        verify(orderRepository, never()).updateStatusIfCurrentIn(any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("주문 상태 일괄 변경 - 갱신되지 않은 주문은 같은 트랜잭션에서 다시 읽은 상태로 판단해 충돌로 응답하는지 테스트")
+    void updateOrderStatusBatch_ConcurrentChange_ReportsConflict() {
+        // 갱신 후 다시 읽은 상태: 1 은 변경됨, 2 는 그대로
+        when(orderRepository.findStatusOwnersForUpdate(any())).thenReturn(List.of(
+                new Object[]{1L, OrderStatus.ORDER_CONFIRMED, 10L, 1L, 20L},
+                new Object[]{2L, OrderStatus.ORDER_CONFIRMED, 10L, 1L, 21L}
+        ), List.of(
+                new Object[]{1L, OrderStatus.ORDER_PREPARING, 10L, 1L, 20L},
+                new Object[]{2L, OrderStatus.ORDER_CONFIRMED, 10L, 1L, 21L}
+        ));
+        when(orderRepository.updateStatusIfCurrentIn(any(), any(), any(), any())).thenReturn(1);
+
+        OrderStatusBatchResponseDto response = orderService.updateOrderStatusBatch(
+                List.of(1L, 2L), OrderStatus.ORDER_PREPARING, UserRole.OWNER, 1L);
+
+        assertEquals(List.of(1L), response.getUpdatedOrderIds());
+        assertEquals(2L, response.getRejected().get(0).getOrderId());
+        assertEquals(ErrorCode.ORDER_STATUS_CONFLICT, response.getRejected().get(0).getErrorCode());
+        verify(eventPublisher, times(1)).publishEvent(any(OrderStatusEvent.class));
+    }
+
+    @Test
+    @DisplayName("주문 상태 일괄 변경 - 고객 권한이거나 주문 목록이 비어 있으면 예외가 발생하는지 테스트")
+    void updateOrderStatusBatch_InvalidRequest_ThrowsException() {
+        ApplicationException forbidden = assertThrows(ApplicationException.class, () ->
+                orderService.updateOrderStatusBatch(List.of(1L), OrderStatus.ORDER_CANCELED, UserRole.USER, 2L));
+        ApplicationException empty = assertThrows(ApplicationException.class, () ->
+                orderService.updateOrderStatusBatch(List.of(), OrderStatus.ORDER_PREPARING, UserRole.OWNER, 1L));
+
+        assertEquals(ErrorCode.ORDER_STATUS_CHANGE_FORBIDDEN, forbidden.getErrorCode());
+        assertEquals(ErrorCode.INVALID_ORDER_BATCH, empty.getErrorCode());
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("미확인 주문 자동 취소 - 한 번의 갱신 쿼리로 취소하고, 취소된 주문만 이벤트를 발행하는지 테스트")
+    void autoCancelStaleOrders_CancelsInOneUpdateAndPublishesCanceledOnly() {
+        List<Long> orderIds = List.of(1L, 2L, 3L);
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(15);
+
+        // 3건 중 2건만 아직 주문 접수 상태 (잠그고 조회한 주문만 취소)
+        when(orderRepository.findInStatusCreatedBeforeForUpdate(orderIds, OrderStatus.ORDER_PLACED, cutoff))
+                .thenReturn(List.of(new Object[]{1L, 10L, 20L}, new Object[]{3L, 10L, 21L}));
+        when(orderRepository.updateStatusIfCreatedBefore(eq(List.of(1L, 3L)), eq(OrderStatus.ORDER_PLACED),
+                eq(OrderStatus.ORDER_CANCELED), eq(cutoff), any(LocalDateTime.class))).thenReturn(2);
+
+        int canceledCount = orderService.autoCancelStaleOrders(orderIds, cutoff);
+
+        assertEquals(2, canceledCount);
+        ArgumentCaptor<OrderStatusEvent> captor = ArgumentCaptor.forClass(OrderStatusEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertEquals(List.of(1L, 3L), captor.getAllValues().stream().map(OrderStatusEvent::getOrderId).toList());
+        assertTrue(captor.getAllValues().stream().allMatch(event -> event.getStatus() == OrderStatus.ORDER_CANCELED));
+        verify(orderRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("미확인 주문 자동 취소 - 취소할 주문이 없으면 갱신, 이벤트 발행을 하지 않는지 테스트")
+    void autoCancelStaleOrders_NothingCanceled_SkipsUpdate() {
+        when(orderRepository.findInStatusCreatedBeforeForUpdate(any(), any(), any())).thenReturn(List.of());
+
+        assertEquals(0, orderService.autoCancelStaleOrders(List.of(1L), LocalDateTime.now()));
+
+        verify(orderRepository, never()).updateStatusIfCreatedBefore(any(), any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private Orders createOrderSnapshot(Long orderId, OrderStatus status) {
+        User owner = new User();
+        ReflectionTestUtils.setField(owner, "id", 1L);
 
+        Store store = new Store();
+        ReflectionTestUtils.setField(store, "id", 1L);
+        ReflectionTestUtils.setField(store, "owner", owner);
 
+        User customer = new User();
+        ReflectionTestUtils.setField(customer, "id", 2L);
 
+        Menu menu = new Menu();
+        ReflectionTestUtils.setField(menu, "id", 1L);
+
+        Orders order = new Orders();
+        ReflectionTestUtils.setField(order, "id", orderId);
+        order.setCustomer(customer);
+        order.setStore(store);
+        order.setMenu(menu);
+        order.setStatus(status);
+        order.setTotalPrice(10000);
+        return order;
+    }
 }
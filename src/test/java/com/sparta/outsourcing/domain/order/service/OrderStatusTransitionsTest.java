@@ -0,0 +1,146 @@
+package com.sparta.outsourcing.domain.order.service;
+
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+import com.sparta.outsourcing.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatusTransitionsTest {
+
+    // 사장님이 진행시킬 수 있는 상태 변경 (현재 상태 -> 다음 상태)
+    private static OrderStatus nextStatus(OrderStatus from) {
+        switch (from) {
+            case ORDER_PLACED:
+                return OrderStatus.ORDER_CONFIRMED;
+            case ORDER_CONFIRMED:
+                return OrderStatus.ORDER_PREPARING;
+            case ORDER_PREPARING:
+                return OrderStatus.ORDER_ON_THE_WAY;
+            case ORDER_ON_THE_WAY:
+                return OrderStatus.ORDER_DELIVERED;
+            default:
+                return null;
+        }
+    }
+
+    // 기대하는 예외 코드 (허용되는 전환이면 null)
+    private static ErrorCode expectedRejection(UserRole role, OrderStatus from, OrderStatus to) {
+        if (role != UserRole.OWNER && to != OrderStatus.ORDER_CANCELED) {
+            return ErrorCode.ORDER_STATUS_CHANGE_FORBIDDEN;
+        }
+        if (from == to) {
+            return ErrorCode.ALREADY_ORDER_STATUS;
+        }
+        if (to == OrderStatus.ORDER_CANCELED) {
+            switch (from) {
+                case ORDER_PLACED:
+                    return null;
+                case ORDER_CONFIRMED:
+                    return ErrorCode.INVALID_TRANSITION_FROM_ORDER_CONFIRMED_TO_CANCELLED;
+                case ORDER_PREPARING:
+                    return ErrorCode.INVALID_TRANSITION_FROM_ORDER_PREPARING_TO_CANCELLED;
+                case ORDER_ON_THE_WAY:
+                case ORDER_DELIVERED:
+                    return ErrorCode.INVALID_TRANSITION_FROM_ORDER_DELIVERED_TO_CANCELLED;
+                default:
+                    return ErrorCode.INVALID_ORDER_STATUS_TRANSITION;
+            }
+        }
+        return to == nextStatus(from) ? null : ErrorCode.INVALID_ORDER_STATUS_TRANSITION;
+    }
+
+    @Test
+    @DisplayName("모든 권한, 현재 상태, 변경할 상태 조합에 대해 허용 여부와 예외 코드가 규칙과 일치하는지 테스트")
+    void transitionTable_AllRoleAndStatusPairs_MatchRules() {
+        int checked = 0;
+
+        for (UserRole role : UserRole.values()) {
+            for (OrderStatus from : OrderStatus.values()) {
+                for (OrderStatus to : OrderStatus.values()) {
+                    ErrorCode expected = expectedRejection(role, from, to);
+                    String pair = role + " " + from + " -> " + to;
+
+                    assertEquals(expected, OrderStatusTransitions.rejectionOf(role, from, to), pair);
+                    assertEquals(expected == null, OrderStatusTransitions.isAllowed(role, from, to), pair);
+                    checked++;
+                }
+            }
+        }
+
+        assertEquals(UserRole.values().length * OrderStatus.values().length * OrderStatus.values().length, checked);
+    }
+
+    @Test
+    @DisplayName("모든 상태에 대해 취소 가능 여부가 상태 전환 테이블과 일치하는지 테스트")
+    void canCancel_AllRoleAndStatusPairs_MatchTransitionTable() {
+        for (UserRole role : UserRole.values()) {
+            for (OrderStatus from : OrderStatus.values()) {
+                assertEquals(from == OrderStatus.ORDER_PLACED, OrderStatusTransitions.canCancel(role, from), role + " " + from);
+                assertEquals(OrderStatusTransitions.isAllowed(role, from, OrderStatus.ORDER_CANCELED),
+                        OrderStatusTransitions.canCancel(role, from), role + " " + from);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("모든 상태에 대해 가능한 상태 변경 목록이 사장님의 허용 전환(취소 제외)과 일치하는지 테스트")
+    void availableStatusChanges_AllStatuses_MatchOwnerTransitions() {
+        for (OrderStatus from : OrderStatus.values()) {
+            List<OrderStatus> changes = OrderStatusTransitions.availableStatusChanges(from);
+
+            Set<OrderStatus> expected = EnumSet.noneOf(OrderStatus.class);
+            for (OrderStatus to : OrderStatus.values()) {
+                if (to != OrderStatus.ORDER_CANCELED && OrderStatusTransitions.isAllowed(UserRole.OWNER, from, to)) {
+                    expected.add(to);
+                }
+            }
+
+            assertEquals(expected, Set.copyOf(changes), from.name());
+            assertEquals(nextStatus(from) == null ? 0 : 1, changes.size(), from.name());
+        }
+    }
+
+    @Test
+    @DisplayName("모든 권한, 변경할 상태에 대해 변경 가능한 현재 상태 목록이 상태 전환 테이블과 일치하는지 테스트")
+    void sourcesOf_AllRoleAndStatusPairs_MatchTransitionTable() {
+        for (UserRole role : UserRole.values()) {
+            for (OrderStatus to : OrderStatus.values()) {
+                Set<OrderStatus> expected = EnumSet.noneOf(OrderStatus.class);
+                for (OrderStatus from : OrderStatus.values()) {
+                    if (OrderStatusTransitions.isAllowed(role, from, to)) {
+                        expected.add(from);
+                    }
+                }
+                assertEquals(expected, OrderStatusTransitions.sourcesOf(role, to), role + " -> " + to);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("고객이 취소가 아닌 상태로 변경하면 현재 상태와 관계없이(이미 해당 상태여도) 권한 없음으로 거절되는지 테스트")
+    void rejectionOf_UserNonCancel_AlwaysForbidden() {
+        for (OrderStatus from : OrderStatus.values()) {
+            for (OrderStatus to : OrderStatus.values()) {
+                if (to != OrderStatus.ORDER_CANCELED) {
+                    assertEquals(ErrorCode.ORDER_STATUS_CHANGE_FORBIDDEN,
+                            OrderStatusTransitions.rejectionOf(UserRole.USER, from, to), from + " -> " + to);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("가능한 상태 변경 목록은 수정할 수 없는지 테스트")
+    void availableStatusChanges_IsUnmodifiable() {
+        List<OrderStatus> changes = OrderStatusTransitions.availableStatusChanges(OrderStatus.ORDER_PLACED);
+
+        assertThrows(UnsupportedOperationException.class, () -> changes.add(OrderStatus.ORDER_CANCELED));
+    }
+}
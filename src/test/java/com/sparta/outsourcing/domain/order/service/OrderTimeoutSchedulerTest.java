@@ -0,0 +1,164 @@
+package com.sparta.outsourcing.domain.order.service;
+
+import com.sparta.outsourcing.domain.order.enums.OrderStatus;
+import com.sparta.outsourcing.domain.order.event.OrderStatusEvent;
+import com.sparta.outsourcing.domain.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderTimeoutSchedulerTest {
+
+    private static final long PLACED_TIMEOUT = TimeUnit.MINUTES.toMillis(15);
+    private static final long CONFIRMED_TIMEOUT = TimeUnit.MINUTES.toMillis(60);
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private OrderTimeoutScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        scheduler = new OrderTimeoutScheduler(orderService, orderRepository, PLACED_TIMEOUT, CONFIRMED_TIMEOUT, now::get);
+    }
+
+    private LocalDateTime at(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private OrderStatusEvent event(Long orderId, OrderStatus status) {
+        return new OrderStatusEvent(orderId, 1L, 2L, status, at(now.get()));
+    }
+
+    @Test
+    @DisplayName("주문 접수 후 제한 시간이 지나면 한 번의 자동 취소 요청으로 묶어서 처리하는지 테스트")
+    void tick_PlacedOrdersExpired_CancelsInOneBatch() {
+        // given
+        for (long orderId = 1; orderId <= 3; orderId++) {
+            scheduler.onOrderStatusChanged(event(orderId, OrderStatus.ORDER_PLACED));
+        }
+
+        // when - 제한 시간 전
+        now.addAndGet(PLACED_TIMEOUT - 1000);
+        scheduler.tick();
+
+        // then
+        verify(orderService, never()).autoCancelStaleOrders(any(), any());
+
+        // when - 제한 시간 이후
+        now.addAndGet(2000);
+        scheduler.tick();
+
+        // then
+        verify(orderService, times(1)).autoCancelStaleOrders(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class));
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    @DisplayName("주문 확인 후 제한 시간이 지나면 진행되지 않은 주문을 조회하는지 테스트 (자동 취소하지 않음)")
+    void tick_ConfirmedOrderExpired_Escalates() {
+        // given
+        scheduler.onOrderStatusChanged(event(1L, OrderStatus.ORDER_CONFIRMED));
+        when(orderService.getStaleConfirmedOrderIds(any(), any())).thenReturn(List.of(1L));
+
+        // when
+        now.addAndGet(CONFIRMED_TIMEOUT + 1000);
+        scheduler.tick();
+
+        // then
+        verify(orderService).getStaleConfirmedOrderIds(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(orderService, never()).autoCancelStaleOrders(any(), any());
+    }
+
+    @Test
+    @DisplayName("취소, 배달 완료 등 다른 상태의 이벤트는 등록하지 않는지 테스트")
+    void onOrderStatusChanged_OtherStatus_NotRegistered() {
+        scheduler.onOrderStatusChanged(event(1L, OrderStatus.ORDER_CANCELED));
+        scheduler.onOrderStatusChanged(event(2L, OrderStatus.ORDER_DELIVERED));
+
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    @DisplayName("자동 취소에 실패한 주문은 다시 등록되어 재시도되는지 테스트")
+    void tick_CancelFailed_Retries() {
+        // given
+        scheduler.onOrderStatusChanged(event(1L, OrderStatus.ORDER_PLACED));
+        when(orderService.autoCancelStaleOrders(any(), any()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+
+        // when
+        now.addAndGet(PLACED_TIMEOUT + 1000);
+        scheduler.tick();
+
+        // then
+        assertEquals(1, scheduler.pendingCount());
+
+        // when - 재시도
+        now.addAndGet(TimeUnit.MINUTES.toMillis(1) + 1000);
+        scheduler.tick();
+
+        // then
+        verify(orderService, times(2)).autoCancelStaleOrders(eq(List.of(1L)), any(LocalDateTime.class));
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @Test
+    @DisplayName("시작 시 DB 의 주문 접수 / 주문 확인 주문을 페이지 단위로 모두 재적재하는지 테스트")
+    void rebuild_LoadsAllPages() {
+        // given - 첫 페이지 10,000건, 두 번째 페이지 1건
+        List<Object[]> firstPage = new ArrayList<>();
+        for (long orderId = 1; orderId <= 10_000; orderId++) {
+            firstPage.add(new Object[]{orderId, OrderStatus.ORDER_PLACED, at(now.get())});
+        }
+        List<Object[]> secondPage = new ArrayList<>();
+        secondPage.add(new Object[]{10_001L, OrderStatus.ORDER_CONFIRMED, at(now.get())});
+
+        when(orderRepository.findStatusTimesAfter(anyCollection(), eq(0L), any(Pageable.class))).thenReturn(firstPage);
+        when(orderRepository.findStatusTimesAfter(anyCollection(), eq(10_000L), any(Pageable.class))).thenReturn(secondPage);
+
+        // when
+        scheduler.rebuild();
+
+        // then
+        assertEquals(10_001, scheduler.pendingCount());
+    }
+
+    @Test
+    @DisplayName("재시작 전에 이미 제한 시간이 지난 주문은 다음 틱에 자동 취소되는지 테스트")
+    void rebuild_OverdueOrder_CanceledOnNextTick() {
+        // given
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L, OrderStatus.ORDER_PLACED, at(now.get() - PLACED_TIMEOUT * 2)});
+        when(orderRepository.findStatusTimesAfter(anyCollection(), anyLong(), any(Pageable.class))).thenReturn(rows, List.of());
+
+        // when
+        scheduler.rebuild();
+        now.addAndGet(1000);
+        scheduler.tick();
+
+        // then
+        verify(orderService).autoCancelStaleOrders(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+}
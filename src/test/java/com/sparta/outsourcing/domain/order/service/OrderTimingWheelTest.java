@@ -0,0 +1,117 @@
+package com.sparta.outsourcing.domain.order.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderTimingWheelTest {
+
+    private static final long TICK = 1000L;
+
+    @Test
+    @DisplayName("모든 단계에 걸친 마감 시각이 마감 시각 이후 첫 진행에서 정확히 한 번씩 만료되는지 테스트")
+    void advanceTo_RandomDeadlines_ExpireOnceAtFirstTickAfterDeadline() {
+        long start = 1_700_000_000_123L;
+        OrderTimingWheel wheel = new OrderTimingWheel(TICK, start);
+        Random random = new Random(42);
+
+        // 1초 ~ 3일 사이의 마감 시각 (틱 경계가 아닌 시각 포함)
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long orderId = 1; orderId <= 20_000; orderId++) {
+            long deadline = start + 1 + (long) (random.nextDouble() * TimeUnit.DAYS.toMillis(3));
+            deadlines.put(orderId, deadline);
+            wheel.schedule(orderId, deadline);
+        }
+        assertEquals(20_000, wheel.size());
+
+        // 1틱 단위 진행과 여러 틱을 한 번에 건너뛰는 진행을 섞어서 확인
+        Map<Long, Long> expiredAt = new HashMap<>();
+        long now = start;
+        while (expiredAt.size() < deadlines.size()) {
+            long previous = now;
+            now += random.nextBoolean() ? TICK : 1 + random.nextInt(300_000);
+            long current = now;
+
+            wheel.advanceTo(now, orderId -> {
+                assertNull(expiredAt.put(orderId, current), "중복 만료: " + orderId);
+
+                // 마감 시각을 올림한 틱이 이번 진행 구간에 속해야 함 (너무 이르거나 늦게 만료되지 않음)
+                long dueTick = Math.floorDiv(deadlines.get(orderId) + TICK - 1, TICK);
+                assertTrue(dueTick > Math.floorDiv(previous, TICK) && dueTick <= Math.floorDiv(current, TICK),
+                        "주문 " + orderId);
+            });
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("마감 시각이 위 단계 칸의 경계와 같아도 해당 틱에 만료되는지 테스트")
+    void advanceTo_DeadlineOnLevelBoundary_ExpiresOnTime() {
+        long[] deadlineTicks = {64, 64 * 64, 64 * 64 * 64, 8_640_000, 135_000L << 6};
+
+        for (long deadlineTick : deadlineTicks) {
+            OrderTimingWheel wheel = new OrderTimingWheel(TICK, 0L);
+            List<Long> expired = new ArrayList<>();
+            wheel.schedule(1L, deadlineTick * TICK);
+
+            wheel.advanceTo((deadlineTick - 1) * TICK, expired::add);
+            assertTrue(expired.isEmpty(), "틱 " + deadlineTick);
+
+            wheel.advanceTo(deadlineTick * TICK, expired::add);
+            assertEquals(List.of(1L), expired, "틱 " + deadlineTick);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감 시각은 다음 틱에 만료되는지 테스트")
+    void schedule_PastDeadline_ExpiresOnNextTick() {
+        OrderTimingWheel wheel = new OrderTimingWheel(TICK, 10_000L);
+        List<Long> expired = new ArrayList<>();
+
+        wheel.schedule(1L, 5_000L);
+
+        assertEquals(0, wheel.advanceTo(10_999L, expired::add));
+        assertEquals(1, wheel.advanceTo(11_000L, expired::add));
+        assertEquals(List.of(1L), expired);
+    }
+
+    @Test
+    @DisplayName("최상위 단계 범위를 넘는 마감 시각도 마감 시각에 만료되는지 테스트")
+    void schedule_BeyondMaxSpan_ExpiresAtDeadline() {
+        OrderTimingWheel wheel = new OrderTimingWheel(TICK, 0L);
+        List<Long> expired = new ArrayList<>();
+
+        // 1초 틱 기준 최상위 단계 범위(2^24 틱, 약 194일)를 넘는 마감 시각
+        long deadline = TimeUnit.DAYS.toMillis(400);
+        wheel.schedule(1L, deadline);
+
+        wheel.advanceTo(deadline - TICK, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advanceTo(deadline, expired::add);
+        assertEquals(List.of(1L), expired);
+    }
+
+    @Test
+    @DisplayName("같은 틱에 만료되는 주문이 모두 함께 만료되는지 테스트")
+    void advanceTo_SameTick_ExpiresAllTogether() {
+        OrderTimingWheel wheel = new OrderTimingWheel(TICK, 0L);
+        List<Long> expired = new ArrayList<>();
+
+        for (long orderId = 1; orderId <= 1_000; orderId++) {
+            wheel.schedule(orderId, 90_000L);
+        }
+
+        assertEquals(0, wheel.advanceTo(89_999L, expired::add));
+        assertEquals(1_000, wheel.advanceTo(90_000L, expired::add));
+        assertEquals(1_000, expired.size());
+    }
+}
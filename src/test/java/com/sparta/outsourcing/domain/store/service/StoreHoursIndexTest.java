@@ -0,0 +1,104 @@
+package com.sparta.outsourcing.domain.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+import com.sparta.outsourcing.domain.store.event.StoreHoursChangedEvent;
+import com.sparta.outsourcing.domain.store.repository.StoreRepository;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StoreHoursIndexTest {
+
+    @InjectMocks
+    private StoreHoursIndex storeHoursIndex;
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    // 기존 주문 생성 시 사용하던 영업 중 여부 판단 로직
+    private static boolean isOpenByLocalTime(LocalTime openTime, LocalTime closeTime, LocalTime now) {
+        if (openTime.isBefore(closeTime)) {
+            return (now.isAfter(openTime) || now.equals(openTime)) && now.isBefore(closeTime);
+        }
+        return (now.isAfter(openTime) || now.equals(openTime)) || now.isBefore(closeTime);
+    }
+
+    @Test
+    @DisplayName("하루의 모든 분에 대해 영업 중 여부가 기존 판단 로직과 일치하는지 테스트 (당일 마감, 자정 넘김, 24시간 영업)")
+    void isOpen_AllMinutesOfDay_MatchLocalTimeLogic() {
+        LocalTime[][] hours = {
+            {LocalTime.of(9, 0), LocalTime.of(21, 0)},
+            {LocalTime.of(0, 0), LocalTime.of(23, 59)},
+            {LocalTime.of(18, 30), LocalTime.of(2, 15)},
+            {LocalTime.of(23, 59), LocalTime.of(0, 1)},
+            {LocalTime.of(10, 0), LocalTime.of(10, 0)},
+            {LocalTime.of(0, 0), LocalTime.of(0, 0)}
+        };
+
+        for (int i = 0; i < hours.length; i++) {
+            long storeId = i + 1;
+            storeHoursIndex.put(storeId, hours[i][0], hours[i][1]);
+
+            for (int minute = 0; minute < 24 * 60; minute++) {
+                LocalTime now = LocalTime.of(minute / 60, minute % 60);
+                assertEquals(isOpenByLocalTime(hours[i][0], hours[i][1], now),
+                    storeHoursIndex.isOpen(storeId, now), hours[i][0] + "~" + hours[i][1] + " " + now);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("인덱스에 없는 가게는 null 을 반환하는지 테스트")
+    void isOpen_UnknownStore_ReturnsNull() {
+        assertNull(storeHoursIndex.isOpen(1L, LocalTime.of(12, 0)));
+    }
+
+    @Test
+    @DisplayName("애플리케이션 시작 시 영업 시간 전체를 적재하는지 테스트")
+    void loadAll_LoadsOpeningHours() {
+        // given
+        when(storeRepository.findAllOpeningHours()).thenReturn(List.of(
+            new Object[]{1L, LocalTime.of(9, 0), LocalTime.of(21, 0)},
+            new Object[]{2L, LocalTime.of(22, 0), LocalTime.of(4, 0)}
+        ));
+
+        // when
+        storeHoursIndex.loadAll();
+
+        // then
+        assertEquals(Set.of(1L), storeHoursIndex.findOpenStoreIds(LocalTime.of(12, 0)));
+        assertEquals(Set.of(2L), storeHoursIndex.findOpenStoreIds(LocalTime.of(1, 0)));
+        assertEquals(Set.of(), storeHoursIndex.findOpenStoreIds(LocalTime.of(6, 0)));
+    }
+
+    @Test
+    @DisplayName("영업 시간 변경 이벤트로 인덱스가 갱신되고, 폐업 이벤트로 제거되는지 테스트")
+    void onStoreHoursChanged_UpdatesAndRemoves() {
+        // given
+        storeHoursIndex.put(1L, LocalTime.of(9, 0), LocalTime.of(21, 0));
+
+        // when - 영업 시간 변경
+        storeHoursIndex.onStoreHoursChanged(
+            new StoreHoursChangedEvent(1L, LocalTime.of(13, 0), LocalTime.of(19, 0), false));
+
+        // then
+        assertEquals(false, storeHoursIndex.isOpen(1L, LocalTime.of(10, 0)));
+        assertEquals(true, storeHoursIndex.isOpen(1L, LocalTime.of(13, 0)));
+
+        // when - 폐업
+        storeHoursIndex.onStoreHoursChanged(new StoreHoursChangedEvent(1L, null, null, true));
+
+        // then
+        assertNull(storeHoursIndex.isOpen(1L, LocalTime.of(13, 0)));
+    }
+}
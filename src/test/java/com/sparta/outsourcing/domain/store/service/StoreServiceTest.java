@@ -11,6 +11,7 @@ import com.sparta.outsourcing.domain.menu.repository.MenuRepository;
 import com.sparta.outsourcing.domain.store.dto.request.StoreRequestDto;
 import com.sparta.outsourcing.domain.store.dto.response.StoreResponseDto;
 import com.sparta.outsourcing.domain.store.entity.Store;
+import com.sparta.outsourcing.domain.store.event.StoreHoursChangedEvent;
 import com.sparta.outsourcing.domain.store.repository.StoreRepository;
 import com.sparta.outsourcing.domain.user.dto.AuthUser;
 import com.sparta.outsourcing.domain.user.entity.User;
@@ -22,12 +23,15 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +46,12 @@ class StoreServiceTest {
     @Mock
     private MenuRepository menuRepository;
 
+    @Mock
+    private StoreHoursIndex storeHoursIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private StoreService storeService;
 
@@ -176,6 +186,13 @@ class StoreServiceTest {
         assertEquals(LocalTime.parse("19:00"), store.getCloseTime());
         assertEquals(10000, store.getMinPrice());
         assertEquals("수정된 공지입니다", store.getNotice());
+
+        // 수정된 영업 시간이 영업 시간 인덱스 갱신 이벤트로 발행
+        ArgumentCaptor<StoreHoursChangedEvent> captor = ArgumentCaptor.forClass(StoreHoursChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(1L, captor.getValue().getStoreId());
+        assertEquals(LocalTime.parse("13:00"), captor.getValue().getOpenTime());
+        assertEquals(LocalTime.parse("19:00"), captor.getValue().getCloseTime());
     }
 
     @Test
@@ -277,6 +294,52 @@ class StoreServiceTest {
         assertEquals("가게", storeResponseDtos.get(1).getName());
     }
 
+    @Test
+    @DisplayName("영업 중인 가게 목록 조회 테스트 - 성공")
+    void getOpenStoreList_success() {
+        // given
+        String storeName = "가게";
+        User user = new User("user@example.com", "1234", UserRole.OWNER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        Store store1 = new Store(
+            new StoreRequestDto("가게", LocalTime.parse("12:00"), LocalTime.parse("18:00"), 18000,
+                "공지1"), user);
+        ReflectionTestUtils.setField(store1, "id", 1L);
+
+        Store store2 = new Store(
+            new StoreRequestDto("가게", LocalTime.parse("13:00"), LocalTime.parse("20:00"), 20000,
+                "공지2"), user);
+        ReflectionTestUtils.setField(store2, "id", 2L);
+
+        when(storeRepository.findStoreByName(storeName)).thenReturn(Arrays.asList(store1, store2));
+        when(storeHoursIndex.findOpenStoreIds(any(LocalTime.class))).thenReturn(Set.of(2L));
+
+        // when
+        List<StoreResponseDto> storeResponseDtos = storeService.getOpenStoreList(storeName);
+
+        // then
+        assertEquals(1, storeResponseDtos.size());
+        assertEquals(2L, storeResponseDtos.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("영업 중인 가게 목록 조회 테스트 - 실패 - 영업 중인 가게가 없을때")
+    void getOpenStoreList_fail_noOpenStore() {
+        // given
+        User user = new User("user@example.com", "1234", UserRole.OWNER);
+        Store store = new Store(
+            new StoreRequestDto("가게", LocalTime.parse("12:00"), LocalTime.parse("18:00"), 18000,
+                "공지1"), user);
+        ReflectionTestUtils.setField(store, "id", 1L);
+
+        when(storeRepository.findStoreByName("가게")).thenReturn(List.of(store));
+        when(storeHoursIndex.findOpenStoreIds(any(LocalTime.class))).thenReturn(Set.of());
+
+        // when & then
+        assertThrows(ApplicationException.class, () -> storeService.getOpenStoreList("가게"));
+    }
+
     @Test
     @DisplayName("가게 목록 조회 테스트 - 실패 - 스토어가 존재하지 않을때")
     void getStoreList_fail_notFoundStore() {
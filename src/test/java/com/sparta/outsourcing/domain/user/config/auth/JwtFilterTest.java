@@ -0,0 +1,102 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sparta.outsourcing.domain.user.dto.AuthUser;
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class JwtFilterTest {
+
+    @InjectMocks
+    private JwtFilter jwtFilter;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("토큰을 한 번만 검증하고, 같은 요청에서 사용할 인증 정보를 보관하는지 테스트")
+    void doFilter_ValidToken_StoresAuthContextOnce() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/orders/1/status");
+        request.addHeader("Authorization", "Bearer token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Claims claims = Jwts.claims().setSubject("1");
+        claims.put("role", "OWNER");
+        when(jwtUtil.substringToken("Bearer token")).thenReturn("token");
+        when(jwtUtil.extractClaims("token")).thenReturn(claims);
+
+        // when
+        jwtFilter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        AuthUser authUser = AuthContext.get(request);
+        assertEquals(1L, authUser.getId());
+        assertEquals(UserRole.OWNER, authUser.getUserRole());
+        assertEquals(1L, request.getAttribute("userId"));
+        verify(jwtUtil, times(1)).extractClaims("token");
+
+        // 같은 요청 안에서는 RequestContextHolder 로도 같은 인증 정보를 조회
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        assertSame(authUser, AuthContext.current());
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰이면 401 로 거부하고 다음 필터로 넘기지 않는지 테스트")
+    void doFilter_RevokedToken_Returns401() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/user/1");
+        request.addHeader("Authorization", "Bearer token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        Claims claims = Jwts.claims().setSubject("1");
+        claims.put("role", "USER");
+        when(jwtUtil.substringToken("Bearer token")).thenReturn("token");
+        when(jwtUtil.extractClaims("token")).thenReturn(claims);
+        when(tokenRevocationList.isRevoked(any(), any())).thenReturn(true);
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+        assertNull(AuthContext.get(request));
+    }
+
+    @Test
+    @DisplayName("HTTP 요청 밖에서는 인증 정보가 없는지 테스트")
+    void current_OutsideRequest_ReturnsNull() {
+        assertNull(AuthContext.current());
+    }
+}
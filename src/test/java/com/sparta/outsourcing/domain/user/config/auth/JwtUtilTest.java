@@ -0,0 +1,53 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import com.sparta.outsourcing.domain.user.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(new byte[32]));
+        ReflectionTestUtils.setField(jwtUtil, "cacheEnabled", true);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100);
+        jwtUtil.init();
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 서명 검증 없이 캐시된 claims 를 반환하는지 테스트")
+    void extractClaims_SameToken_ServedFromCache() {
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, UserRole.OWNER));
+
+        Claims first = jwtUtil.extractClaims(token);
+        Claims second = jwtUtil.extractClaims(token);
+
+        assertEquals("1", first.getSubject());
+        assertEquals("OWNER", first.get("role"));
+        assertSame(first, second);
+        assertEquals(1, jwtUtil.getTokenCacheStats().getHitCount());
+        assertEquals(1, jwtUtil.getTokenCacheStats().getMissCount());
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 캐시되지 않고 매번 검증에 실패하는지 테스트")
+    void extractClaims_TamperedToken_AlwaysFails() {
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, UserRole.USER));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtUtil.extractClaims(tampered));
+        assertThrows(JwtException.class, () -> jwtUtil.extractClaims(tampered));
+        assertEquals(0, jwtUtil.getTokenCacheStats().getSize());
+    }
+}
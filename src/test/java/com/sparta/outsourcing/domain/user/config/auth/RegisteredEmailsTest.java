@@ -0,0 +1,61 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import com.sparta.outsourcing.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailsTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("가입된 이메일을 id 순으로 나누어 적재하는지 테스트")
+    void load_ReadsAllPages() {
+        // given
+        List<Object[]> firstPage = new ArrayList<>();
+        for (long id = 1; id <= 10_000; id++) {
+            firstPage.add(new Object[]{id, "user" + id + "@test.com"});
+        }
+        List<Object[]> secondPage = new ArrayList<>();
+        secondPage.add(new Object[]{10_001L, "last@test.com"});
+
+        when(userRepository.count()).thenReturn(10_001L);
+        when(userRepository.findEmailsAfter(eq(0L), any(Pageable.class))).thenReturn(firstPage);
+        when(userRepository.findEmailsAfter(eq(10_000L), any(Pageable.class))).thenReturn(secondPage);
+
+        RegisteredEmails registeredEmails = new RegisteredEmails(userRepository, 1000);
+
+        // when
+        registeredEmails.load();
+
+        // then
+        assertTrue(registeredEmails.mightBeRegistered("user1@test.com"));
+        assertTrue(registeredEmails.mightBeRegistered("last@test.com"));
+        assertFalse(registeredEmails.mightBeRegistered("new@test.com"));
+    }
+
+    @Test
+    @DisplayName("추가한 이메일은 대소문자와 관계없이 가입된 것으로 판단하는지 테스트")
+    void add_IgnoresCase() {
+        RegisteredEmails registeredEmails = new RegisteredEmails(userRepository, 1000);
+
+        registeredEmails.add("Test@Test.com");
+
+        assertTrue(registeredEmails.mightBeRegistered("test@test.com"));
+        assertFalse(registeredEmails.mightBeRegistered("other@test.com"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final long WINDOW = 60_000L;
+
+    private final AtomicLong clock = new AtomicLong(WINDOW * 100);
+
+    @Test
+    @DisplayName("윈도우 안에서 한도까지만 허용하고, 키마다 따로 집계하는지 테스트")
+    void tryAcquire_LimitPerKey() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW, 1000, clock::get);
+
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("b"));
+    }
+
+    @Test
+    @DisplayName("직전 윈도우 요청 수를 지난 비율만큼 줄여 반영하는지 테스트")
+    void tryAcquire_SlidesOverPreviousWindow() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(4, WINDOW, 1000, clock::get);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire("a"));
+        }
+
+        // 다음 윈도우 시작 직후에는 직전 요청이 거의 그대로 남아 있음
+        clock.addAndGet(WINDOW);
+        assertFalse(limiter.tryAcquire("a"));
+
+        // 다음 윈도우의 절반이 지나면 직전 요청 4건 중 2건만 반영
+        clock.addAndGet(WINDOW / 2);
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+
+        // 두 윈도우 이상 지나면 다시 한도까지 허용
+        clock.addAndGet(WINDOW * 2);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire("a"));
+        }
+    }
+
+    @Test
+    @DisplayName("보관 키 수를 넘지 않고, 오래 사용하지 않은 키를 제거하는지 테스트")
+    void tryAcquire_BoundsKeys() {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, WINDOW, 64 * 4, clock::get);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("key-" + i);
+        }
+        assertTrue(limiter.size() <= 64 * 4);
+
+        // 요청이 없던 키는 두 윈도우가 지나면 다음 요청 때 제거
+        clock.addAndGet(WINDOW * 2);
+        for (int i = 0; i < 64; i++) {
+            limiter.tryAcquire("new-" + i);
+        }
+        assertTrue(limiter.size() < 64 * 4);
+    }
+}
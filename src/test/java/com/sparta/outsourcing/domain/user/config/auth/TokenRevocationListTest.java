@@ -0,0 +1,112 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import com.sparta.outsourcing.domain.user.entity.TokenRevocation;
+import com.sparta.outsourcing.domain.user.event.TokenRevokedEvent;
+import com.sparta.outsourcing.domain.user.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationList = new TokenRevocationList(tokenRevocationRepository, eventPublisher, 1000, clock::get);
+    }
+
+    @Test
+    @DisplayName("폐기 기록이 없는 유저의 토큰은 폐기되지 않은 것으로 판단하는지 테스트")
+    void isRevoked_NoRevocation_ReturnsFalse() {
+        assertFalse(tokenRevocationList.isRevoked(1L, new Date(NOW - 1000)));
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전(같은 초 포함)에 발급된 토큰만 폐기된 것으로 판단하는지 테스트")
+    void isRevoked_IssuedBeforeCutoff_ReturnsTrue() {
+        // given
+        tokenRevocationList.onTokenRevoked(new TokenRevokedEvent(1L, Instant.ofEpochMilli(NOW)));
+
+        // then
+        assertTrue(tokenRevocationList.isRevoked(1L, new Date(NOW - 60_000)));
+        assertTrue(tokenRevocationList.isRevoked(1L, new Date(NOW)));
+        assertFalse(tokenRevocationList.isRevoked(1L, new Date(NOW + 1000)));
+        assertFalse(tokenRevocationList.isRevoked(2L, new Date(NOW - 60_000)));
+    }
+
+    @Test
+    @DisplayName("기준 시각이 토큰 유효 기간보다 오래되면 더 이상 폐기로 판단하지 않는지 테스트")
+    void isRevoked_CutoffOlderThanTokenTime_ReturnsFalse() {
+        // given
+        tokenRevocationList.onTokenRevoked(new TokenRevokedEvent(1L, Instant.ofEpochMilli(NOW)));
+
+        // when
+        clock.set(NOW + JwtUtil.TOKEN_TIME + 1000);
+
+        // then
+        assertFalse(tokenRevocationList.isRevoked(1L, new Date(NOW - 1000)));
+    }
+
+    @Test
+    @DisplayName("시작 시 저장된 폐기 기록을 다시 적재하는지 테스트")
+    void load_RestoresRevocations() {
+        // given
+        when(tokenRevocationRepository.findByRevokedBeforeAfter(Instant.ofEpochMilli(NOW - JwtUtil.TOKEN_TIME)))
+                .thenReturn(List.of(new TokenRevocation(7L, Instant.ofEpochMilli(NOW))));
+
+        // when
+        tokenRevocationList.load();
+
+        // then
+        assertTrue(tokenRevocationList.isRevoked(7L, new Date(NOW - 1000)));
+        assertFalse(tokenRevocationList.isRevoked(8L, new Date(NOW - 1000)));
+    }
+
+    @Test
+    @DisplayName("폐기 시 기준 시각을 저장하고 이벤트를 발행하는지 테스트")
+    void revokeTokensIssuedBefore_SavesAndPublishes() {
+        // given
+        Instant cutoff = Instant.ofEpochMilli(NOW);
+        when(tokenRevocationRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // when
+        tokenRevocationList.revokeTokensIssuedBefore(1L, cutoff);
+
+        // then
+        verify(tokenRevocationRepository).save(any(TokenRevocation.class));
+        ArgumentCaptor<TokenRevokedEvent> captor = ArgumentCaptor.forClass(TokenRevokedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(1L, captor.getValue().getUserId());
+        assertEquals(cutoff, captor.getValue().getRevokedBefore());
+
+        // 커밋 전에는 반영하지 않음
+        assertFalse(tokenRevocationList.isRevoked(1L, new Date(NOW - 1000)));
+    }
+}
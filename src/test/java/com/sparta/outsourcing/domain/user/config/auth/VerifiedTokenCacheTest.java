@@ -0,0 +1,72 @@
+package com.sparta.outsourcing.domain.user.config.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private Claims claimsExpiringAt(long expiresAtMillis) {
+        return Jwts.claims().setSubject("1").setExpiration(new Date(expiresAtMillis));
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 만료 전까지 캐시에서 조회되고, 만료 후에는 조회되지 않는지 테스트")
+    void get_ReturnsClaimsUntilExpiration() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, now::get);
+        Claims claims = claimsExpiringAt(now.get() + 1000);
+
+        assertNull(cache.get("token"));
+        cache.put("token", claims);
+
+        assertSame(claims, cache.get("token"));
+        assertNull(cache.get("other-token"));
+
+        now.addAndGet(1000);
+        assertNull(cache.get("token"));
+
+        TokenCacheStats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(3, stats.getMissCount());
+        assertEquals(0.25, stats.getHitRate());
+        assertEquals(0, stats.getSize());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 만료된 토큰, 만료가 가장 가까운 토큰 순으로 제거되는지 테스트")
+    void put_OverMaxSize_EvictsExpiredThenEarliestExpiring() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, now::get);
+        cache.put("expired", claimsExpiringAt(now.get() + 10));
+        for (int i = 1; i <= 9; i++) {
+            cache.put("token-" + i, claimsExpiringAt(now.get() + 1000 + i));
+        }
+        now.addAndGet(10);
+
+        // 11번째 토큰을 넣으면 만료된 토큰을 제거하고, 정리 목표(최대 크기의 90%)까지 만료가 가장 가까운 토큰 제거
+        cache.put("token-10", claimsExpiringAt(now.get() + 2000));
+        cache.put("token-11", claimsExpiringAt(now.get() + 2000));
+
+        assertTrue(cache.stats().getSize() <= 10);
+        assertNull(cache.get("expired"));
+        assertNull(cache.get("token-1"));
+        assertNotNull(cache.get("token-9"));
+        assertNotNull(cache.get("token-11"));
+    }
+
+    @Test
+    @DisplayName("만료 시각이 없는 토큰은 캐시하지 않는지 테스트")
+    void put_WithoutExpiration_NotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, now::get);
+        cache.put("token", Jwts.claims().setSubject("1"));
+
+        assertNull(cache.get("token"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.sparta.outsourcing.domain.user.config.password;
+
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+    // 스레드 1개, 대기열 1개
+    private final ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1));
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(pool, 5000);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.shutdownNow();
+    }
+
+    private void occupy() {
+        CompletableFuture.runAsync(() -> executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+    }
+
+    @Test
+    @DisplayName("해시 스레드에서 실행한 결과를 반환하고, 작업의 예외는 그대로 전달하는지 테스트")
+    void execute_ReturnsResultAndPropagatesException() {
+        String threadName = executor.execute(() -> Thread.currentThread().getName());
+        assertNotEquals(Thread.currentThread().getName(), threadName);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> executor.execute(() -> {
+                    throw new IllegalArgumentException("invalid");
+                }));
+        assertEquals("invalid", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 503 으로 거절하는지 테스트")
+    void execute_QueueFull_RejectsImmediately() throws Exception {
+        occupy(); // 실행 중
+        while (pool.getActiveCount() == 0) {
+            Thread.sleep(1);
+        }
+        occupy(); // 대기열
+        while (pool.getQueue().isEmpty()) {
+            Thread.sleep(1);
+        }
+
+        long start = System.nanoTime();
+        ApplicationException exception = assertThrows(ApplicationException.class, () -> executor.execute(() -> "hash"));
+
+        assertEquals(ErrorCode.PASSWORD_HASHING_BUSY, exception.getErrorCode());
+        assertEquals(503, exception.getHttpStatus().value());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘으면 503 으로 응답하고 대기 중인 작업은 실행되지 않는지 테스트")
+    void execute_Timeout_CancelsQueuedTask() throws Exception {
+        PasswordHashingExecutor shortTimeout = new PasswordHashingExecutor(pool, 50);
+        occupy();
+        while (pool.getActiveCount() == 0) {
+            Thread.sleep(1);
+        }
+
+        boolean[] executed = {false};
+        assertThrows(ApplicationException.class, () -> shortTimeout.execute(() -> executed[0] = true));
+
+        release.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(1, TimeUnit.SECONDS));
+        assertFalse(executed[0]);
+    }
+}
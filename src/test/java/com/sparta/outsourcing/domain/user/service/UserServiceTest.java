@@ -1,15 +1,22 @@
 package com.sparta.outsourcing.domain.user.service;
 
+import com.sparta.outsourcing.domain.user.config.auth.AuthRateLimiter;
 import com.sparta.outsourcing.domain.user.config.auth.JwtUtil;
+import com.sparta.outsourcing.domain.user.config.auth.RegisteredEmails;
+import com.sparta.outsourcing.domain.user.config.auth.TokenRevocationList;
 import com.sparta.outsourcing.domain.user.config.password.PasswordEncoder;
+import com.sparta.outsourcing.domain.user.dto.UserCredentialDto;
 import com.sparta.outsourcing.domain.user.entity.User;
 import com.sparta.outsourcing.domain.user.enums.UserRole;
 import com.sparta.outsourcing.domain.user.repository.UserRepository;
+import com.sparta.outsourcing.exception.ApplicationException;
+import com.sparta.outsourcing.exception.ErrorCode;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -17,6 +24,11 @@ import static org.mockito.ArgumentMatchers.any;
 import java.util.Optional;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
@@ -27,6 +39,12 @@ public class UserServiceTest {
     PasswordEncoder passwordEncoder;
     @Mock
     JwtUtil jwtUtil;
+    @Mock
+    TokenRevocationList tokenRevocationList;
+    @Mock
+    AuthRateLimiter authRateLimiter;
+    @Mock
+    RegisteredEmails registeredEmails;
     @InjectMocks
     UserService userService;
 
@@ -36,9 +54,7 @@ public class UserServiceTest {
         String password = "password";
         String encodedPassword = passwordEncoder.encode(password);
 
-        //공통
-        given(userRepository.findByEmailAndDeletedFalse(email)).willReturn(Optional.empty());
-        given(userRepository.findByEmailAndDeletedTrue(email)).willReturn(Optional.empty());
+        //공통 (Bloom filter 에 없는 이메일)
         given(passwordEncoder.encode(password)).willReturn(encodedPassword);
 
         // 사용자 권한이 USER 일때
@@ -65,6 +81,8 @@ public class UserServiceTest {
 
         //then
         assertEquals("token", OwnerSignup);
+        verify(userRepository, never()).findCredentialByEmail(any());
+        verify(registeredEmails, times(2)).add(email);
     }
 
     @Test
@@ -73,9 +91,10 @@ public class UserServiceTest {
         String password = "password";
         String encodedPassword = passwordEncoder.encode(password);
         UserRole userRoleUser = UserRole.USER;
-        User user = new User(email, encodedPassword, userRoleUser);
+        UserCredentialDto user = new UserCredentialDto(1L, false, encodedPassword, userRoleUser);
 
-        given(userRepository.findByEmailAndDeletedFalse(email)).willReturn(Optional.of(user));
+        given(registeredEmails.mightBeRegistered(email)).willReturn(true);
+        given(userRepository.findCredentialByEmail(email)).willReturn(Optional.of(user));
 
         assertThrows(IllegalArgumentException.class, () -> userService.signUp(email, password, userRoleUser));
     }
@@ -86,13 +105,31 @@ public class UserServiceTest {
         String password = "password";
         String encodedPassword = passwordEncoder.encode(password);
         UserRole userRoleUser = UserRole.USER;
-        User user = new User(email, encodedPassword, userRoleUser);
+        UserCredentialDto user = new UserCredentialDto(1L, true, encodedPassword, userRoleUser);
 
-        given(userRepository.findByEmailAndDeletedTrue(email)).willReturn(Optional.of(user));
+        given(registeredEmails.mightBeRegistered(email)).willReturn(true);
+        given(userRepository.findCredentialByEmail(email)).willReturn(Optional.of(user));
 
         assertThrows(IllegalArgumentException.class, () -> userService.signUp(email, password, userRoleUser));
     }
 
+    @Test
+    void 동시_가입_유니크_제약_위반(){
+        String email = "test@test.com";
+        String password = "password";
+        UserRole userRoleUser = UserRole.USER;
+        UserCredentialDto user = new UserCredentialDto(1L, false, "encoded", userRoleUser);
+
+        // Bloom filter 에 없어 조회를 생략했지만 다른 요청이 먼저 가입한 경우
+        given(passwordEncoder.encode(password)).willReturn("encoded");
+        given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("Duplicate entry"));
+        given(userRepository.findCredentialByEmail(email)).willReturn(Optional.of(user));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> userService.signUp(email, password, userRoleUser));
+        assertEquals("이미 가입한 사용자 입니다.", exception.getMessage());
+        verify(registeredEmails, never()).add(email);
+    }
+
 
     @Test
     void 회원_로그인_성공(){
@@ -101,14 +138,14 @@ public class UserServiceTest {
         String encodedPassword = passwordEncoder.encode(password);
 
         // 사용자 권한 생성
-        User user = new User(email, encodedPassword, UserRole.USER);
-        User owner = new User(email, encodedPassword, UserRole.OWNER);
+        UserCredentialDto user = new UserCredentialDto(1L, false, encodedPassword, UserRole.USER);
+        UserCredentialDto owner = new UserCredentialDto(2L, false, encodedPassword, UserRole.OWNER);
 
         //공통
         given(passwordEncoder.matches(password, user.getPassword())).willReturn(true);
 
         // USER 권한
-        given(userRepository.findByEmailOrElseThrow(email)).willReturn(user);
+        given(userRepository.findCredentialByEmailOrElseThrow(email)).willReturn(user);
         given(jwtUtil.createToken(user.getId(), user.getUserRole())).willReturn("token");
 
         //when
@@ -118,7 +155,7 @@ public class UserServiceTest {
         assertEquals("token", userSignIn);
 
         // OWNER 권한
-        given(userRepository.findByEmailOrElseThrow(email)).willReturn(owner);
+        given(userRepository.findCredentialByEmailOrElseThrow(email)).willReturn(owner);
         given(jwtUtil.createToken(owner.getId(), owner.getUserRole())).willReturn("token");
 
         //when
@@ -133,10 +170,9 @@ public class UserServiceTest {
         String email = "test@test.com";
         String password = "password";
         String encodedPassword = passwordEncoder.encode(password);
-        User user = new User(email, encodedPassword, UserRole.USER);
-        user.deleted();
+        UserCredentialDto user = new UserCredentialDto(1L, true, encodedPassword, UserRole.USER);
 
-        given(userRepository.findByEmailOrElseThrow(email)).willReturn(user);
+        given(userRepository.findCredentialByEmailOrElseThrow(email)).willReturn(user);
 
         assertThrows(IllegalArgumentException.class, () -> userService.signIn(email, password));
     }
@@ -146,14 +182,26 @@ public class UserServiceTest {
         String email = "test@test.com";
         String password = "password";
         String encodedPassword = passwordEncoder.encode(password);
-        User user = new User(email, encodedPassword, UserRole.USER);
+        UserCredentialDto user = new UserCredentialDto(1L, false, encodedPassword, UserRole.USER);
 
-        given(userRepository.findByEmailOrElseThrow(email)).willReturn(user);
+        given(userRepository.findCredentialByEmailOrElseThrow(email)).willReturn(user);
         given(passwordEncoder.matches(password, user.getPassword())).willReturn(false);
 
         assertThrows(IllegalArgumentException.class, () -> userService.signIn(email, password));
     }
 
+    @Test
+    void 로그인_요청_횟수_초과(){
+        String email = "test@test.com";
+        String password = "password";
+
+        willThrow(new ApplicationException(ErrorCode.TOO_MANY_AUTH_REQUESTS)).given(authRateLimiter).checkEmail(email);
+
+        ApplicationException exception = assertThrows(ApplicationException.class, () -> userService.signIn(email, password));
+        assertEquals(ErrorCode.TOO_MANY_AUTH_REQUESTS, exception.getErrorCode());
+        verifyNoInteractions(userRepository, passwordEncoder);
+    }
+
     @Test
     void 회원_탈퇴_성공(){
         Long userId = 1L;
@@ -170,6 +218,7 @@ public class UserServiceTest {
 
         //then
         assertTrue(user.isDeleted());
+        verify(tokenRevocationList).revokeTokensIssuedBefore(any(), any());
     }
 
     @Test